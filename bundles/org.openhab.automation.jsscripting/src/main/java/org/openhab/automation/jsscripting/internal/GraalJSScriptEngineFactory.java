@@ -14,6 +14,7 @@ package org.openhab.automation.jsscripting.internal;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -33,6 +34,8 @@ import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.oracle.truffle.js.scriptengine.GraalJSEngineFactory;
 
@@ -55,6 +58,7 @@ public final class GraalJSScriptEngineFactory implements ScriptEngineFactory {
 
     private static final String CFG_INJECTION_ENABLED = "injectionEnabled";
     private static final String CFG_INJECTION_CACHING_ENABLED = "injectionCachingEnabled";
+    private static final String CFG_EVENT_LOOP_ENABLED = "eventLoopEnabled";
 
     private static final GraalJSEngineFactory factory = new GraalJSEngineFactory();
 
@@ -67,8 +71,11 @@ public final class GraalJSScriptEngineFactory implements ScriptEngineFactory {
                 .flatMap(List::stream).distinct().toList();
     }
 
+    private final Logger logger = LoggerFactory.getLogger(GraalJSScriptEngineFactory.class);
+
     private boolean injectionEnabled = true;
     private boolean injectionCachingEnabled = true;
+    private boolean eventLoopEnabled = false;
 
     private final JSScriptServiceUtil jsScriptServiceUtil;
     private final JSDependencyTracker jsDependencyTracker;
@@ -79,6 +86,7 @@ public final class GraalJSScriptEngineFactory implements ScriptEngineFactory {
         this.jsDependencyTracker = jsDependencyTracker;
         this.jsScriptServiceUtil = jsScriptServiceUtil;
         modified(config);
+        jsScriptServiceUtil.getScheduler().after(this::warmUp, Duration.ZERO);
     }
 
     @Override
@@ -97,7 +105,7 @@ public final class GraalJSScriptEngineFactory implements ScriptEngineFactory {
             return null;
         }
         return new DebuggingGraalScriptEngine<>(new OpenhabGraalJSScriptEngine(injectionEnabled,
-                injectionCachingEnabled, jsScriptServiceUtil, jsDependencyTracker));
+                injectionCachingEnabled, eventLoopEnabled, jsScriptServiceUtil, jsDependencyTracker));
     }
 
     @Override
@@ -105,10 +113,25 @@ public final class GraalJSScriptEngineFactory implements ScriptEngineFactory {
         return jsDependencyTracker;
     }
 
+    /**
+     * Warms up the shared polyglot engine in the background, so that scripts loaded at startup do not have to parse the
+     * global script and the openhab-js injection first.
+     */
+    private @Nullable Void warmUp() {
+        try {
+            new OpenhabGraalJSScriptEngine(injectionEnabled, injectionCachingEnabled, false, jsScriptServiceUtil,
+                    jsDependencyTracker).warmUp();
+        } catch (RuntimeException e) {
+            logger.warn("Failed to warm up GraalJS script engine: {}", e.getMessage());
+        }
+        return null;
+    }
+
     @Modified
     protected void modified(Map<String, ?> config) {
         this.injectionEnabled = ConfigParser.valueAsOrElse(config.get(CFG_INJECTION_ENABLED), Boolean.class, true);
         this.injectionCachingEnabled = ConfigParser.valueAsOrElse(config.get(CFG_INJECTION_CACHING_ENABLED),
                 Boolean.class, true);
+        this.eventLoopEnabled = ConfigParser.valueAsOrElse(config.get(CFG_EVENT_LOOP_ENABLED), Boolean.class, false);
     }
 }
@@ -17,6 +17,8 @@ import java.util.Map;
 import java.util.concurrent.locks.Lock;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.automation.jsscripting.internal.threading.ScriptEventLoop;
 import org.openhab.automation.jsscripting.internal.threading.ThreadsafeTimers;
 
 /**
@@ -31,10 +33,12 @@ public class JSRuntimeFeatures {
      */
     private final Map<String, Object> features = new HashMap<>();
     public final ThreadsafeTimers threadsafeTimers;
+    public final @Nullable ScriptEventLoop eventLoop;
 
-    JSRuntimeFeatures(Lock lock, JSScriptServiceUtil jsScriptServiceUtil) {
+    JSRuntimeFeatures(Lock lock, JSScriptServiceUtil jsScriptServiceUtil, boolean eventLoopEnabled) {
+        this.eventLoop = eventLoopEnabled ? new ScriptEventLoop(lock) : null;
         this.threadsafeTimers = new ThreadsafeTimers(lock, jsScriptServiceUtil.getScriptExecution(),
-                jsScriptServiceUtil.getScheduler());
+                jsScriptServiceUtil.getScheduler(), eventLoop);
 
         features.put("ThreadsafeTimers", threadsafeTimers);
     }
@@ -54,5 +58,9 @@ public class JSRuntimeFeatures {
      */
     public void close() {
         threadsafeTimers.clearAll();
+        ScriptEventLoop localEventLoop = eventLoop;
+        if (localEventLoop != null) {
+            localEventLoop.close();
+        }
     }
 }
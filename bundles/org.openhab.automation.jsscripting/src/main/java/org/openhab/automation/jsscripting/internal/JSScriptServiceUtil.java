@@ -47,6 +47,10 @@ public class JSScriptServiceUtil {
     }
 
     public JSRuntimeFeatures getJSRuntimeFeatures(Lock lock) {
-        return new JSRuntimeFeatures(lock, this);
+        return getJSRuntimeFeatures(lock, false);
+    }
+
+    public JSRuntimeFeatures getJSRuntimeFeatures(Lock lock, boolean eventLoopEnabled) {
+        return new JSRuntimeFeatures(lock, this, eventLoopEnabled);
     }
 }
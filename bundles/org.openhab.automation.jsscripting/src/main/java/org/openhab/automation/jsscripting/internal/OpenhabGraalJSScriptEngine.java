@@ -49,10 +49,12 @@ import org.graalvm.polyglot.Source;
 import org.graalvm.polyglot.Value;
 import org.graalvm.polyglot.io.IOAccess;
 import org.openhab.automation.jsscripting.internal.fs.DelegatingFileSystem;
+import org.openhab.automation.jsscripting.internal.fs.ModuleCache;
 import org.openhab.automation.jsscripting.internal.fs.PrefixedSeekableByteChannel;
 import org.openhab.automation.jsscripting.internal.fs.ReadOnlySeekableByteArrayChannel;
 import org.openhab.automation.jsscripting.internal.fs.watch.JSDependencyTracker;
 import org.openhab.automation.jsscripting.internal.scriptengine.InvocationInterceptingScriptEngineWithInvocableAndCompilableAndAutoCloseable;
+import org.openhab.automation.jsscripting.internal.threading.ScriptEventLoop;
 import org.openhab.core.automation.module.script.ScriptExtensionAccessor;
 import org.openhab.core.items.Item;
 import org.openhab.core.library.types.QuantityType;
@@ -103,6 +105,8 @@ public class OpenhabGraalJSScriptEngine
     /** Shared Polyglot {@link Engine} across all instances of {@link OpenhabGraalJSScriptEngine} */
     private static final Engine ENGINE = Engine.newBuilder().allowExperimentalOptions(true)
             .option("engine.WarnInterpreterOnly", "false").build();
+    /** Content of the CommonJS modules, shared across all instances of {@link OpenhabGraalJSScriptEngine} */
+    private static final ModuleCache MODULE_CACHE = new ModuleCache();
     /** Provides unlimited host access as well as custom translations from JS to Java Objects */
     private static final HostAccess HOST_ACCESS = HostAccess.newBuilder(HostAccess.ALL)
             // Translate JS-Joda ZonedDateTime to java.time.ZonedDateTime
@@ -151,11 +155,12 @@ public class OpenhabGraalJSScriptEngine
      * that tracks the script lifecycle and provides hooks for scripts to do so too.
      */
     public OpenhabGraalJSScriptEngine(boolean injectionEnabled, boolean injectionCachingEnabled,
-            JSScriptServiceUtil jsScriptServiceUtil, JSDependencyTracker jsDependencyTracker) {
+            boolean eventLoopEnabled, JSScriptServiceUtil jsScriptServiceUtil,
+            JSDependencyTracker jsDependencyTracker) {
         super(null); // delegate depends on fields not yet initialised, so we cannot set it immediately
         this.injectionEnabled = injectionEnabled;
         this.injectionCachingEnabled = injectionCachingEnabled;
-        this.jsRuntimeFeatures = jsScriptServiceUtil.getJSRuntimeFeatures(lock);
+        this.jsRuntimeFeatures = jsScriptServiceUtil.getJSRuntimeFeatures(lock, eventLoopEnabled);
 
         delegate = GraalJSScriptEngine.create(ENGINE, Context.newBuilder("js") //
                 .allowIO(IOAccess.newBuilder() //
@@ -169,16 +174,10 @@ public class OpenhabGraalJSScriptEngine
                                 }
 
                                 if (path.toString().endsWith(".js")) {
-                                    SeekableByteChannel sbc = null;
-                                    if (isRootNodePath(path)) {
-                                        InputStream is = getClass().getResourceAsStream(nodeFileToResource(path));
-                                        if (is == null) {
-                                            throw new IOException("Could not read " + path);
-                                        }
-                                        sbc = new ReadOnlySeekableByteArrayChannel(is.readAllBytes());
-                                    } else {
-                                        sbc = super.newByteChannel(path, options, attrs);
-                                    }
+                                    byte[] content = isRootNodePath(path)
+                                            ? MODULE_CACHE.getResource(nodeFileToResource(path))
+                                            : MODULE_CACHE.getFile(path);
+                                    SeekableByteChannel sbc = new ReadOnlySeekableByteArrayChannel(content);
                                     return new PrefixedSeekableByteChannel(
                                             ("require=" + REQUIRE_WRAPPER_NAME + "(require);").getBytes(), sbc);
                                 } else {
@@ -330,9 +329,31 @@ public class OpenhabGraalJSScriptEngine
 
     @Override
     public void close() {
+        ScriptEventLoop eventLoop = jsRuntimeFeatures.eventLoop;
+        if (eventLoop != null) {
+            logger.debug("Closing script engine {}: {}", engineIdentifier, eventLoop);
+        }
         jsRuntimeFeatures.close();
     }
 
+    /**
+     * Parses the cached global script and openhab-js injection without evaluating them, so that the shared polyglot
+     * {@link Engine} already holds their parsed code when the first scripts are loaded. Closes this engine afterwards.
+     */
+    void warmUp() {
+        try {
+            Context context = delegate.getPolyglotContext();
+            context.parse(GLOBAL_SOURCE);
+            if (injectionEnabled && injectionCachingEnabled) {
+                context.parse(OPENHAB_JS_SOURCE);
+            }
+            logger.debug("Successfully warmed up GraalJS script engine.");
+        } finally {
+            close();
+            delegate.close();
+        }
+    }
+
     /**
      * Tests if this is a root node directory, `/node_modules`, `C:\node_modules`, etc...
      *
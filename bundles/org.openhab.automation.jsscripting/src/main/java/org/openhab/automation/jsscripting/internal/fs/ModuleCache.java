@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal.fs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Cache for the content of CommonJS modules, shared by all script engines.
+ *
+ * Every script engine has its own context, which loads the modules it requires on its own. Caching their content
+ * gives every script the same content for a module. As the content is the same, so are the sources GraalJS creates
+ * from it, which lets the shared polyglot engine reuse the already parsed code of the modules.
+ *
+ * Modules included in the add-on never change and are read only once. Files are read on each access and compared with
+ * the cached content, as an edit can keep both the size and the modification time of a file. The cache is bounded: if
+ * it is full, it is cleared before a new module is added.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+public class ModuleCache {
+
+    private static final int MAX_CACHED_MODULES = 500;
+
+    private final Map<String, byte[]> modules = new ConcurrentHashMap<>();
+    private final int maxCachedModules;
+
+    public ModuleCache() {
+        this(MAX_CACHED_MODULES);
+    }
+
+    /**
+     * @param maxCachedModules the maximum number of modules kept in the cache
+     */
+    ModuleCache(int maxCachedModules) {
+        this.maxCachedModules = maxCachedModules;
+    }
+
+    /**
+     * Get the content of a module included in the add-on.
+     *
+     * @param resource the class resource path of the module, e.g. /node_modules/foo.js
+     * @return the content of the module
+     * @throws IOException if the module cannot be read
+     */
+    public byte[] getResource(String resource) throws IOException {
+        byte[] content = modules.get(resource);
+        if (content == null) {
+            try (InputStream is = ModuleCache.class.getResourceAsStream(resource)) {
+                if (is == null) {
+                    throw new IOException("Could not read " + resource);
+                }
+                content = is.readAllBytes();
+            }
+            put(resource, content);
+        }
+        return content;
+    }
+
+    /**
+     * Get the content of a module from the file system.
+     *
+     * @param path the path of the module
+     * @return the content of the module, the cached instance if the content did not change
+     * @throws IOException if the module cannot be read
+     */
+    public byte[] getFile(Path path) throws IOException {
+        byte[] content = Files.readAllBytes(path);
+        String key = path.toString();
+        byte[] cached = modules.get(key);
+        if (cached != null && Arrays.equals(cached, content)) {
+            return cached;
+        }
+        put(key, content);
+        return content;
+    }
+
+    private void put(String key, byte[] content) {
+        if (modules.size() >= maxCachedModules) {
+            modules.clear();
+        }
+        modules.put(key, content);
+    }
+
+    /**
+     * @return the number of cached modules
+     */
+    int size() {
+        return modules.size();
+    }
+}
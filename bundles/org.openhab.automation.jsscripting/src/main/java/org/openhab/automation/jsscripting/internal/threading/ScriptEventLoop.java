@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal.threading;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A queue of callbacks into a single-threaded GraalJS context, which are run one after the other.
+ *
+ * Without it, every thread that wants to run a callback (e.g. a timer that expired) waits for the lock of the context,
+ * so a long-running script execution piles up threads on the lock. With it, the callbacks are queued instead: the
+ * first thread that finds the queue idle runs the queued callbacks (holding the lock while running each of them), all
+ * other threads return right away.
+ *
+ * A callback can be queued with a key, e.g. the id of an interval: if a callback with the same key is still waiting in
+ * the queue, the new one is dropped. So a script that blocks for longer than the delay of its interval does not pile up
+ * ticks which then run back-to-back.
+ *
+ * The queue depth, the time callbacks wait in the queue and the number of dropped callbacks are tracked per script.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+public class ScriptEventLoop {
+    private final Logger logger = LoggerFactory.getLogger(ScriptEventLoop.class);
+
+    private final Lock lock;
+
+    // guarded by this
+    private final Queue<QueuedCallback> queue = new ArrayDeque<>();
+    private final Set<Object> queuedKeys = new HashSet<>();
+    private boolean running;
+    private boolean closed;
+    private int maxQueueDepth;
+    private long executedCount;
+    private long totalLatencyNanos;
+    private long maxLatencyNanos;
+    private long droppedCount;
+
+    private record QueuedCallback(Runnable callback, @Nullable Object key, long queuedNanos) {
+    }
+
+    /**
+     * @param lock the lock of the script context
+     */
+    public ScriptEventLoop(Lock lock) {
+        this.lock = lock;
+    }
+
+    /**
+     * Queue a callback, and run the queued callbacks on the calling thread if no other thread is running them.
+     *
+     * @param callback the callback to run with the lock of the script context held
+     */
+    public void execute(Runnable callback) {
+        execute(callback, null);
+    }
+
+    /**
+     * Queue a callback, and run the queued callbacks on the calling thread if no other thread is running them.
+     *
+     * @param callback the callback to run with the lock of the script context held
+     * @param key if not <code>null</code>, the callback is dropped if a callback with the same key is waiting in the
+     *            queue
+     * @return false if the callback was dropped
+     */
+    public boolean execute(Runnable callback, @Nullable Object key) {
+        synchronized (this) {
+            if (closed) {
+                logger.debug("Discarding callback, the script has been unloaded");
+                return true;
+            }
+            if (key != null && !queuedKeys.add(key)) {
+                droppedCount++;
+                return false;
+            }
+            queue.add(new QueuedCallback(callback, key, System.nanoTime()));
+            maxQueueDepth = Math.max(maxQueueDepth, queue.size());
+            if (running) {
+                return true;
+            }
+            running = true;
+        }
+        runQueuedCallbacks();
+        return true;
+    }
+
+    /**
+     * Discard all queued callbacks, and do not accept new ones.
+     */
+    public synchronized void close() {
+        closed = true;
+        queue.clear();
+        queuedKeys.clear();
+    }
+
+    /**
+     * @return the number of callbacks waiting in the queue
+     */
+    public synchronized int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * @return the highest number of callbacks that were waiting in the queue at the same time
+     */
+    public synchronized int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    /**
+     * @return the number of callbacks that were run
+     */
+    public synchronized long getExecutedCount() {
+        return executedCount;
+    }
+
+    /**
+     * @return the average time callbacks waited in the queue before they were run, in milliseconds
+     */
+    public synchronized long getAverageLatencyMillis() {
+        return executedCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLatencyNanos / executedCount);
+    }
+
+    /**
+     * @return the longest time a callback waited in the queue before it was run, in milliseconds
+     */
+    public synchronized long getMaxLatencyMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos);
+    }
+
+    /**
+     * @return the number of callbacks that were dropped because a callback with the same key was waiting in the queue
+     */
+    public synchronized long getDroppedCount() {
+        return droppedCount;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ScriptEventLoop [executed=" + executedCount + ", queueDepth=" + queue.size() + ", maxQueueDepth="
+                + maxQueueDepth + ", averageLatency=" + getAverageLatencyMillis() + "ms, maxLatency="
+                + getMaxLatencyMillis() + "ms, dropped=" + droppedCount + "]";
+    }
+
+    private void runQueuedCallbacks() {
+        while (true) {
+            QueuedCallback queued = next();
+            if (queued == null) {
+                return;
+            }
+            lock.lock();
+            logger.debug("Lock acquired before queued callback execution");
+            try {
+                synchronized (this) {
+                    long latencyNanos = System.nanoTime() - queued.queuedNanos();
+                    executedCount++;
+                    totalLatencyNanos += latencyNanos;
+                    maxLatencyNanos = Math.max(maxLatencyNanos, latencyNanos);
+                }
+                queued.callback().run();
+            } catch (RuntimeException e) {
+                // do not stop running the other callbacks
+                logger.warn("Failed to execute queued callback: {}", e.getMessage(), e);
+            } finally { // Make sure that Lock is unlocked regardless of an exception being thrown or not to avoid
+                        // deadlocks
+                lock.unlock();
+                logger.debug("Lock released after queued callback execution");
+            }
+        }
+    }
+
+    private synchronized @Nullable QueuedCallback next() {
+        QueuedCallback queued = closed ? null : queue.poll();
+        if (queued == null) {
+            running = false;
+        } else {
+            Object key = queued.key();
+            if (key != null) {
+                // a callback with the same key can be queued again while this one is running
+                queuedKeys.remove(key);
+            }
+        }
+        return queued;
+    }
+}
@@ -43,15 +43,29 @@ public class ThreadsafeTimers {
     private final Lock lock;
     private final Scheduler scheduler;
     private final ScriptExecution scriptExecution;
+    private final @Nullable ScriptEventLoop eventLoop;
     // Mapping of positive, non-zero integer values (used as timeoutID or intervalID) and the Scheduler
     private final Map<Long, ScheduledCompletableFuture<Object>> idSchedulerMapping = new ConcurrentHashMap<>();
     private AtomicLong lastId = new AtomicLong();
     private String identifier = "javascript";
 
     public ThreadsafeTimers(Lock lock, ScriptExecution scriptExecution, Scheduler scheduler) {
+        this(lock, scriptExecution, scheduler, null);
+    }
+
+    /**
+     * @param lock the lock of the script context
+     * @param scriptExecution the script execution service
+     * @param scheduler the scheduler
+     * @param eventLoop if not <code>null</code>, callbacks are queued to this event loop instead of waiting for the
+     *            lock
+     */
+    public ThreadsafeTimers(Lock lock, ScriptExecution scriptExecution, Scheduler scheduler,
+            @Nullable ScriptEventLoop eventLoop) {
         this.lock = lock;
         this.scheduler = scheduler;
         this.scriptExecution = scriptExecution;
+        this.eventLoop = eventLoop;
     }
 
     /**
@@ -83,17 +97,7 @@ public class ThreadsafeTimers {
      * @return a handle to the created timer, so that it can be canceled or rescheduled
      */
     public Timer createTimer(@Nullable String identifier, ZonedDateTime instant, Runnable closure) {
-        return scriptExecution.createTimer(identifier, instant, () -> {
-            lock.lock();
-            logger.debug("Lock acquired before timer execution");
-            try {
-                closure.run();
-            } finally { // Make sure that Lock is unlocked regardless of an exception being thrown or not to avoid
-                        // deadlocks
-                lock.unlock();
-                logger.debug("Lock released after timer execution");
-            }
-        });
+        return scriptExecution.createTimer(identifier, instant, () -> execute("timer", closure));
     }
 
     /**
@@ -107,18 +111,10 @@ public class ThreadsafeTimers {
      */
     public long setTimeout(Runnable callback, long delay) {
         long id = lastId.incrementAndGet();
-        ScheduledCompletableFuture<Object> future = scheduler.schedule(() -> {
-            lock.lock();
-            logger.debug("Lock acquired before timeout execution");
-            try {
-                callback.run();
-                idSchedulerMapping.remove(id);
-            } finally { // Make sure that Lock is unlocked regardless of an exception being thrown or not to avoid
-                        // deadlocks
-                lock.unlock();
-                logger.debug("Lock released after timeout execution");
-            }
-        }, identifier + ".timeout." + id, Instant.now().plusMillis(delay));
+        ScheduledCompletableFuture<Object> future = scheduler.schedule(() -> execute("timeout", () -> {
+            callback.run();
+            idSchedulerMapping.remove(id);
+        }), identifier + ".timeout." + id, Instant.now().plusMillis(delay));
         idSchedulerMapping.put(id, future);
         return id;
     }
@@ -152,17 +148,8 @@ public class ThreadsafeTimers {
      */
     public long setInterval(Runnable callback, long delay) {
         long id = lastId.incrementAndGet();
-        ScheduledCompletableFuture<Object> future = scheduler.schedule(() -> {
-            lock.lock();
-            logger.debug("Lock acquired before interval execution");
-            try {
-                callback.run();
-            } finally { // Make sure that Lock is unlocked regardless of an exception being thrown or not to avoid
-                        // deadlocks
-                lock.unlock();
-                logger.debug("Lock released after interval execution");
-            }
-        }, identifier + ".interval." + id, new LoopingAdjuster(Duration.ofMillis(delay)));
+        ScheduledCompletableFuture<Object> future = scheduler.schedule(() -> executeInterval(id, callback),
+                identifier + ".interval." + id, new LoopingAdjuster(Duration.ofMillis(delay)));
         idSchedulerMapping.put(id, future);
         return id;
     }
@@ -194,6 +181,46 @@ public class ThreadsafeTimers {
         idSchedulerMapping.clear();
     }
 
+    /**
+     * Runs a callback with the lock of the script context held, or queues it to the event loop if there is one.
+     *
+     * @param type the type of the callback, for logging
+     * @param callback the callback to run
+     */
+    private void execute(String type, Runnable callback) {
+        ScriptEventLoop localEventLoop = eventLoop;
+        if (localEventLoop != null) {
+            localEventLoop.execute(callback);
+            return;
+        }
+        lock.lock();
+        logger.debug("Lock acquired before {} execution", type);
+        try {
+            callback.run();
+        } finally { // Make sure that Lock is unlocked regardless of an exception being thrown or not to avoid
+                    // deadlocks
+            lock.unlock();
+            logger.debug("Lock released after {} execution", type);
+        }
+    }
+
+    /**
+     * Runs a tick of an interval like {@link #execute(String, Runnable)}, but drops it if the previous tick of the same
+     * interval is still waiting in the queue of the event loop.
+     *
+     * @param id the id of the interval
+     * @param callback the callback of the interval
+     */
+    private void executeInterval(long id, Runnable callback) {
+        ScriptEventLoop localEventLoop = eventLoop;
+        if (localEventLoop == null) {
+            execute("interval", callback);
+        } else if (!localEventLoop.execute(callback, id)) {
+            logger.warn("Skipping tick of interval {} of script '{}', its previous tick is still waiting to be run", id,
+                    identifier);
+        }
+    }
+
     /**
      * This is a temporal adjuster that takes a single delay.
      * This adjuster makes the scheduler run as a fixed rate scheduler from the first time adjustInto was called.
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.automation.jsscripting.internal.fs.watch.JSDependencyTracker;
+import org.openhab.core.scheduler.Scheduler;
+
+/**
+ * Tests for {@link GraalJSScriptEngineFactory}.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+public class GraalJSScriptEngineFactoryTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void warmUpIsScheduledOnActivation() {
+        Scheduler scheduler = mock(Scheduler.class);
+        JSScriptServiceUtil jsScriptServiceUtil = mock(JSScriptServiceUtil.class);
+        when(jsScriptServiceUtil.getScheduler()).thenReturn(scheduler);
+
+        new GraalJSScriptEngineFactory(jsScriptServiceUtil, mock(JSDependencyTracker.class), Map.of());
+
+        // the warm-up runs in the background and does not delay the activation
+        verify(scheduler).after(any(Callable.class), eq(Duration.ZERO));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal.fs;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link ModuleCache}.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+public class ModuleCacheTest {
+    private static final String RESOURCE = "/" + ModuleCache.class.getName().replace('.', '/') + ".class";
+    private static final FileTime MODIFIED = FileTime.fromMillis(1_700_000_000_000L);
+
+    private @TempDir @NonNullByDefault({}) Path folder;
+
+    @Test
+    public void unchangedFileIsReadFromCache() throws IOException {
+        ModuleCache cache = new ModuleCache();
+        Path module = write("module.js", "exports.a = 1;");
+        byte[] content = cache.getFile(module);
+
+        Files.setLastModifiedTime(module, FileTime.fromMillis(MODIFIED.toMillis() + 1000));
+        assertSame(content, cache.getFile(module));
+    }
+
+    @Test
+    public void fileIsReadAgainIfContentChanged() throws IOException {
+        ModuleCache cache = new ModuleCache();
+        Path module = write("module.js", "exports.a = 1;");
+        byte[] content = cache.getFile(module);
+
+        // same modification time and size
+        write("module.js", "exports.a = 2;");
+        byte[] changed = cache.getFile(module);
+        assertEquals("exports.a = 2;", new String(changed, StandardCharsets.UTF_8));
+        assertNotSame(content, changed);
+        assertSame(changed, cache.getFile(module));
+    }
+
+    @Test
+    public void fileIsReadAgainIfSizeChanged() throws IOException {
+        ModuleCache cache = new ModuleCache();
+        Path module = write("module.js", "exports.a = 1;");
+        cache.getFile(module);
+
+        write("module.js", "exports.a = 10;");
+        assertEquals("exports.a = 10;", new String(cache.getFile(module), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void missingFileIsReported() {
+        assertThrows(NoSuchFileException.class, () -> new ModuleCache().getFile(folder.resolve("missing.js")));
+    }
+
+    @Test
+    public void resourceIsReadFromCache() throws IOException {
+        ModuleCache cache = new ModuleCache();
+        byte[] content = cache.getResource(RESOURCE);
+
+        assertTrue(content.length > 0);
+        assertSame(content, cache.getResource(RESOURCE));
+        assertThrows(IOException.class, () -> cache.getResource("/node_modules/missing.js"));
+    }
+
+    @Test
+    public void cacheIsBounded() throws IOException {
+        ModuleCache cache = new ModuleCache(2);
+        cache.getFile(write("a.js", "a"));
+        cache.getFile(write("b.js", "b"));
+        assertEquals(2, cache.size());
+
+        Path module = write("c.js", "c");
+        byte[] content = cache.getFile(module);
+        assertTrue(cache.size() <= 2);
+        assertSame(content, cache.getFile(module));
+    }
+
+    private Path write(String name, String content) throws IOException {
+        Path path = folder.resolve(name);
+        Files.writeString(path, content);
+        Files.setLastModifiedTime(path, MODIFIED);
+        return path;
+    }
+}
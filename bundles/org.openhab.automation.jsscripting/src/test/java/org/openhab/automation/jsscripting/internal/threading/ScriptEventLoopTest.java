@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal.threading;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ScriptEventLoop}.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+public class ScriptEventLoopTest {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ScriptEventLoop eventLoop = new ScriptEventLoop(lock);
+    private final List<String> executed = new CopyOnWriteArrayList<>();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Test
+    public void callbacksAreRunInOrderWithTheLockHeld() throws InterruptedException {
+        Thread runner = startBlockingCallback();
+        eventLoop.execute(() -> record("second"));
+        eventLoop.execute(() -> record("third"));
+        assertEquals(2, eventLoop.getQueueDepth());
+
+        finish(runner);
+
+        assertEquals(List.of("blocking", "second", "third"), executed);
+        assertEquals(3, eventLoop.getExecutedCount());
+        assertEquals(2, eventLoop.getMaxQueueDepth());
+    }
+
+    @Test
+    public void failingCallbackDoesNotStopOtherCallbacks() throws InterruptedException {
+        Thread runner = startBlockingCallback();
+        eventLoop.execute(() -> {
+            throw new IllegalStateException("failure");
+        });
+        eventLoop.execute(() -> record("after failure"));
+
+        finish(runner);
+
+        assertEquals(List.of("blocking", "after failure"), executed);
+        assertFalse(lock.isLocked());
+
+        // the event loop is idle again and runs new callbacks on the calling thread
+        eventLoop.execute(() -> record("later"));
+        assertEquals(List.of("blocking", "after failure", "later"), executed);
+    }
+
+    @Test
+    public void intervalTickIsDroppedWhilePreviousTickIsQueued() throws InterruptedException {
+        Thread runner = startBlockingCallback();
+        assertTrue(eventLoop.execute(() -> record("interval 1"), 1L));
+        assertFalse(eventLoop.execute(() -> record("interval 1 again"), 1L));
+        assertTrue(eventLoop.execute(() -> record("interval 2"), 2L));
+
+        finish(runner);
+
+        assertEquals(List.of("blocking", "interval 1", "interval 2"), executed);
+        assertEquals(1, eventLoop.getDroppedCount());
+
+        // the tick is queued again once the previous one has been run
+        assertTrue(eventLoop.execute(() -> record("interval 1 later"), 1L));
+        assertEquals("interval 1 later", executed.get(executed.size() - 1));
+    }
+
+    @Test
+    public void callbacksAreDiscardedAfterClose() {
+        eventLoop.close();
+        eventLoop.execute(() -> record("closed"));
+
+        assertTrue(executed.isEmpty());
+        assertEquals(0, eventLoop.getQueueDepth());
+    }
+
+    /**
+     * Start a thread that runs a callback which blocks until {@link #release} is counted down, so callbacks executed
+     * in the meantime are queued.
+     */
+    private Thread startBlockingCallback() throws InterruptedException {
+        Thread runner = new Thread(() -> eventLoop.execute(() -> {
+            record("blocking");
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        runner.start();
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        return runner;
+    }
+
+    private void finish(Thread runner) throws InterruptedException {
+        release.countDown();
+        runner.join(10000);
+        assertFalse(runner.isAlive());
+    }
+
+    private void record(String name) {
+        assertTrue(lock.isHeldByCurrentThread());
+        executed.add(name);
+    }
+}
@@ -12,7 +12,10 @@
  */
 package org.openhab.binding.http.internal.http;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
@@ -23,6 +26,8 @@ import org.eclipse.jetty.client.api.Response;
 import org.eclipse.jetty.client.api.Result;
 import org.eclipse.jetty.client.util.BufferingResponseListener;
 import org.eclipse.jetty.http.HttpField;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.http.HttpStatus;
 import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
 import org.slf4j.Logger;
@@ -39,6 +44,12 @@ public class HttpResponseListener extends BufferingResponseListener {
     private final CompletableFuture<@Nullable ChannelHandlerContent> future;
     private final HttpStatusListener httpStatusListener;
     private final String fallbackEncoding;
+    private final int maxLength;
+    private final @Nullable ChannelHandlerContent notModifiedContent;
+
+    // content of a response with a known length, received without intermediate buffer
+    private byte @Nullable [] exactContent;
+    private int exactContentLength;
 
     /**
      * the HttpResponseListener is responsible
@@ -49,10 +60,68 @@ public class HttpResponseListener extends BufferingResponseListener {
      */
     public HttpResponseListener(CompletableFuture<@Nullable ChannelHandlerContent> future,
             @Nullable String fallbackEncoding, int bufferSize, HttpStatusListener httpStatusListener) {
+        this(future, fallbackEncoding, bufferSize, httpStatusListener, null);
+    }
+
+    /**
+     * the HttpResponseListener is responsible
+     *
+     * @param future Content future to complete with the result of the request
+     * @param fallbackEncoding a fallback encoding for the content (UTF-8 if null)
+     * @param bufferSize the buffer size for the content in kB (default 2048 kB)
+     * @param notModifiedContent the content to complete the future with if the server answers a conditional request
+     *            with 304 (Not Modified), null if the request is not a conditional request
+     */
+    public HttpResponseListener(CompletableFuture<@Nullable ChannelHandlerContent> future,
+            @Nullable String fallbackEncoding, int bufferSize, HttpStatusListener httpStatusListener,
+            @Nullable ChannelHandlerContent notModifiedContent) {
         super(bufferSize * 1024);
         this.future = future;
         this.fallbackEncoding = fallbackEncoding != null ? fallbackEncoding : StandardCharsets.UTF_8.name();
         this.httpStatusListener = httpStatusListener;
+        this.maxLength = bufferSize * 1024;
+        this.notModifiedContent = notModifiedContent;
+    }
+
+    @Override
+    public void onHeaders(@NonNullByDefault({}) Response response) {
+        super.onHeaders(response);
+        exactContent = null;
+        exactContentLength = 0;
+        long length = response.getHeaders().getLongField(HttpHeader.CONTENT_LENGTH.asString());
+        if (length > 0 && length <= maxLength && !HttpMethod.HEAD.is(response.getRequest().getMethod())) {
+            // the content is copied once into an array of the announced size instead of a growing buffer
+            exactContent = new byte[(int) length];
+        }
+    }
+
+    @Override
+    public void onContent(@NonNullByDefault({}) Response response, @NonNullByDefault({}) ByteBuffer content) {
+        byte[] exactContent = this.exactContent;
+        if (exactContent == null) {
+            super.onContent(response, content);
+            return;
+        }
+        int length = content.remaining();
+        if (exactContentLength + length <= exactContent.length) {
+            content.get(exactContent, exactContentLength, length);
+            exactContentLength += length;
+        } else {
+            // more content than announced, continue with the buffer of the super class
+            this.exactContent = null;
+            super.onContent(response, ByteBuffer.wrap(exactContent, 0, exactContentLength));
+            super.onContent(response, content);
+        }
+    }
+
+    @Override
+    public byte[] getContent() {
+        byte[] exactContent = this.exactContent;
+        if (exactContent == null) {
+            return super.getContent();
+        }
+        return exactContentLength == exactContent.length ? exactContent
+                : Arrays.copyOf(exactContent, exactContentLength);
     }
 
     @Override
@@ -67,6 +136,10 @@ public class HttpResponseListener extends BufferingResponseListener {
                     request.getMethod(), request.getContent(), result.getFailure().getMessage());
             future.complete(null);
             httpStatusListener.onHttpError(result.getFailure().getMessage());
+        } else if (response.getStatus() == HttpStatus.NOT_MODIFIED_304 && notModifiedContent != null) {
+            // the content did not change since it was received with the validators of the conditional request
+            future.complete(notModifiedContent);
+            httpStatusListener.onHttpSuccess();
         } else {
             switch (response.getStatus()) {
                 case HttpStatus.OK_200:
@@ -102,9 +175,12 @@ public class HttpResponseListener extends BufferingResponseListener {
     }
 
     private String responseToLogString(Response response) {
+        String encoding = getEncoding();
         String logString = "Code = {" + response.getStatus() + "}, Headers = {"
                 + response.getHeaders().stream().map(HttpField::toString).collect(Collectors.joining(", "))
-                + "}, Content = {" + getContentAsString() + "}";
+                + "}, Content = {"
+                + new String(getContent(), encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding))
+                + "}";
         return logString;
     }
 }
@@ -15,8 +15,10 @@ package org.openhab.binding.http.internal.http;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
@@ -25,11 +27,15 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.http.HttpStatus;
 import org.openhab.binding.http.internal.Util;
 import org.openhab.binding.http.internal.config.HttpThingConfig;
 import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
@@ -40,6 +46,10 @@ import org.slf4j.LoggerFactory;
  * The {@link RefreshingUrlCache} is responsible for requesting from a single URL and passing the content to the
  * channels
  *
+ * If the server sends validators ({@code ETag} or {@code Last-Modified}) along with the content of a {@code GET}
+ * request, the next request is a conditional request and a 304 (Not Modified) response is answered with the last
+ * content. If configured, content which did not change since the last refresh is not passed to the channels.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
@@ -49,6 +59,7 @@ public class RefreshingUrlCache {
     private final String url;
     private final RateLimitedHttpClient httpClient;
     private final boolean strictErrorHandling;
+    private final boolean skipUnchangedContent;
     private final int timeout;
     private final int bufferSize;
     private final @Nullable String fallbackEncoding;
@@ -58,15 +69,19 @@ public class RefreshingUrlCache {
     private final String httpContent;
     private final @Nullable String httpContentType;
     private final HttpStatusListener httpStatusListener;
+    private final AtomicLong notModifiedCount = new AtomicLong();
+    private final AtomicLong skippedDispatchCount = new AtomicLong();
 
     private @Nullable ScheduledFuture<?> future;
     private @Nullable ChannelHandlerContent lastContent;
+    private volatile @Nullable Validators validators;
 
     public RefreshingUrlCache(RateLimitedHttpClient httpClient, String url, HttpThingConfig thingConfig,
             String httpContent, @Nullable String httpContentType, HttpStatusListener httpStatusListener) {
         this.httpClient = httpClient;
         this.url = url;
         this.strictErrorHandling = thingConfig.strictErrorHandling;
+        this.skipUnchangedContent = thingConfig.skipUnchangedContent;
         this.timeout = thingConfig.timeout;
         this.bufferSize = thingConfig.bufferSize;
         this.httpMethod = thingConfig.stateMethod;
@@ -110,10 +125,24 @@ public class RefreshingUrlCache {
         try {
             URI uri = Util.uriFromString(Util.wrappedStringFormat(this.url, new Date()));
             logger.trace("Requesting refresh (retry={}) from '{}' with timeout {}ms", isRetry, uri, timeout);
+            Validators validators = this.validators;
+            ChannelHandlerContent cachedContent = validators != null && validators.uri().equals(uri) ? lastContent
+                    : null;
 
             httpClient.newRequest(uri, httpMethod, httpContent, httpContentType).thenAccept(request -> {
                 request.timeout(timeout, TimeUnit.MILLISECONDS);
                 headers.forEach(request::header);
+                if (validators != null && cachedContent != null) {
+                    String eTag = validators.eTag();
+                    if (eTag != null) {
+                        request.header(HttpHeader.IF_NONE_MATCH, eTag);
+                    }
+                    String lastModified = validators.lastModified();
+                    if (lastModified != null) {
+                        request.header(HttpHeader.IF_MODIFIED_SINCE, lastModified);
+                    }
+                }
+                request.onResponseHeaders(response -> updateValidators(uri, response));
 
                 CompletableFuture<@Nullable ChannelHandlerContent> responseContentFuture = new CompletableFuture<>();
                 responseContentFuture.exceptionally(t -> {
@@ -126,14 +155,14 @@ public class RefreshingUrlCache {
                         }
                     }
                     return null;
-                }).thenAccept(this::processResult);
+                }).thenAccept(content -> processResult(content, cachedContent));
 
                 if (logger.isTraceEnabled()) {
                     logger.trace("Sending to '{}': {}", uri, Util.requestToLogString(request));
                 }
 
                 request.send(new HttpResponseListener(responseContentFuture, fallbackEncoding, bufferSize,
-                        httpStatusListener));
+                        httpStatusListener, cachedContent));
             }).exceptionally(e -> {
                 if (e instanceof CancellationException) {
                     logger.debug("Request to URL {} was cancelled by thing handler.", uri);
@@ -155,8 +184,55 @@ public class RefreshingUrlCache {
         return Optional.ofNullable(lastContent);
     }
 
-    private void processResult(@Nullable ChannelHandlerContent content) {
-        if (content != null || strictErrorHandling) {
+    /**
+     * @return the number of conditional requests answered with 304 (Not Modified)
+     */
+    public long getNotModifiedCount() {
+        return notModifiedCount.get();
+    }
+
+    /**
+     * @return the number of refreshes not passed to the channels because the content did not change
+     */
+    public long getSkippedDispatchCount() {
+        return skippedDispatchCount.get();
+    }
+
+    private void updateValidators(URI uri, Response response) {
+        if (httpMethod != HttpMethod.GET) {
+            return;
+        }
+        int status = response.getStatus();
+        String eTag = response.getHeaders().get(HttpHeader.ETAG);
+        String lastModified = response.getHeaders().get(HttpHeader.LAST_MODIFIED);
+        if (status == HttpStatus.OK_200) {
+            validators = eTag == null && lastModified == null ? null : new Validators(uri, eTag, lastModified);
+        } else if (status == HttpStatus.NOT_MODIFIED_304) {
+            // a 304 response may carry updated validators, the others stay valid
+            Validators validators = this.validators;
+            if (validators != null && (eTag != null || lastModified != null)) {
+                this.validators = new Validators(uri, eTag != null ? eTag : validators.eTag(),
+                        lastModified != null ? lastModified : validators.lastModified());
+            }
+        } else {
+            validators = null;
+        }
+    }
+
+    private boolean isUnchanged(ChannelHandlerContent content, @Nullable ChannelHandlerContent lastContent) {
+        return lastContent != null && (content == lastContent
+                || (Arrays.equals(content.getRawContent(), lastContent.getRawContent())
+                        && Objects.equals(content.getMediaType(), lastContent.getMediaType())));
+    }
+
+    private void processResult(@Nullable ChannelHandlerContent content, @Nullable ChannelHandlerContent cachedContent) {
+        if (content != null && content == cachedContent) {
+            notModifiedCount.incrementAndGet();
+        }
+        if (content != null && skipUnchangedContent && isUnchanged(content, lastContent)) {
+            skippedDispatchCount.incrementAndGet();
+            logger.trace("Content of URL {} did not change, skipping update of channels", url);
+        } else if (content != null || strictErrorHandling) {
             for (Consumer<@Nullable ChannelHandlerContent> consumer : consumers) {
                 try {
                     consumer.accept(content);
@@ -167,4 +243,7 @@ public class RefreshingUrlCache {
         }
         lastContent = content;
     }
+
+    private record Validators(URI uri, @Nullable String eTag, @Nullable String lastModified) {
+    }
 }
@@ -13,6 +13,7 @@
 package org.openhab.binding.http;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
@@ -111,6 +112,41 @@ public class RefreshingUrlCacheTest extends AbstractWireMockTest {
                 .allMatch(TEST_CONTENT::equals));
     }
 
+    @Test
+    public void testLastContentIsUsedOnNotModified() {
+        String eTag = "\"1\"";
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withHeader("ETag", eTag).withBody(TEST_CONTENT)));
+        stubFor(get(urlEqualTo(TEST_LOCATION)).withHeader("If-None-Match", equalTo(eTag))
+                .willReturn(aResponse().withStatus(304)));
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        // the first request is answered with content, the following conditional requests with 304
+        waitForAssert(() -> assertEquals(3, contentWrappers.size()));
+        urlCache.stop();
+
+        verify(statusListener, never()).onHttpError(any());
+        assertTrue(urlCache.getNotModifiedCount() >= 2);
+        assertTrue(contentWrappers.stream().map(Objects::requireNonNull).map(ChannelHandlerContent::getAsString)
+                .allMatch(TEST_CONTENT::equals));
+    }
+
+    @Test
+    public void testNoUpdateOnUnchangedContentIfSkipped() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+        thingConfig.skipUnchangedContent = true;
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        // wait until the unchanged content was received at least twice
+        waitForAssert(() -> assertTrue(urlCache.getSkippedDispatchCount() >= 2));
+        urlCache.stop();
+
+        verify(statusListener, never()).onHttpError(any());
+        assertEquals(1, contentWrappers.size());
+        assertEquals(TEST_CONTENT, Objects.requireNonNull(contentWrappers.get(0)).getAsString());
+    }
+
     @Test
     public void testNoUpdateOn404ErrorInNormalMode() {
         stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withStatus(404)));
@@ -27,4 +27,5 @@ public class Clip2BridgeConfig {
     public String applicationKey = "";
     public int checkMinutes = 60;
     public boolean useSelfSignedCertificate = true;
+    public boolean groupedLightCoalescing = false;
 }
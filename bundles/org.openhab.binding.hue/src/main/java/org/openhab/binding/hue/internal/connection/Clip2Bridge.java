@@ -30,6 +30,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
@@ -564,6 +565,7 @@ public class Clip2Bridge implements Closeable {
     private final Semaphore streamMutex = new Semaphore(MAX_CONCURRENT_STREAMS, true); // i.e. fair
     private final ReadWriteLock sessionUseCreateLock = new ReentrantReadWriteLock(true); // i.e. fair
     private final Map<Integer, Future<?>> fatalErrorTasks = new ConcurrentHashMap<>();
+    private final Clip2CommandQueue commandQueue;
 
     private boolean recreatingSession;
     private boolean closing;
@@ -598,6 +600,8 @@ public class Clip2Bridge implements Closeable {
         baseUrl = String.format(FORMAT_URL_RESOURCE, hostName);
         eventUrl = String.format(FORMAT_URL_EVENTS, hostName);
         registrationUrl = String.format(FORMAT_URL_REGISTER, hostName);
+        commandQueue = new Clip2CommandQueue((reference, body) -> put(reference, body.toString()),
+                bridgeHandler.getScheduler(), REQUEST_INTERVAL_MILLISECS);
     }
 
     /**
@@ -644,6 +648,7 @@ public class Clip2Bridge implements Closeable {
     @Override
     public void close() {
         closing = true;
+        commandQueue.close();
         Thread recreateThread = this.recreateThread;
         if (Objects.nonNull(recreateThread) && recreateThread.isAlive()) {
             recreateThread.interrupt();
@@ -1095,13 +1100,58 @@ public class Clip2Bridge implements Closeable {
      * @throws InterruptedException
      */
     public Resources putResource(Resource resource) throws ApiException, InterruptedException {
+        return put(new ResourceReference().setId(resource.getId()).setType(resource.getType()),
+                jsonParser.toJson(resource));
+    }
+
+    /**
+     * Queue a resource to be sent to the server with an HTTP/2 PUT command, without waiting for the command to be
+     * sent. Commands to the same resource that are still waiting in the queue are merged into one PUT command.
+     *
+     * @param resource the resource to put.
+     * @return a future that completes with the resource, which may contain errors, or exceptionally with an
+     *         ApiException if something fails.
+     */
+    public CompletableFuture<Resources> putResourceQueued(Resource resource) {
+        return commandQueue.submit(new ResourceReference().setId(resource.getId()).setType(resource.getType()),
+                jsonParser.toJsonTree(resource).getAsJsonObject());
+    }
+
+    /**
+     * Set the lights which belong to the grouped light resource of each room and zone, for sending queued light
+     * commands as one grouped light command.
+     *
+     * @param lightIdsPerGroupedLightId map of grouped light resource ids to the ids of their lights.
+     */
+    public void setGroupedLights(Map<String, Set<String>> lightIdsPerGroupedLightId) {
+        commandQueue.setGroupedLights(lightIdsPerGroupedLightId);
+    }
+
+    /**
+     * Enable or disable sending equal queued commands to all lights of a room or zone as one grouped light command.
+     *
+     * @param groupedLightCoalescing true to enable.
+     */
+    public void setGroupedLightCoalescing(boolean groupedLightCoalescing) {
+        commandQueue.setGroupedLightCoalescing(groupedLightCoalescing);
+    }
+
+    /**
+     * Internal method to send an HTTP/2 PUT command with a JSON body to the server.
+     *
+     * @param reference the resource to put.
+     * @param requestJson the JSON body.
+     * @return the resource, which may contain errors.
+     * @throws ApiException if something fails.
+     * @throws InterruptedException
+     */
+    private Resources put(ResourceReference reference, String requestJson) throws ApiException, InterruptedException {
         Stream stream = null;
         try (Throttler throttler = new Throttler(MAX_CONCURRENT_STREAMS);
                 SessionSynchronizer sessionSynchronizer = new SessionSynchronizer(false)) {
             Session session = getSession();
-            String requestJson = jsonParser.toJson(resource);
             ByteBuffer requestBytes = ByteBuffer.wrap(requestJson.getBytes(StandardCharsets.UTF_8));
-            String url = getUrl(new ResourceReference().setId(resource.getId()).setType(resource.getType()));
+            String url = getUrl(reference);
             HeadersFrame headers = prepareHeaders(url, MediaType.APPLICATION_JSON, "PUT", requestBytes.capacity(),
                     MediaType.APPLICATION_JSON);
             LOGGER.trace("PUT {} HTTP/2 >> {}", url, requestJson);
@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.connection;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.hue.internal.api.dto.clip2.ResourceReference;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resources;
+import org.openhab.binding.hue.internal.api.dto.clip2.enums.ResourceType;
+import org.openhab.binding.hue.internal.exceptions.ApiException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * Queue for HTTP PUT commands to a Hue Bridge running CLIP 2.
+ * <p>
+ * Commands are sent one at a time by the scheduler, and no more than one per interval, so callers do not block while
+ * waiting for their turn. Commands to a resource which still has a command waiting in the queue are merged into the
+ * waiting command, where the fields of the later command take precedence. So a burst of commands results in one
+ * request per resource.
+ * <p>
+ * Optionally, if all lights of a room or zone are waiting for the same command, the command is sent once to the
+ * room's or zone's grouped light resource instead.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+class Clip2CommandQueue {
+
+    /**
+     * Sends a PUT request and waits for the response.
+     */
+    @FunctionalInterface
+    interface Sender {
+        Resources put(ResourceReference reference, JsonObject body) throws ApiException, InterruptedException;
+    }
+
+    /**
+     * The fields that a grouped light resource supports.
+     */
+    private static final Set<String> GROUPED_LIGHT_FIELDS = Set.of("type", "id", "on", "dimming", "color",
+            "color_temperature", "dynamics");
+
+    private final Logger logger = LoggerFactory.getLogger(Clip2CommandQueue.class);
+
+    private final Sender sender;
+    private final ScheduledExecutorService scheduler;
+    private final long intervalNanos;
+
+    // guarded by this
+    private final Map<String, PendingCommand> pendingCommands = new LinkedHashMap<>();
+    private Map<String, Set<String>> lightIdsPerGroupedLightId = Map.of();
+    private boolean groupedLightCoalescing;
+    private @Nullable ScheduledFuture<?> dispatchTask;
+    private boolean sending;
+    private boolean closed;
+    private long lastSendNanos;
+    private long mergedCount;
+    private long groupedCount;
+
+    private static class PendingCommand {
+        private final ResourceReference reference;
+        private final JsonObject body;
+        private final CompletableFuture<Resources> future = new CompletableFuture<>();
+
+        PendingCommand(ResourceReference reference, JsonObject body) {
+            this.reference = reference;
+            this.body = body;
+        }
+    }
+
+    /**
+     * @param sender sends the requests.
+     * @param scheduler the scheduler for sending the requests.
+     * @param intervalMillis the minimum time between the start of two requests.
+     */
+    Clip2CommandQueue(Sender sender, ScheduledExecutorService scheduler, long intervalMillis) {
+        this.sender = sender;
+        this.scheduler = scheduler;
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        this.lastSendNanos = System.nanoTime() - intervalNanos;
+    }
+
+    /**
+     * Queue a PUT command.
+     *
+     * @param reference the resource to put the command to.
+     * @param body the JSON body of the command.
+     * @return a future that completes with the response of the request which contains the command.
+     */
+    synchronized CompletableFuture<Resources> submit(ResourceReference reference, JsonObject body) {
+        if (closed) {
+            return CompletableFuture.failedFuture(new ApiException("Command queue is closed"));
+        }
+        String key = key(reference);
+        PendingCommand pending = pendingCommands.get(key);
+        if (pending != null) {
+            merge(pending.body, body);
+            mergedCount++;
+            logger.trace("submit() merged command into waiting command for {}", reference);
+            return pending.future;
+        }
+        pending = new PendingCommand(reference, body.deepCopy());
+        pendingCommands.put(key, pending);
+        scheduleDispatch();
+        return pending.future;
+    }
+
+    /**
+     * Set the lights which belong to each grouped light resource.
+     *
+     * @param lightIdsPerGroupedLightId map of grouped light resource ids to the ids of their lights.
+     */
+    synchronized void setGroupedLights(Map<String, Set<String>> lightIdsPerGroupedLightId) {
+        this.lightIdsPerGroupedLightId = Map.copyOf(lightIdsPerGroupedLightId);
+    }
+
+    /**
+     * Enable or disable sending equal commands to all lights of a room or zone as one grouped light command.
+     */
+    synchronized void setGroupedLightCoalescing(boolean groupedLightCoalescing) {
+        this.groupedLightCoalescing = groupedLightCoalescing;
+    }
+
+    /**
+     * @return the number of commands that were merged into a waiting command.
+     */
+    synchronized long getMergedCount() {
+        return mergedCount;
+    }
+
+    /**
+     * @return the number of light commands that were sent as part of a grouped light command.
+     */
+    synchronized long getGroupedCount() {
+        return groupedCount;
+    }
+
+    /**
+     * Discard all waiting commands. Their futures complete exceptionally.
+     */
+    synchronized void close() {
+        closed = true;
+        ScheduledFuture<?> dispatchTask = this.dispatchTask;
+        if (dispatchTask != null) {
+            dispatchTask.cancel(false);
+            this.dispatchTask = null;
+        }
+        ApiException exception = new ApiException("Command queue is closed");
+        pendingCommands.values().forEach(pending -> pending.future.completeExceptionally(exception));
+        pendingCommands.clear();
+    }
+
+    private static String key(ResourceReference reference) {
+        return reference.getType().name() + "/" + reference.getId();
+    }
+
+    /**
+     * Recursively merge the source into the target, where the values of the source take precedence.
+     */
+    private static void merge(JsonObject target, JsonObject source) {
+        for (Entry<String, JsonElement> entry : source.entrySet()) {
+            JsonElement targetValue = target.get(entry.getKey());
+            if (targetValue instanceof JsonObject targetObject && entry.getValue() instanceof JsonObject sourceObject) {
+                merge(targetObject, sourceObject);
+            } else {
+                target.add(entry.getKey(), entry.getValue().deepCopy());
+            }
+        }
+    }
+
+    private void scheduleDispatch() {
+        if (sending || closed || dispatchTask != null || pendingCommands.isEmpty()) {
+            return;
+        }
+        long delay = Math.max(0, lastSendNanos + intervalNanos - System.nanoTime());
+        dispatchTask = scheduler.schedule(this::dispatch, delay, TimeUnit.NANOSECONDS);
+    }
+
+    private void dispatch() {
+        ResourceReference reference;
+        JsonObject body;
+        List<PendingCommand> commands;
+        synchronized (this) {
+            dispatchTask = null;
+            if (closed || pendingCommands.isEmpty()) {
+                return;
+            }
+            sending = true;
+            lastSendNanos = System.nanoTime();
+            PendingCommand first = pendingCommands.values().iterator().next();
+            String groupedLightId = findGroupedLightId(first);
+            if (groupedLightId == null) {
+                pendingCommands.remove(key(first.reference));
+                commands = List.of(first);
+                reference = first.reference;
+                body = first.body;
+            } else {
+                commands = removeLightCommands(groupedLightId);
+                reference = new ResourceReference().setType(ResourceType.GROUPED_LIGHT).setId(groupedLightId);
+                body = groupedLightBody(first.body, groupedLightId);
+            }
+        }
+        try {
+            Resources resources = sender.put(reference, body);
+            commands.forEach(command -> command.future.complete(resources));
+        } catch (ApiException | RuntimeException e) {
+            commands.forEach(command -> command.future.completeExceptionally(e));
+        } catch (InterruptedException e) {
+            commands.forEach(command -> command.future.completeExceptionally(e));
+            Thread.currentThread().interrupt();
+        } finally {
+            synchronized (this) {
+                sending = false;
+                scheduleDispatch();
+            }
+        }
+    }
+
+    /**
+     * Remove the commands of all lights of a grouped light resource from the queue.
+     */
+    private List<PendingCommand> removeLightCommands(String groupedLightId) {
+        Set<String> lightIds = lightIdsPerGroupedLightId.getOrDefault(groupedLightId, Set.of());
+        List<PendingCommand> commands = new ArrayList<>();
+        Iterator<PendingCommand> iterator = pendingCommands.values().iterator();
+        while (iterator.hasNext()) {
+            PendingCommand pending = iterator.next();
+            if (pending.reference.getType() == ResourceType.LIGHT && lightIds.contains(pending.reference.getId())) {
+                commands.add(pending);
+                iterator.remove();
+            }
+        }
+        groupedCount += commands.size();
+        logger.debug("dispatch() sending {} light commands as one command to grouped light {}", commands.size(),
+                groupedLightId);
+        return commands;
+    }
+
+    /**
+     * Find the grouped light resource with the most lights, whose lights are all waiting for the same command as the
+     * given light command.
+     */
+    private @Nullable String findGroupedLightId(PendingCommand first) {
+        if (!groupedLightCoalescing || first.reference.getType() != ResourceType.LIGHT
+                || !GROUPED_LIGHT_FIELDS.containsAll(first.body.keySet())) {
+            return null;
+        }
+        JsonObject command = withoutId(first.body);
+        String bestId = null;
+        int bestSize = 1;
+        for (Entry<String, Set<String>> entry : lightIdsPerGroupedLightId.entrySet()) {
+            Set<String> lightIds = entry.getValue();
+            if (lightIds.size() <= bestSize || !lightIds.contains(first.reference.getId())) {
+                continue;
+            }
+            boolean allWaiting = lightIds.stream().allMatch(lightId -> {
+                PendingCommand pending = pendingCommands
+                        .get(key(new ResourceReference().setType(ResourceType.LIGHT).setId(lightId)));
+                return pending != null && command.equals(withoutId(pending.body));
+            });
+            if (allWaiting) {
+                bestId = entry.getKey();
+                bestSize = lightIds.size();
+            }
+        }
+        return bestId;
+    }
+
+    private static JsonObject withoutId(JsonObject body) {
+        JsonObject copy = body.deepCopy();
+        copy.remove("id");
+        return copy;
+    }
+
+    private static JsonObject groupedLightBody(JsonObject lightBody, String groupedLightId) {
+        JsonObject body = withoutId(lightBody);
+        if (body.has("type")) {
+            body.addProperty("type", "grouped_light");
+        }
+        if (lightBody.has("id")) {
+            body.addProperty("id", groupedLightId);
+        }
+        return body;
+    }
+}
@@ -17,11 +17,13 @@ import static org.openhab.binding.hue.internal.HueBindingConstants.*;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
@@ -510,7 +512,9 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
             applicationKey = Objects.nonNull(applicationKey) ? applicationKey : "";
 
             try {
-                clip2Bridge = new Clip2Bridge(httpClientFactory, this, ipAddress, applicationKey);
+                Clip2Bridge clip2Bridge = new Clip2Bridge(httpClientFactory, this, ipAddress, applicationKey);
+                clip2Bridge.setGroupedLightCoalescing(config.groupedLightCoalescing);
+                this.clip2Bridge = clip2Bridge;
             } catch (ApiException e) {
                 logger.trace("initializeAssets() communication error on '{}'", ipAddress, e);
                 setStatusOfflineWithCommunicationError(e);
@@ -592,6 +596,20 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         return getClip2Bridge().putResource(resource);
     }
 
+    /**
+     * Queue an HTTP PUT to send a Resource object to the server, without waiting for it to be sent.
+     *
+     * @param resource the resource to put.
+     * @return a future that completes with the resource, which may contain errors, or exceptionally with an
+     *         ApiException if a communication error occurred.
+     * @throws AssetNotLoadedException if one of the assets is not loaded.
+     */
+    public CompletableFuture<Resources> putResourceQueued(Resource resource) throws AssetNotLoadedException {
+        logger.debug("putResourceQueued() {}", resource);
+        checkAssetsLoaded();
+        return getClip2Bridge().putResourceQueued(resource);
+    }
+
     /**
      * Register the application key with the hub. If the current application key is empty it will create a new one.
      *
@@ -767,13 +785,30 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         logger.debug("updateThingsNow()");
         try {
             Clip2Bridge bridge = getClip2Bridge();
+            Map<String, Set<String>> lightIdsPerDeviceId = new HashMap<>();
+            Map<String, Set<String>> lightIdsPerGroupedLightId = new HashMap<>();
             for (ResourceReference reference : MASS_DOWNLOAD_RESOURCE_REFERENCES) {
                 ResourceType resourceType = reference.getType();
                 List<Resource> resourceList = bridge.getResources(reference).getResources();
                 switch (resourceType) {
+                    case DEVICE:
+                        resourceList.forEach(device -> lightIdsPerDeviceId.put(device.getId(),
+                                device.getServiceReferences().stream()
+                                        .filter(service -> ResourceType.LIGHT == service.getType())
+                                        .map(ResourceReference::getId).filter(Objects::nonNull)
+                                        .map(Objects::requireNonNull).collect(Collectors.toSet())));
+                        break;
+
+                    case ROOM:
+                        resourceList.forEach(room -> putGroupedLight(lightIdsPerGroupedLightId, room,
+                                getLightIds(room.getChildren(), lightIdsPerDeviceId)));
+                        break;
+
                     case ZONE:
                         // add special 'All Lights' zone to the zone resource list
                         resourceList.addAll(bridge.getResources(BRIDGE_HOME).getResources());
+                        resourceList.forEach(zone -> putGroupedLight(lightIdsPerGroupedLightId, zone,
+                                getLightIds(zone.getChildren(), lightIdsPerDeviceId)));
                         break;
 
                     case SCENE:
@@ -791,6 +826,7 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
                     }
                 });
             }
+            bridge.setGroupedLights(lightIdsPerGroupedLightId);
         } catch (ApiException | AssetNotLoadedException e) {
             if (logger.isDebugEnabled()) {
                 logger.debug("updateThingsNow() unexpected exception", e);
@@ -801,6 +837,44 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * Get the ids of the lights in the children of a room or zone, where devices are resolved to their lights.
+     *
+     * @return the light ids, or null if there are children which cannot be resolved to lights.
+     */
+    private @Nullable Set<String> getLightIds(List<ResourceReference> children,
+            Map<String, Set<String>> lightIdsPerDeviceId) {
+        Set<String> lightIds = new HashSet<>();
+        for (ResourceReference child : children) {
+            String id = child.getId();
+            Set<String> deviceLightIds = Objects.nonNull(id) ? lightIdsPerDeviceId.get(id) : null;
+            if (Objects.nonNull(id) && ResourceType.LIGHT == child.getType()) {
+                lightIds.add(id);
+            } else if (Objects.nonNull(deviceLightIds) && ResourceType.DEVICE == child.getType()) {
+                lightIds.addAll(deviceLightIds);
+            } else {
+                return null;
+            }
+        }
+        return lightIds;
+    }
+
+    /**
+     * Add the grouped light service of a room or zone, with the given lights, to the map.
+     */
+    private void putGroupedLight(Map<String, Set<String>> lightIdsPerGroupedLightId, Resource group,
+            @Nullable Set<String> lightIds) {
+        if (Objects.isNull(lightIds)) {
+            return;
+        }
+        for (ResourceReference service : group.getServiceReferences()) {
+            String groupedLightId = service.getId();
+            if (Objects.nonNull(groupedLightId) && ResourceType.GROUPED_LIGHT == service.getType()) {
+                lightIdsPerGroupedLightId.put(groupedLightId, lightIds);
+            }
+        }
+    }
+
     /**
      * Schedule a task to call updateThings(). It prevents floods of GET calls when multiple child things are added at
      * the same time.
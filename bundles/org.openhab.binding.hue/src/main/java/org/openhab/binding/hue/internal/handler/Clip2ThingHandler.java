@@ -27,6 +27,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Future;
@@ -529,19 +530,30 @@ public class Clip2ThingHandler extends BaseThingHandler {
         logger.debug("{} -> handleCommand() put resource {}", resourceId, putResource);
 
         try {
-            Resources resources = getBridgeHandler().putResource(putResource);
-            if (resources.hasErrors()) {
-                logger.info("Command '{}' for thing '{}', channel '{}' succeeded with errors: {}", command,
-                        thing.getUID(), channelUID, String.join("; ", resources.getErrors()));
-            }
-        } catch (ApiException | AssetNotLoadedException e) {
-            if (logger.isDebugEnabled()) {
-                logger.debug("{} -> handleCommand() error {}", resourceId, e.getMessage(), e);
-            } else {
-                logger.warn("Command '{}' for thing '{}', channel '{}' failed with error '{}'.", command,
-                        thing.getUID(), channelUID, e.getMessage());
-            }
-        } catch (InterruptedException e) {
+            getBridgeHandler().putResourceQueued(putResource).whenComplete((resources, throwable) -> {
+                if (Objects.nonNull(throwable)) {
+                    Throwable e = throwable instanceof CompletionException && Objects.nonNull(throwable.getCause())
+                            ? throwable.getCause()
+                            : throwable;
+                    if (!(e instanceof InterruptedException)) {
+                        handleCommandError(channelUID, command, e);
+                    }
+                } else if (resources.hasErrors()) {
+                    logger.info("Command '{}' for thing '{}', channel '{}' succeeded with errors: {}", command,
+                            thing.getUID(), channelUID, String.join("; ", resources.getErrors()));
+                }
+            });
+        } catch (AssetNotLoadedException e) {
+            handleCommandError(channelUID, command, e);
+        }
+    }
+
+    private void handleCommandError(ChannelUID channelUID, Command command, Throwable e) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("{} -> handleCommand() error {}", resourceId, e.getMessage(), e);
+        } else {
+            logger.warn("Command '{}' for thing '{}', channel '{}' failed with error '{}'.", command, thing.getUID(),
+                    channelUID, e.getMessage());
         }
     }
 
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.connection;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hue.internal.api.dto.clip2.ResourceReference;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resources;
+import org.openhab.binding.hue.internal.api.dto.clip2.enums.ResourceType;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Tests for {@link Clip2CommandQueue}.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+public class Clip2CommandQueueTest {
+
+    private record Request(ResourceReference reference, JsonObject body) {
+    }
+
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+    private final CountDownLatch firstRequestReleased = new CountDownLatch(1);
+    private @NonNullByDefault({}) ScheduledExecutorService scheduler;
+    private @NonNullByDefault({}) Clip2CommandQueue queue;
+
+    @BeforeEach
+    public void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        queue = new Clip2CommandQueue((reference, body) -> {
+            requests.add(new Request(reference, body));
+            // hold the first request, so that the following commands wait in the queue
+            firstRequestReleased.await(5, TimeUnit.SECONDS);
+            return new Resources();
+        }, scheduler, 1);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        queue.close();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void commandsToTheSameResourceAreMerged() throws Exception {
+        CompletableFuture<Resources> first = queue.submit(light("1"), body("{'type':'light','on':{'on':false}}"));
+        waitForRequests(1);
+
+        CompletableFuture<Resources> second = queue.submit(light("2"), body("{'type':'light','on':{'on':true}}"));
+        CompletableFuture<Resources> third = queue
+                .submit(light("2"), body("{'type':'light','dimming':{'brightness':50.0}}"));
+        CompletableFuture<Resources> fourth = queue
+                .submit(light("2"), body("{'type':'light','dimming':{'brightness':80.0}}"));
+        firstRequestReleased.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS), is(notNullValue()));
+        assertThat(second.get(5, TimeUnit.SECONDS), is(sameInstance(fourth.get(5, TimeUnit.SECONDS))));
+        assertThat(third.get(5, TimeUnit.SECONDS), is(sameInstance(fourth.get(5, TimeUnit.SECONDS))));
+        assertThat(requests.size(), is(2));
+        assertThat(requests.get(1).reference().getId(), is("2"));
+        assertThat(requests.get(1).body(),
+                is(body("{'type':'light','on':{'on':true},'dimming':{'brightness':80.0}}")));
+        assertThat(queue.getMergedCount(), is(2L));
+    }
+
+    @Test
+    public void equalCommandsToAllLightsOfAGroupAreSentToTheGroupedLight() throws Exception {
+        queue.setGroupedLightCoalescing(true);
+        queue.setGroupedLights(Map.of("g1", Set.of("1", "2", "3"), "g2", Set.of("3", "4")));
+        queue.submit(light("0"), body("{'type':'light','on':{'on':true}}"));
+        waitForRequests(1);
+
+        CompletableFuture<Resources> light1 = queue.submit(light("1"),
+                body("{'type':'light','id':'1','on':{'on':true}}"));
+        CompletableFuture<Resources> light2 = queue.submit(light("2"),
+                body("{'type':'light','id':'2','on':{'on':true}}"));
+        CompletableFuture<Resources> light3 = queue.submit(light("3"),
+                body("{'type':'light','id':'3','on':{'on':true}}"));
+        // g2 is not complete, so light 4 is sent on its own
+        CompletableFuture<Resources> light4 = queue.submit(light("4"),
+                body("{'type':'light','id':'4','on':{'on':true}}"));
+        firstRequestReleased.countDown();
+
+        CompletableFuture.allOf(light1, light2, light3, light4).get(5, TimeUnit.SECONDS);
+        assertThat(requests.size(), is(3));
+        assertThat(requests.get(1).reference().getType(), is(ResourceType.GROUPED_LIGHT));
+        assertThat(requests.get(1).reference().getId(), is("g1"));
+        assertThat(requests.get(1).body(), is(body("{'type':'grouped_light','id':'g1','on':{'on':true}}")));
+        assertThat(requests.get(2).reference().getId(), is("4"));
+        assertThat(queue.getGroupedCount(), is(3L));
+    }
+
+    @Test
+    public void differentCommandsToTheLightsOfAGroupAreSentSeparately() throws Exception {
+        queue.setGroupedLightCoalescing(true);
+        queue.setGroupedLights(Map.of("g1", Set.of("1", "2")));
+        queue.submit(light("0"), body("{'type':'light','on':{'on':true}}"));
+        waitForRequests(1);
+
+        CompletableFuture<Resources> light1 = queue.submit(light("1"), body("{'type':'light','on':{'on':true}}"));
+        CompletableFuture<Resources> light2 = queue.submit(light("2"), body("{'type':'light','on':{'on':false}}"));
+        firstRequestReleased.countDown();
+
+        CompletableFuture.allOf(light1, light2).get(5, TimeUnit.SECONDS);
+        assertThat(requests.size(), is(3));
+        assertThat(requests.get(1).reference().getId(), is("1"));
+        assertThat(requests.get(2).reference().getId(), is("2"));
+        assertThat(queue.getGroupedCount(), is(0L));
+    }
+
+    private void waitForRequests(int count) throws InterruptedException {
+        for (int i = 0; i < 500 && requests.size() < count; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(requests.size(), is(count));
+    }
+
+    private static ResourceReference light(String id) {
+        return new ResourceReference().setType(ResourceType.LIGHT).setId(id);
+    }
+
+    private static JsonObject body(String json) {
+        return JsonParser.parseString(json.replace('\'', '"')).getAsJsonObject();
+    }
+}
@@ -15,10 +15,11 @@ package org.openhab.binding.knx.internal.client;
 import static org.openhab.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -90,9 +91,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
     private final ThingUID thingUID;
     private final int responseTimeout;
-    private final int readingPause;
     private final int autoReconnectPeriod;
-    private final int readRetriesLimit;
     private final StatusUpdateCallback statusUpdateCallback;
     private final ScheduledExecutorService knxScheduler;
     private final CommandExtensionData commandExtensionData;
@@ -107,8 +106,10 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
-    private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    // listeners indexed by the group addresses they listen to, and the group addresses they were registered with
+    private final Map<GroupAddress, Set<GroupAddressListener>> groupAddressListeners = new ConcurrentHashMap<>();
+    private final Map<GroupAddressListener, Set<GroupAddress>> listenerGroupAddresses = new ConcurrentHashMap<>();
+    private final ReadScheduler readScheduler;
 
     @FunctionalInterface
     private interface ListenerNotification {
@@ -143,13 +144,13 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     };
 
     public AbstractKNXClient(int autoReconnectPeriod, ThingUID thingUID, int responseTimeout, int readingPause,
-            int readRetriesLimit, ScheduledExecutorService knxScheduler, CommandExtensionData commandExtensionData,
-            Security openhabSecurity, StatusUpdateCallback statusUpdateCallback) {
+            boolean adaptiveReadingPause, int readRetriesLimit, ScheduledExecutorService knxScheduler,
+            CommandExtensionData commandExtensionData, Security openhabSecurity,
+            StatusUpdateCallback statusUpdateCallback) {
         this.autoReconnectPeriod = autoReconnectPeriod;
         this.thingUID = thingUID;
         this.responseTimeout = responseTimeout;
-        this.readingPause = readingPause;
-        this.readRetriesLimit = readRetriesLimit;
+        this.readScheduler = new ReadScheduler(thingUID, readingPause, readRetriesLimit, adaptiveReadingPause);
         this.knxScheduler = knxScheduler;
         this.statusUpdateCallback = statusUpdateCallback;
         this.commandExtensionData = commandExtensionData;
@@ -257,8 +258,8 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
             link.addLinkListener(this);
 
             // create a job carrying out read requests
-            busJob = knxScheduler.scheduleWithFixedDelay(this::readNextQueuedDatapoint, 0, readingPause,
-                    TimeUnit.MILLISECONDS);
+            busJob = knxScheduler.scheduleWithFixedDelay(this::readNextQueuedDatapoint, 0,
+                    readScheduler.getPeriodMillis(), TimeUnit.MILLISECONDS);
 
             statusUpdateCallback.updateStatus(ThingStatus.ONLINE);
             connectJob = null;
@@ -312,7 +313,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         if (tmpLink != null) {
             tmpLink.removeLinkListener(this);
         }
-        readDatapoints.clear();
+        readScheduler.clear();
         busJob = nullify(busJob, j -> j.cancel(true));
         deviceInfoClient = null;
         managementProcedures = nullify(managementProcedures, ManagementProcedures::detach);
@@ -341,8 +342,12 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
+        if (event.getServiceCode() != 0x00) {
+            // the value has been received, there is no need to read it
+            readScheduler.valueReceived(destination);
+        }
         boolean isHandled = false;
-        for (GroupAddressListener listener : groupAddressListeners) {
+        for (GroupAddressListener listener : groupAddressListeners.getOrDefault(destination, Set.of())) {
             if (listener.listensTo(destination)) {
                 isHandled = true;
                 knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
@@ -374,24 +379,30 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         if (processCommunicator == null) {
             return;
         }
-        ReadDatapoint datapoint = readDatapoints.poll();
+        if (!readScheduler.isReadDue(System.currentTimeMillis())) {
+            return;
+        }
+        ReadDatapoint datapoint = readScheduler.next();
         if (datapoint != null) {
             // TODO #8872: allow write access, currently only listening mode
             if (openhabSecurity.groupKeys().containsKey(datapoint.getDatapoint().getMainAddress())) {
                 logger.debug("outgoing secure communication not implemented, explicit read from GA '{}' skipped",
                         datapoint.getDatapoint().getMainAddress());
+                readScheduler.readSkipped(datapoint);
                 return;
             }
 
             datapoint.incrementRetries();
+            boolean success = false;
+            long start = System.nanoTime();
             try {
                 logger.trace("Sending a Group Read Request telegram for {}", datapoint.getDatapoint().getMainAddress());
                 processCommunicator.read(datapoint.getDatapoint());
+                success = true;
             } catch (KNXException e) {
                 // Note: KnxException does not cover KnxRuntimeException and subclasses KnxSecureException,
                 // KnxIllegalArgumentException
-                if (datapoint.getRetries() < datapoint.getLimit()) {
-                    readDatapoints.add(datapoint);
+                if (readScheduler.retry(datapoint)) {
                     logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
                             datapoint.getDatapoint().getMainAddress(), e.getMessage());
                 } else {
@@ -406,6 +417,9 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
                 // Severity is warning as this is likely caused by a configuration error.
                 logger.warn("Error reading datapoint {}: {}", datapoint.getDatapoint().getMainAddress(),
                         e.getMessage());
+            } finally {
+                readScheduler.readCompleted(datapoint, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                        success);
             }
         }
     }
@@ -442,6 +456,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         // is set manually).
 
         // Implementation searches for incoming data secure frames which cannot be decoded due to missing key
+        readScheduler.frameObserved(System.currentTimeMillis());
         if (e != null) {
             final var cemi = e.getFrame();
             if (!(cemi instanceof CemiTData)) {
@@ -471,7 +486,8 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
     @Override
     public void confirmation(@Nullable FrameEvent e) {
-        // no-op
+        // frames sent by openHAB, count them for the bus load
+        readScheduler.frameObserved(System.currentTimeMillis());
     }
 
     @Override
@@ -509,23 +525,36 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
-        synchronized (this) {
-            ReadDatapoint retryDatapoint = new ReadDatapoint(datapoint, readRetriesLimit);
-            if (!readDatapoints.contains(retryDatapoint)) {
-                readDatapoints.add(retryDatapoint);
-            }
-        }
+    public void readDatapoint(Datapoint datapoint, boolean prioritized) {
+        readScheduler.add(datapoint, prioritized);
     }
 
     @Override
     public final void registerGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.add(listener);
+        synchronized (listenerGroupAddresses) {
+            unregisterGroupAddressListener(listener);
+            Set<GroupAddress> groupAddresses = Set.copyOf(listener.getGroupAddresses());
+            listenerGroupAddresses.put(listener, groupAddresses);
+            for (GroupAddress groupAddress : groupAddresses) {
+                groupAddressListeners.computeIfAbsent(groupAddress, ga -> new CopyOnWriteArraySet<>()).add(listener);
+            }
+        }
     }
 
     @Override
     public final void unregisterGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.remove(listener);
+        synchronized (listenerGroupAddresses) {
+            Set<GroupAddress> groupAddresses = listenerGroupAddresses.remove(listener);
+            if (groupAddresses == null) {
+                return;
+            }
+            for (GroupAddress groupAddress : groupAddresses) {
+                groupAddressListeners.computeIfPresent(groupAddress, (ga, listeners) -> {
+                    listeners.remove(listener);
+                    return listeners.isEmpty() ? null : listeners;
+                });
+            }
+        }
     }
 
     @Override
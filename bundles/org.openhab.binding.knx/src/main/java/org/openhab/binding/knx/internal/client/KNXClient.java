@@ -78,8 +78,9 @@ public interface KNXClient {
      * Schedule the given data point for asynchronous reading.
      *
      * @param datapoint the datapoint
+     * @param prioritized true to read the data point before all data points which are not prioritized
      */
-    void readDatapoint(Datapoint datapoint);
+    void readDatapoint(Datapoint datapoint, boolean prioritized);
 
     /**
      * Write a command to the KNX bus.
@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.thing.ThingUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.datapoint.Datapoint;
+
+/**
+ * Schedules the read requests sent to the KNX bus.
+ *
+ * Prioritized reads, e.g. triggered by a REFRESH command from a rule or UI, are sent before all other queued reads. A
+ * group address is queued only once, and a queued read is skipped if a value for its group address is received from
+ * the bus before the read is sent. The progress of reading the queued group addresses is logged.
+ *
+ * With an adaptive reading pause, the pause between two reads is reduced below the configured reading pause as long as
+ * the bus load is low and reads are answered as fast as before. It is increased again, up to the configured reading
+ * pause, if the bus load or the time to answer a read increases, or if a read fails.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+public class ReadScheduler {
+    // maximum period of the read job with an adaptive reading pause
+    private static final int ADAPTIVE_TICK_MILLIS = 10;
+    // frames per second above which reads are slowed down, a KNX TP line transfers about 50 frames per second
+    private static final int MAX_BUS_LOAD = 20;
+    // reads are slowed down if the average time to answer a read exceeds twice the fastest answer plus this tolerance
+    private static final int LATENCY_TOLERANCE_MILLIS = 10;
+    private static final double LATENCY_SMOOTHING = 0.2;
+    private static final int BUS_LOAD_WINDOW_MILLIS = 1000;
+    private static final int PROGRESS_STEPS = 10;
+
+    private final Logger logger = LoggerFactory.getLogger(ReadScheduler.class);
+
+    private final ThingUID thingUID;
+    private final int readingPause;
+    private final int readRetriesLimit;
+    private final boolean adaptive;
+    private final int pauseStep;
+
+    // guarded by this
+    private final Deque<ReadDatapoint> prioritizedReads = new ArrayDeque<>();
+    private final Deque<ReadDatapoint> reads = new ArrayDeque<>();
+    private final Map<GroupAddress, ReadDatapoint> queuedReads = new HashMap<>();
+    // group addresses of the queued reads which are prioritized
+    private final Set<GroupAddress> prioritizedAddresses = new HashSet<>();
+    private int pauseMillis;
+    private long nextReadMillis;
+    private double averageLatencyMillis;
+    private long minLatencyMillis = Long.MAX_VALUE;
+    private long busLoadWindowStartMillis;
+    private int framesInWindow;
+    private int busLoad;
+    private boolean initialRead = true;
+    private long startMillis;
+    private int total;
+    private int sent;
+    private int skipped;
+    private int loggedSteps;
+
+    /**
+     * @param thingUID UID of the bridge, used for logging
+     * @param readingPause pause between two reads in milliseconds, the maximum pause with an adaptive reading pause
+     * @param readRetriesLimit number of times a read is sent before giving up
+     * @param adaptive true to adapt the pause between two reads to the bus
+     */
+    public ReadScheduler(ThingUID thingUID, int readingPause, int readRetriesLimit, boolean adaptive) {
+        this.thingUID = thingUID;
+        this.readingPause = readingPause;
+        this.readRetriesLimit = readRetriesLimit;
+        this.adaptive = adaptive;
+        this.pauseStep = Math.max(1, readingPause / 10);
+        this.pauseMillis = readingPause;
+    }
+
+    /**
+     * @return the period in milliseconds in which the read job checks if a read is due
+     */
+    public int getPeriodMillis() {
+        return adaptive ? Math.min(readingPause, ADAPTIVE_TICK_MILLIS) : readingPause;
+    }
+
+    /**
+     * Queue a datapoint to be read.
+     *
+     * @param datapoint the datapoint
+     * @param prioritized true to read the datapoint before all datapoints which are not prioritized
+     */
+    public synchronized void add(Datapoint datapoint, boolean prioritized) {
+        GroupAddress groupAddress = datapoint.getMainAddress();
+        ReadDatapoint queued = queuedReads.get(groupAddress);
+        if (queued != null) {
+            if (prioritized && prioritizedAddresses.add(groupAddress)) {
+                // the entry left in the other queue is skipped when it is polled
+                prioritizedReads.add(queued);
+            }
+            return;
+        }
+        if (total == 0) {
+            startMillis = System.currentTimeMillis();
+        }
+        ReadDatapoint read = new ReadDatapoint(datapoint, readRetriesLimit);
+        queuedReads.put(groupAddress, read);
+        if (prioritized) {
+            prioritizedAddresses.add(groupAddress);
+            prioritizedReads.add(read);
+        } else {
+            reads.add(read);
+        }
+        total++;
+    }
+
+    /**
+     * @param nowMillis the current time in milliseconds
+     * @return true if a datapoint is queued and the pause after the previous read has passed
+     */
+    public synchronized boolean isReadDue(long nowMillis) {
+        return !queuedReads.isEmpty() && nowMillis >= nextReadMillis;
+    }
+
+    /**
+     * Take the next datapoint to be read from the queue.
+     *
+     * @return the datapoint, or null if no datapoint is queued
+     */
+    public synchronized @Nullable ReadDatapoint next() {
+        ReadDatapoint read;
+        while ((read = prioritizedReads.isEmpty() ? reads.poll() : prioritizedReads.poll()) != null) {
+            GroupAddress groupAddress = read.getDatapoint().getMainAddress();
+            // skip entries which have been read, prioritized or received in the meantime
+            if (queuedReads.get(groupAddress) == read) {
+                queuedReads.remove(groupAddress);
+                prioritizedAddresses.remove(groupAddress);
+                if (read.getRetries() == 0) {
+                    sent++;
+                }
+                return read;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Queue a datapoint again after its read failed, if the retries limit is not reached.
+     *
+     * @param read the datapoint
+     * @return true if the datapoint was queued again
+     */
+    public synchronized boolean retry(ReadDatapoint read) {
+        if (read.getRetries() >= read.getLimit()) {
+            return false;
+        }
+        GroupAddress groupAddress = read.getDatapoint().getMainAddress();
+        if (queuedReads.putIfAbsent(groupAddress, read) == null) {
+            reads.add(read);
+        }
+        return true;
+    }
+
+    /**
+     * Record the outcome of a read, and adapt the pause before the next read.
+     *
+     * @param read the datapoint
+     * @param latencyMillis time in milliseconds until the read was answered
+     * @param success true if the read was answered
+     */
+    public synchronized void readCompleted(ReadDatapoint read, long latencyMillis, boolean success) {
+        if (adaptive) {
+            if (success) {
+                averageLatencyMillis = averageLatencyMillis == 0 ? latencyMillis
+                        : averageLatencyMillis + LATENCY_SMOOTHING * (latencyMillis - averageLatencyMillis);
+                minLatencyMillis = Math.min(minLatencyMillis, latencyMillis);
+            }
+            if (!success || busLoad > MAX_BUS_LOAD
+                    || averageLatencyMillis > 2 * minLatencyMillis + LATENCY_TOLERANCE_MILLIS) {
+                pauseMillis = Math.min(readingPause, Math.max(pauseStep, pauseMillis * 2));
+            } else {
+                pauseMillis = Math.max(0, pauseMillis - pauseStep);
+            }
+            nextReadMillis = System.currentTimeMillis() + pauseMillis;
+        }
+        logProgress();
+    }
+
+    /**
+     * Record that a datapoint taken from the queue was not read.
+     *
+     * @param read the datapoint
+     */
+    public synchronized void readSkipped(ReadDatapoint read) {
+        if (read.getRetries() == 0) {
+            sent--;
+            skipped++;
+        }
+        logProgress();
+    }
+
+    /**
+     * Skip the queued read of a group address, as its value was received from the bus.
+     *
+     * @param groupAddress the group address
+     */
+    public synchronized void valueReceived(GroupAddress groupAddress) {
+        ReadDatapoint read = queuedReads.remove(groupAddress);
+        prioritizedAddresses.remove(groupAddress);
+        if (read != null) {
+            logger.trace("Skipping read of {}, value received from the bus", groupAddress);
+            if (read.getRetries() == 0) {
+                skipped++;
+            }
+            logProgress();
+        }
+    }
+
+    /**
+     * Count a frame sent to or received from the bus, to determine the bus load.
+     *
+     * @param nowMillis the current time in milliseconds
+     */
+    public void frameObserved(long nowMillis) {
+        if (!adaptive) {
+            return;
+        }
+        synchronized (this) {
+            long elapsed = nowMillis - busLoadWindowStartMillis;
+            if (elapsed >= BUS_LOAD_WINDOW_MILLIS) {
+                busLoad = (int) (framesInWindow * 1000L / elapsed);
+                framesInWindow = 0;
+                busLoadWindowStartMillis = nowMillis;
+            }
+            framesInWindow++;
+        }
+    }
+
+    /**
+     * Discard all queued reads and the observed bus characteristics, e.g. when the connection is closed.
+     */
+    public synchronized void clear() {
+        prioritizedReads.clear();
+        reads.clear();
+        queuedReads.clear();
+        prioritizedAddresses.clear();
+        pauseMillis = readingPause;
+        nextReadMillis = 0;
+        averageLatencyMillis = 0;
+        minLatencyMillis = Long.MAX_VALUE;
+        busLoad = 0;
+        framesInWindow = 0;
+        initialRead = true;
+        resetProgress();
+    }
+
+    /**
+     * @return the pause in milliseconds before the next read
+     */
+    public synchronized int getPauseMillis() {
+        return pauseMillis;
+    }
+
+    /**
+     * @return the number of queued datapoints
+     */
+    public synchronized int size() {
+        return queuedReads.size();
+    }
+
+    private void logProgress() {
+        if (total == 0) {
+            return;
+        }
+        if (queuedReads.isEmpty()) {
+            long duration = System.currentTimeMillis() - startMillis;
+            if (initialRead) {
+                logger.info("Bridge {} read {} group addresses in {} ms, skipped {} received from the bus", thingUID,
+                        sent, duration, skipped);
+                initialRead = false;
+            } else {
+                logger.debug("Bridge {} read {} group addresses in {} ms, skipped {} received from the bus", thingUID,
+                        sent, duration, skipped);
+            }
+            resetProgress();
+            return;
+        }
+        int steps = (sent + skipped) * PROGRESS_STEPS / total;
+        if (steps > loggedSteps) {
+            loggedSteps = steps;
+            logger.debug("Bridge {} read {} and skipped {} of {} group addresses, reading pause {} ms, bus load {}/s",
+                    thingUID, sent, skipped, total, pauseMillis, busLoad);
+        }
+    }
+
+    private void resetProgress() {
+        total = 0;
+        sent = 0;
+        skipped = 0;
+        loggedSteps = 0;
+    }
+}
@@ -19,7 +19,9 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -81,6 +83,11 @@ public class ValueDecoder {
     public static final Pattern XYY_PATTERN = Pattern
             .compile("(?:\\((?<x>\\d+(?:[,.]\\d+)?) (?<y>\\d+(?:[,.]\\d+)?)\\))?\\s*(?:(?<Y>\\d+(?:[,.]\\d+)?)\\s%)?");
     public static final Pattern TSD_SEPARATOR = Pattern.compile("^[0-9]+(?<sep>[,\\.])[0-9][0-9][0-9].*");
+    // DPT 5 subtypes which carry the raw unsigned byte, without scaling
+    private static final Set<String> DPT5_UNSCALED = Set.of("5.004", "5.005", "5.010");
+
+    // translators are not thread-safe, so each thread keeps its own translator per DPT
+    private static final ThreadLocal<Map<String, DPTXlator>> TRANSLATORS = ThreadLocal.withInitial(HashMap::new);
 
     private static boolean check235001(byte[] data) throws KNXException {
         if (data.length != 6) {
@@ -114,13 +121,14 @@ public class ValueDecoder {
      */
     public static @Nullable Type decode(String dptId, byte[] data, Class<? extends Type> preferredType) {
         try {
-            String value = "";
             String translatorDptId = dptId;
             DPTXlator translator;
             try {
-                translator = TranslatorTypes.createTranslator(0, DPTUtil.NORMALIZED_DPT.getOrDefault(dptId, dptId));
+                translator = getTranslator(DPTUtil.NORMALIZED_DPT.getOrDefault(dptId, dptId));
+                if (isDirectlyDecodable(dptId, data)) {
+                    return decodeDirectly(dptId, data, preferredType);
+                }
                 translator.setData(data);
-                value = translator.getValue();
                 translatorDptId = translator.getType().getID();
             } catch (KNXException e) {
                 // special handling for decoding DPTs not yet supported by Calimero
@@ -128,18 +136,16 @@ public class ValueDecoder {
                     if (!check235001(data)) {
                         return null;
                     }
-                    translator = TranslatorTypes.createTranslator(0, "13.010");
+                    translator = getTranslator("13.010");
                     translator.setData(data);
-                    value = translator.getValue();
                     dptId = "13.010";
                     translatorDptId = dptId;
                 } else if ("235.61001".equals(dptId)) {
                     if (!check23561001(data)) {
                         return null;
                     }
-                    translator = TranslatorTypes.createTranslator(0, "5.006");
+                    translator = getTranslator("5.006");
                     translator.setData(new byte[] { data[4] });
-                    value = translator.getValue();
                     dptId = "5.006";
                     translatorDptId = dptId;
                 } else {
@@ -167,7 +173,7 @@ public class ValueDecoder {
 
             switch (mainType) {
                 case "1":
-                    return handleDpt1(subType, translator, preferredType);
+                    return handleDpt1(subType, ((DPTXlatorBoolean) translator).getValueBoolean(), preferredType);
                 case "2":
                     DPTXlator1BitControlled translator1BitControlled = (DPTXlator1BitControlled) translator;
                     int decValue = (translator1BitControlled.getControlBit() ? 2 : 0)
@@ -177,7 +183,7 @@ public class ValueDecoder {
                     return handleDpt3(subType, translator);
                 case "6":
                     if ("020".equals(subType)) {
-                        return handleStringOrDecimal(data, value, preferredType, 8);
+                        return handleStringOrDecimal(data, translator.getValue(), preferredType, 8);
                     } else {
                         return handleNumericDpt(id, translator, preferredType);
                     }
@@ -189,14 +195,14 @@ public class ValueDecoder {
                     }
                     return handleNumericDpt(id, translator, preferredType);
                 case "10":
-                    return handleDpt10(value);
+                    return handleDpt10(translator.getValue());
                 case "11":
                     return DateTimeType.valueOf(new SimpleDateFormat(DateTimeType.DATE_PATTERN)
-                            .format(new SimpleDateFormat(DATE_FORMAT).parse(value)));
+                            .format(new SimpleDateFormat(DATE_FORMAT).parse(translator.getValue())));
                 case "18":
                     DPTXlatorSceneControl translatorSceneControl = (DPTXlatorSceneControl) translator;
                     int decimalValue = translatorSceneControl.getSceneNumber();
-                    if (value.startsWith("learn")) {
+                    if (translator.getValue().startsWith("learn")) {
                         decimalValue += 0x80;
                     }
                     return new DecimalType(decimalValue);
@@ -204,20 +210,21 @@ public class ValueDecoder {
                     return handleDpt19(translator, data);
                 case "20":
                 case "21":
-                    return handleStringOrDecimal(data, value, preferredType, 8);
+                    return handleStringOrDecimal(data, translator.getValue(), preferredType, 8);
                 case "22":
-                    return handleStringOrDecimal(data, value, preferredType, 16);
+                    return handleStringOrDecimal(data, translator.getValue(), preferredType, 16);
                 case "16":
                 case "28":
                 case "250": // Map all combined color transitions to String,
                 case "252": // as no native support is planned.
                 case "253": // Currently only one subtype 2xx.600
                 case "254": // is defined for those DPTs.
-                    return StringType.valueOf(value);
+                    return StringType.valueOf(translator.getValue());
                 case "243": // color translation, fix regional
                 case "249": // settings
                     // workaround for different number formats, this is to fix time>=1000s:
                     // time is last block and may contain . and ,
+                    String value = translator.getValue();
                     int sep = java.lang.Math.max(value.indexOf(" % "), value.indexOf(" K "));
                     String time = value.substring(sep + 3);
                     Matcher mt = TSD_SEPARATOR.matcher(time);
@@ -228,11 +235,11 @@ public class ValueDecoder {
                     value = value.substring(0, sep + 3) + time;
                     return StringType.valueOf(value.replace(',', '.').replace(". ", ", "));
                 case "232":
-                    return handleDpt232(value, subType);
+                    return handleDpt232(translator.getValue(), subType);
                 case "242":
-                    return handleDpt242(value);
+                    return handleDpt242(translator.getValue());
                 case "251":
-                    return handleDpt251(value, subType, preferredType);
+                    return handleDpt251(translator.getValue(), subType, preferredType);
                 default:
                     return handleNumericDpt(id, translator, preferredType);
             }
@@ -246,34 +253,73 @@ public class ValueDecoder {
         return null;
     }
 
-    private static Type handleDpt1(String subType, DPTXlator translator, Class<? extends Type> preferredType) {
-        DPTXlatorBoolean translatorBoolean = (DPTXlatorBoolean) translator;
+    /**
+     * get the translator for the given DPT, reusing the translator previously created by the calling thread
+     *
+     * @param dptId the DPT
+     * @return the translator
+     * @throws KNXException if no translator is available for the DPT
+     */
+    private static DPTXlator getTranslator(String dptId) throws KNXException {
+        Map<String, DPTXlator> translators = TRANSLATORS.get();
+        DPTXlator translator = translators.get(dptId);
+        if (translator == null) {
+            translator = TranslatorTypes.createTranslator(0, dptId);
+            translators.put(dptId, translator);
+        }
+        return translator;
+    }
+
+    /**
+     * check if the data can be decoded without a translator, i.e. DPT 1.x and unscaled DPT 5.x
+     *
+     * @param dptId the DPT of the given data
+     * @param data a byte array containing the value
+     * @return true if {@link #decodeDirectly(String, byte[], Class)} can be used
+     */
+    private static boolean isDirectlyDecodable(String dptId, byte[] data) {
+        if (data.length == 0) {
+            return false;
+        }
+        return (dptId.startsWith("1.") && DPTUtil.DPT_PATTERN.matcher(dptId).matches())
+                || DPT5_UNSCALED.contains(dptId);
+    }
+
+    private static @Nullable Type decodeDirectly(String dptId, byte[] data, Class<? extends Type> preferredType) {
+        if (dptId.startsWith("1.")) {
+            // the value is the least significant bit
+            return handleDpt1(dptId.substring(2), (data[0] & 0x01) != 0, preferredType);
+        }
+        return handleNumericDpt(dptId, data[0] & 0xff, null, preferredType);
+    }
+
+    private static Type handleDpt1(String subType, boolean value, Class<? extends Type> preferredType) {
         return switch (subType) {
-            case "008" -> translatorBoolean.getValueBoolean() ? UpDownType.DOWN : UpDownType.UP;
+            case "008" -> value ? UpDownType.DOWN : UpDownType.UP;
             case "009", "019" -> {
                 // default is OpenClosedType (Contact), but it may be mapped to OnOffType as well
                 if (OnOffType.class.equals(preferredType)) {
-                    yield OnOffType.from(translatorBoolean.getValueBoolean());
+                    yield OnOffType.from(value);
                 }
 
                 // This is wrong for DPT 1.009. It should be true -> CLOSE, false -> OPEN, but unfortunately
                 // can't be fixed without breaking a lot of working installations.
                 // The documentation has been updated to reflect that. / @J-N-K
-                yield translatorBoolean.getValueBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+                yield value ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
 
                 // This is wrong for DPT 1.009. It should be true -> CLOSE, false -> OPEN, but unfortunately
                 // can't be fixed without breaking a lot of working installations.
                 // The documentation has been updated to reflect that. / @J-N-K
             }
-            case "010" -> translatorBoolean.getValueBoolean() ? StopMoveType.MOVE : StopMoveType.STOP;
-            case "022" -> DecimalType.valueOf(translatorBoolean.getValueBoolean() ? "1" : "0");
+            case "010" -> value ? StopMoveType.MOVE : StopMoveType.STOP;
+            case "022" -> DecimalType.valueOf(value ? "1" : "0");
             default -> {
                 // default is OnOffType (Switch), but it may be mapped to OpenClosedType as well
                 if (OpenClosedType.class.equals(preferredType)) {
-                    yield translatorBoolean.getValueBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+                    yield value ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
                 }
 
-                yield OnOffType.from(translatorBoolean.getValueBoolean());
+                yield OnOffType.from(value);
             }
         };
     }
@@ -494,9 +540,17 @@ public class ValueDecoder {
 
     private static @Nullable Type handleNumericDpt(String id, DPTXlator translator, Class<? extends Type> preferredType)
             throws KNXFormatException {
+        // prevent loss of precision, do not represent 64bit decimal using double
+        Long signedValue = translator instanceof DPTXlator64BitSigned translatorSigned
+                ? translatorSigned.getValueSigned()
+                : null;
+        return handleNumericDpt(id, translator.getNumericValue(), signedValue, preferredType);
+    }
+
+    private static @Nullable Type handleNumericDpt(String id, double value, @Nullable Long signedValue,
+            Class<? extends Type> preferredType) {
         Set<Class<? extends Type>> allowedTypes = DPTUtil.getAllowedTypes(id);
 
-        double value = translator.getNumericValue();
         if (allowedTypes.contains(PercentType.class)
                 && (HSBType.class.equals(preferredType) || PercentType.class.equals(preferredType))) {
             return new PercentType(BigDecimal.valueOf(Math.round(value)));
@@ -506,9 +560,8 @@ public class ValueDecoder {
             String unit = DPTUnits.getUnitForDpt(id);
             if (unit != null) {
                 try {
-                    if (translator instanceof DPTXlator64BitSigned translatorSigned) {
-                        // prevent loss of precision, do not represent 64bit decimal using double
-                        return new QuantityType<>(translatorSigned.getValueSigned() + " " + unit);
+                    if (signedValue != null) {
+                        return new QuantityType<>(signedValue + " " + unit);
                     }
                     return new QuantityType<>(value + " " + unit);
                 } catch (IllegalArgumentException e) {
@@ -521,9 +574,8 @@ public class ValueDecoder {
         }
 
         if (allowedTypes.contains(DecimalType.class)) {
-            if (translator instanceof DPTXlator64BitSigned translatorSigned) {
-                // prevent loss of precision, do not represent 64bit decimal using double
-                return new DecimalType(translatorSigned.getValueSigned());
+            if (signedValue != null) {
+                return new DecimalType(signedValue);
             }
             return new DecimalType(value);
         }
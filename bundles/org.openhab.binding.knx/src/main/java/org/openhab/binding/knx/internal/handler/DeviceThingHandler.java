@@ -199,7 +199,7 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
             return;
         }
         if (!knxChannel.isControl()) {
-            scheduleRead(knxChannel);
+            scheduleRead(knxChannel, false);
         }
     }
 
@@ -207,39 +207,42 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
         cancelReadFutures();
         for (KNXChannel knxChannel : knxChannels.values()) {
             if (isLinked(knxChannel.getChannelUID()) && !knxChannel.isControl()) {
-                scheduleRead(knxChannel);
+                scheduleRead(knxChannel, false);
             }
         }
     }
 
-    private void scheduleRead(KNXChannel knxChannel) {
+    private void scheduleRead(KNXChannel knxChannel, boolean prioritized) {
         List<InboundSpec> readSpecs = knxChannel.getReadSpec();
         for (InboundSpec readSpec : readSpecs) {
-            readSpec.getGroupAddresses().forEach(ga -> scheduleReadJob(ga, readSpec.getDPT()));
+            readSpec.getGroupAddresses().forEach(ga -> scheduleReadJob(ga, readSpec.getDPT(), prioritized));
         }
     }
 
-    private void scheduleReadJob(GroupAddress groupAddress, String dpt) {
-        if (readInterval > 0) {
+    private void scheduleReadJob(GroupAddress groupAddress, String dpt, boolean prioritized) {
+        if (prioritized) {
+            // explicitly requested, e.g. by a rule or UI, read it now and before all other queued reads
+            getScheduler().submit(() -> readDatapoint(groupAddress, dpt, true));
+        } else if (readInterval > 0) {
             ScheduledFuture<?> future = readFutures.get(groupAddress);
             if (future == null || future.isDone() || future.isCancelled()) {
-                future = getScheduler().scheduleWithFixedDelay(() -> readDatapoint(groupAddress, dpt), 0, readInterval,
-                        TimeUnit.SECONDS);
+                future = getScheduler().scheduleWithFixedDelay(() -> readDatapoint(groupAddress, dpt, false), 0,
+                        readInterval, TimeUnit.SECONDS);
                 readFutures.put(groupAddress, future);
             }
         } else {
-            getScheduler().submit(() -> readDatapoint(groupAddress, dpt));
+            getScheduler().submit(() -> readDatapoint(groupAddress, dpt, false));
         }
     }
 
-    private void readDatapoint(GroupAddress groupAddress, String dpt) {
+    private void readDatapoint(GroupAddress groupAddress, String dpt, boolean prioritized) {
         if (getClient().isConnected()) {
             if (DPTUtil.getAllowedTypes(dpt).isEmpty()) {
                 logger.warn("DPT '{}' is not supported by the KNX binding", dpt);
                 return;
             }
             Datapoint datapoint = new CommandDP(groupAddress, getThing().getUID().toString(), 0, dpt);
-            getClient().readDatapoint(datapoint);
+            getClient().readDatapoint(datapoint, prioritized);
         }
     }
 
@@ -248,6 +251,11 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
         return groupAddresses.contains(destination);
     }
 
+    @Override
+    public Set<GroupAddress> getGroupAddresses() {
+        return groupAddresses;
+    }
+
     /** Handling commands triggered from openHAB */
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
@@ -259,7 +267,7 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
         }
         if (command instanceof RefreshType && !knxChannel.isControl()) {
             logger.debug("Refreshing channel '{}'", channelUID);
-            scheduleRead(knxChannel);
+            scheduleRead(knxChannel, true);
         } else {
             if (CHANNEL_RESET.equals(channelUID.getId())) {
                 if (address != null) {
@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.knx.internal.handler;
 
+import java.util.Set;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.knx.internal.client.BusMessageListener;
 
@@ -33,4 +35,11 @@ public interface GroupAddressListener extends BusMessageListener {
      * @param destination
      */
     boolean listensTo(GroupAddress destination);
+
+    /**
+     * Called when the GroupAddressListener is registered, to index it by the GroupAddresses it has an interest in
+     *
+     * @return the GroupAddresses the GroupAddressListener has an interest in
+     */
+    Set<GroupAddress> getGroupAddresses();
 }
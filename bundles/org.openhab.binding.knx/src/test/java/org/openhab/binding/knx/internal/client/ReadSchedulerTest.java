@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.thing.ThingUID;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.KNXFormatException;
+import tuwien.auto.calimero.datapoint.CommandDP;
+import tuwien.auto.calimero.datapoint.Datapoint;
+
+/**
+ * Tests for {@link ReadScheduler}.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+class ReadSchedulerTest {
+    private static final ThingUID BRIDGE_UID = new ThingUID("knx:ip:bridge");
+
+    @Test
+    void prioritizedReadsAreSentFirst() throws KNXFormatException {
+        ReadScheduler scheduler = new ReadScheduler(BRIDGE_UID, 50, 3, false);
+        scheduler.add(datapoint("1/0/1"), false);
+        scheduler.add(datapoint("1/0/2"), false);
+        scheduler.add(datapoint("1/0/1"), false);
+        scheduler.add(datapoint("1/0/2"), true);
+        assertEquals(2, scheduler.size());
+
+        assertEquals(new GroupAddress("1/0/2"), next(scheduler).getDatapoint().getMainAddress());
+        assertEquals(new GroupAddress("1/0/1"), next(scheduler).getDatapoint().getMainAddress());
+        assertNull(scheduler.next());
+    }
+
+    @Test
+    void prioritizedReadIsQueuedAgainAfterValueIsReceived() throws KNXFormatException {
+        ReadScheduler scheduler = new ReadScheduler(BRIDGE_UID, 50, 3, false);
+        scheduler.add(datapoint("1/0/1"), false);
+        scheduler.add(datapoint("1/0/1"), true);
+        scheduler.valueReceived(new GroupAddress("1/0/1"));
+        scheduler.add(datapoint("1/0/1"), true);
+        scheduler.add(datapoint("1/0/1"), true);
+        assertEquals(1, scheduler.size());
+
+        assertEquals(new GroupAddress("1/0/1"), next(scheduler).getDatapoint().getMainAddress());
+        assertNull(scheduler.next());
+    }
+
+    @Test
+    void readIsSkippedIfValueIsReceived() throws KNXFormatException {
+        ReadScheduler scheduler = new ReadScheduler(BRIDGE_UID, 50, 3, false);
+        scheduler.add(datapoint("1/0/1"), false);
+        scheduler.add(datapoint("1/0/2"), false);
+
+        scheduler.valueReceived(new GroupAddress("1/0/1"));
+
+        assertEquals(new GroupAddress("1/0/2"), next(scheduler).getDatapoint().getMainAddress());
+        assertNull(scheduler.next());
+    }
+
+    @Test
+    void failedReadIsRetriedUpToTheLimit() throws KNXFormatException {
+        ReadScheduler scheduler = new ReadScheduler(BRIDGE_UID, 50, 2, false);
+        scheduler.add(datapoint("1/0/1"), false);
+
+        ReadDatapoint read = next(scheduler);
+        read.incrementRetries();
+        assertTrue(scheduler.retry(read));
+        assertSame(read, scheduler.next());
+        read.incrementRetries();
+        assertFalse(scheduler.retry(read));
+        assertNull(scheduler.next());
+    }
+
+    @Test
+    void adaptivePauseStaysWithinTheReadingPause() throws KNXFormatException {
+        ReadScheduler scheduler = new ReadScheduler(BRIDGE_UID, 50, 3, true);
+        assertEquals(10, scheduler.getPeriodMillis());
+        assertEquals(50, scheduler.getPauseMillis());
+
+        for (int i = 0; i < 20; i++) {
+            scheduler.add(datapoint("1/0/" + i), false);
+            scheduler.readCompleted(next(scheduler), 20, true);
+        }
+        assertEquals(0, scheduler.getPauseMillis());
+
+        for (int i = 0; i < 20; i++) {
+            scheduler.add(datapoint("1/1/" + i), false);
+            scheduler.readCompleted(next(scheduler), 0, false);
+        }
+        assertEquals(50, scheduler.getPauseMillis());
+    }
+
+    @Test
+    void fixedPauseIsNotAdapted() throws KNXFormatException {
+        ReadScheduler scheduler = new ReadScheduler(BRIDGE_UID, 50, 3, false);
+        assertEquals(50, scheduler.getPeriodMillis());
+
+        scheduler.add(datapoint("1/0/1"), false);
+        scheduler.readCompleted(next(scheduler), 20, true);
+        assertEquals(50, scheduler.getPauseMillis());
+    }
+
+    private static Datapoint datapoint(String groupAddress) throws KNXFormatException {
+        return new CommandDP(new GroupAddress(groupAddress), "test");
+    }
+
+    private static ReadDatapoint next(ReadScheduler scheduler) {
+        return Objects.requireNonNull(scheduler.next());
+    }
+}
@@ -30,8 +30,11 @@ import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.HSBType;
 import org.openhab.core.library.types.IncreaseDecreaseType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.types.UpDownType;
 import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.library.unit.Units;
 import org.openhab.core.util.ColorUtil;
@@ -75,6 +78,30 @@ class DPTTest {
         assertNotNull(ValueEncoder.encode(new DecimalType(), "1.001"));
     }
 
+    @Test
+    public void dpt1ValueFromBytes() {
+        assertEquals(OnOffType.ON, ValueDecoder.decode("1.001", new byte[] { 1 }, OnOffType.class));
+        // translators are reused, the previous value must not leak into the next one
+        assertEquals(OnOffType.OFF, ValueDecoder.decode("1.001", new byte[] { 0 }, OnOffType.class));
+        assertEquals(OpenClosedType.OPEN, ValueDecoder.decode("1.001", new byte[] { 1 }, OpenClosedType.class));
+        assertEquals(UpDownType.DOWN, ValueDecoder.decode("1.008", new byte[] { 1 }, UpDownType.class));
+        assertEquals(OpenClosedType.CLOSED, ValueDecoder.decode("1.009", new byte[] { 0 }, OpenClosedType.class));
+        assertEquals(new DecimalType(1), ValueDecoder.decode("1.022", new byte[] { 1 }, DecimalType.class));
+    }
+
+    @Test
+    public void dpt5ValueFromBytes() {
+        QuantityType<?> unscaled = (QuantityType<?>) ValueDecoder.decode("5.004", new byte[] { (byte) 200 },
+                QuantityType.class);
+        assertNotNull(unscaled);
+        assertEquals(200.0, unscaled.doubleValue());
+        QuantityType<?> scaled = (QuantityType<?>) ValueDecoder.decode("5.001", new byte[] { (byte) 0xff },
+                QuantityType.class);
+        assertNotNull(scaled);
+        assertEquals(100.0, scaled.doubleValue());
+        assertEquals(new DecimalType(42), ValueDecoder.decode("5.010", new byte[] { 42 }, DecimalType.class));
+    }
+
     @Test
     public void dpt3Value() {
         // unknown subtype
@@ -13,6 +13,7 @@
 package org.openhab.binding.matter.internal.client;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -32,6 +33,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -50,9 +52,7 @@ import org.openhab.binding.matter.internal.client.dto.ws.AttributeChangedMessage
 import org.openhab.binding.matter.internal.client.dto.ws.BridgeEventAttributeChanged;
 import org.openhab.binding.matter.internal.client.dto.ws.BridgeEventMessage;
 import org.openhab.binding.matter.internal.client.dto.ws.BridgeEventTriggered;
-import org.openhab.binding.matter.internal.client.dto.ws.Event;
 import org.openhab.binding.matter.internal.client.dto.ws.EventTriggeredMessage;
-import org.openhab.binding.matter.internal.client.dto.ws.Message;
 import org.openhab.binding.matter.internal.client.dto.ws.NodeDataMessage;
 import org.openhab.binding.matter.internal.client.dto.ws.NodeStateMessage;
 import org.openhab.binding.matter.internal.client.dto.ws.Path;
@@ -70,13 +70,17 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 /**
  * A client for the Matter WebSocket API for communicating with a Matter controller
@@ -244,139 +248,182 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
     public void onWebSocketText(@Nullable String msg) {
         logger.debug("onWebSocketText {}", msg);
         scheduler.submit(() -> {
-            Message message = gson.fromJson(msg, Message.class);
-            if (message == null) {
+            if (msg == null) {
                 logger.debug("invalid Message");
                 return;
             }
-            if ("response".equals(message.type)) {
-                Response response = gson.fromJson(message.message, Response.class);
-                if (response == null) {
-                    logger.debug("invalid response Message");
+            try {
+                decodeMessage(msg);
+            } catch (IOException | JsonParseException | IllegalStateException e) {
+                logger.debug("invalid Message {}", msg, e);
+            }
+        });
+    }
+
+    /**
+     * Decodes a message in a single pass: the message is read as a stream and its content is decoded directly into
+     * the class selected by the message and event type, without building a JSON tree of the whole message first.
+     * The controller sends the type before the content; if a message does not, its content is buffered until the
+     * type is known.
+     */
+    void decodeMessage(String msg) throws IOException {
+        JsonReader reader = new JsonReader(new StringReader(msg));
+        @Nullable String type = null;
+        @Nullable JsonElement bufferedMessage = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("type".equals(name)) {
+                type = reader.nextString();
+            } else if ("message".equals(name) && type != null) {
+                decodeMessage(type, reader);
+                return;
+            } else if ("message".equals(name)) {
+                bufferedMessage = JsonParser.parseReader(reader);
+            } else {
+                reader.skipValue();
+            }
+        }
+        if (type != null && bufferedMessage != null) {
+            decodeMessage(type, bufferedReader(bufferedMessage));
+        } else {
+            logger.debug("invalid Message");
+        }
+    }
+
+    private void decodeMessage(String type, JsonReader reader) throws IOException {
+        if ("response".equals(type)) {
+            Response response = gson.fromJson(reader, Response.class);
+            if (response == null) {
+                logger.debug("invalid response Message");
+                return;
+            }
+            CompletableFuture<JsonElement> future = pendingRequests.remove(response.id);
+            if (future == null) {
+                logger.debug("no future for response id {}, type {} , did the request timeout?", response.id,
+                        response.type);
+                return;
+            }
+            logger.debug("result type: {} ", response.type);
+            if (response.type != ResponseType.RESULT_SUCCESS) {
+                future.completeExceptionally(
+                        new MatterRequestException(response.error, MatterErrorCode.fromErrorId(response.errorId)));
+            } else {
+                future.complete(response.result);
+            }
+        } else if ("event".equals(type)) {
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                logger.debug("invalid Event");
+                return;
+            }
+            @Nullable String eventType = null;
+            JsonElement bufferedData = JsonNull.INSTANCE;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if ("type".equals(name)) {
+                    eventType = reader.nextString();
+                } else if ("data".equals(name) && eventType != null) {
+                    decodeEvent(eventType, reader);
                     return;
+                } else if ("data".equals(name)) {
+                    bufferedData = JsonParser.parseReader(reader);
+                } else {
+                    reader.skipValue();
                 }
-                CompletableFuture<JsonElement> future = pendingRequests.remove(response.id);
-                if (future == null) {
-                    logger.debug("no future for response id {}, type {} , did the request timeout?", response.id,
-                            response.type);
+            }
+            if (eventType != null) {
+                decodeEvent(eventType, bufferedReader(bufferedData));
+            } else {
+                logger.debug("invalid Event");
+            }
+        }
+    }
+
+    private void decodeEvent(String eventType, JsonReader data) throws IOException {
+        switch (eventType) {
+            case "attributeChanged":
+                AttributeChangedMessage changedMessage = gson.fromJson(data, AttributeChangedMessage.class);
+                if (changedMessage == null) {
+                    logger.debug("invalid AttributeChangedMessage");
                     return;
                 }
-                logger.debug("result type: {} ", response.type);
-                if (response.type != ResponseType.RESULT_SUCCESS) {
-                    future.completeExceptionally(
-                            new MatterRequestException(response.error, MatterErrorCode.fromErrorId(response.errorId)));
-                } else {
-                    future.complete(response.result);
+                notifyListeners(listener -> listener.onEvent(changedMessage));
+                break;
+            case "eventTriggered":
+                EventTriggeredMessage triggeredMessage = gson.fromJson(data, EventTriggeredMessage.class);
+                if (triggeredMessage == null) {
+                    logger.debug("invalid EventTriggeredMessage");
+                    return;
+                }
+                notifyListeners(listener -> listener.onEvent(triggeredMessage));
+                break;
+            case "nodeStateInformation":
+                NodeStateMessage nodeStateMessage = gson.fromJson(data, NodeStateMessage.class);
+                if (nodeStateMessage == null) {
+                    logger.debug("invalid NodeStateMessage");
+                    return;
                 }
-            } else if ("event".equals(message.type)) {
-                Event event = gson.fromJson(message.message, Event.class);
-                if (event == null) {
-                    logger.debug("invalid Event");
+                notifyListeners(listener -> listener.onEvent(nodeStateMessage));
+                break;
+            case "nodeData":
+                // the node structure is only deserialized if a listener asks for it
+                JsonElement nodeJson = JsonParser.parseReader(data);
+                if (!nodeJson.isJsonObject()) {
+                    logger.debug("invalid nodeData");
                     return;
                 }
-                switch (event.type) {
+                NodeDataMessage nodeDataMessage = new NodeDataMessage(() -> gson.fromJson(nodeJson, Node.class));
+                notifyListeners(listener -> listener.onEvent(nodeDataMessage));
+                break;
+            case "bridgeEvent":
+                JsonElement bridgeEventJson = JsonParser.parseReader(data);
+                BridgeEventMessage bridgeEventMessage = gson.fromJson(bridgeEventJson, BridgeEventMessage.class);
+
+                if (bridgeEventMessage == null) {
+                    logger.debug("invalid bridgeEvent");
+                    return;
+                }
+
+                switch (bridgeEventMessage.type) {
                     case "attributeChanged":
-                        logger.debug("attributeChanged message {}", event.data);
-                        AttributeChangedMessage changedMessage = gson.fromJson(event.data,
-                                AttributeChangedMessage.class);
-                        if (changedMessage == null) {
-                            logger.debug("invalid AttributeChangedMessage");
-                            return;
-                        }
-                        for (MatterClientListener listener : clientListeners) {
-                            try {
-                                listener.onEvent(changedMessage);
-                            } catch (Exception e) {
-                                logger.debug("Error notifying listener", e);
-                            }
-                        }
+                        bridgeEventMessage = gson.fromJson(bridgeEventJson, BridgeEventAttributeChanged.class);
                         break;
                     case "eventTriggered":
-                        logger.debug("eventTriggered message {}", event.data);
-                        EventTriggeredMessage triggeredMessage = gson.fromJson(event.data, EventTriggeredMessage.class);
-                        if (triggeredMessage == null) {
-                            logger.debug("invalid EventTriggeredMessage");
-                            return;
-                        }
-                        for (MatterClientListener listener : clientListeners) {
-                            try {
-                                listener.onEvent(triggeredMessage);
-                            } catch (Exception e) {
-                                logger.debug("Error notifying listener", e);
-                            }
-                        }
-                        break;
-                    case "nodeStateInformation":
-                        logger.debug("nodeStateInformation message {}", event.data);
-                        NodeStateMessage nodeStateMessage = gson.fromJson(event.data, NodeStateMessage.class);
-                        if (nodeStateMessage == null) {
-                            logger.debug("invalid NodeStateMessage");
-                            return;
-                        }
-                        for (MatterClientListener listener : clientListeners) {
-                            try {
-                                listener.onEvent(nodeStateMessage);
-                            } catch (Exception e) {
-                                logger.debug("Error notifying listener", e);
-                            }
-                        }
-                        break;
-                    case "nodeData":
-                        logger.debug("nodeData message {}", event.data);
-                        Node node = gson.fromJson(event.data, Node.class);
-                        if (node == null) {
-                            logger.debug("invalid nodeData");
-                            return;
-                        }
-                        for (MatterClientListener listener : clientListeners) {
-                            try {
-                                listener.onEvent(new NodeDataMessage(node));
-                            } catch (Exception e) {
-                                logger.debug("Error notifying listener", e);
-                            }
-                        }
-                        break;
-                    case "bridgeEvent":
-                        logger.debug("bridgeEvent message {}", event.data);
-                        BridgeEventMessage bridgeEventMessage = gson.fromJson(event.data, BridgeEventMessage.class);
-
-                        if (bridgeEventMessage == null) {
-                            logger.debug("invalid bridgeEvent");
-                            return;
-                        }
-
-                        switch (bridgeEventMessage.type) {
-                            case "attributeChanged":
-                                bridgeEventMessage = gson.fromJson(event.data, BridgeEventAttributeChanged.class);
-                                break;
-                            case "eventTriggered":
-                                bridgeEventMessage = gson.fromJson(event.data, BridgeEventTriggered.class);
-                                break;
-                        }
-
-                        if (bridgeEventMessage == null) {
-                            logger.debug("invalid bridgeEvent subtype");
-                            return;
-                        }
-
-                        for (MatterClientListener listener : clientListeners) {
-                            try {
-                                listener.onEvent(bridgeEventMessage);
-                            } catch (Exception e) {
-                                logger.debug("Error notifying listener", e);
-                            }
-                        }
-                        break;
-                    case "ready":
-                        for (MatterClientListener listener : clientListeners) {
-                            listener.onReady();
-                        }
-                        break;
-                    default:
+                        bridgeEventMessage = gson.fromJson(bridgeEventJson, BridgeEventTriggered.class);
                         break;
                 }
+
+                if (bridgeEventMessage == null) {
+                    logger.debug("invalid bridgeEvent subtype");
+                    return;
+                }
+
+                BridgeEventMessage finalBridgeEventMessage = bridgeEventMessage;
+                notifyListeners(listener -> listener.onEvent(finalBridgeEventMessage));
+                break;
+            case "ready":
+                for (MatterClientListener listener : clientListeners) {
+                    listener.onReady();
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void notifyListeners(Consumer<MatterClientListener> notification) {
+        for (MatterClientListener listener : clientListeners) {
+            try {
+                notification.accept(listener);
+            } catch (Exception e) {
+                logger.debug("Error notifying listener", e);
             }
-        });
+        }
+    }
+
+    private JsonReader bufferedReader(JsonElement element) {
+        return new JsonReader(new StringReader(element.toString()));
     }
 
     @Override
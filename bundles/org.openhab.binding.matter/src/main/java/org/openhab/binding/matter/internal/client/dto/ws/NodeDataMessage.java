@@ -12,18 +12,36 @@
  */
 package org.openhab.binding.matter.internal.client.dto.ws;
 
+import java.util.function.Supplier;
+
 import org.openhab.binding.matter.internal.client.dto.Node;
 
 /**
  * NodeDataMessage
  *
+ * The node is deserialized when it is first requested, so listeners which are not interested in the node structure
+ * do not pay for it.
+ *
  * @author Dan Cunningham - Initial contribution
  */
 public class NodeDataMessage {
 
-    public Node node;
+    private final Supplier<Node> nodeSupplier;
+    private Node node;
 
     public NodeDataMessage(Node node) {
         this.node = node;
+        this.nodeSupplier = () -> node;
+    }
+
+    public NodeDataMessage(Supplier<Node> nodeSupplier) {
+        this.nodeSupplier = nodeSupplier;
+    }
+
+    public synchronized Node getNode() {
+        if (node == null) {
+            node = nodeSupplier.get();
+        }
+        return node;
     }
 }
@@ -242,8 +242,9 @@ public class ControllerHandler extends BaseBridgeHandler implements MatterClient
 
     @Override
     public void onEvent(NodeDataMessage message) {
-        logger.debug("NodeDataMessage onEvent: node {} is {}", message.node.id, message.node);
-        updateNode(message.node);
+        Node node = message.getNode();
+        logger.debug("NodeDataMessage onEvent: node {} is {}", node.id, node);
+        updateNode(node);
     }
 
     @Override
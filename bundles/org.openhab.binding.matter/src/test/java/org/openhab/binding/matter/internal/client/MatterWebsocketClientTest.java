@@ -14,12 +14,20 @@ package org.openhab.binding.matter.internal.client;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
+import java.io.IOException;
 import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.openhab.binding.matter.internal.client.dto.Endpoint;
 import org.openhab.binding.matter.internal.client.dto.Node;
 import org.openhab.binding.matter.internal.client.dto.cluster.gen.DescriptorCluster;
@@ -28,9 +36,11 @@ import org.openhab.binding.matter.internal.client.dto.cluster.gen.OccupancySensi
 import org.openhab.binding.matter.internal.client.dto.cluster.gen.OnOffCluster;
 import org.openhab.binding.matter.internal.client.dto.ws.AttributeChangedMessage;
 import org.openhab.binding.matter.internal.client.dto.ws.EventTriggeredMessage;
-import org.openhab.binding.matter.internal.client.dto.ws.Message;
+import org.openhab.binding.matter.internal.client.dto.ws.NodeDataMessage;
 
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 
 /**
  * Test class for the MatterWebsocketClient class.
@@ -136,9 +146,9 @@ class MatterWebsocketClientTest {
                     }
                 }
                 """;
-        Message message = client.getGson().fromJson(json, Message.class);
+        JsonObject message = JsonParser.parseString(json).getAsJsonObject();
         assertNotNull(message);
-        assertEquals("response", message.type);
+        assertEquals("response", message.get("type").getAsString());
     }
 
     @Test
@@ -170,10 +180,10 @@ class MatterWebsocketClientTest {
                     }
                 }
                 """;
-        Message message = client.getGson().fromJson(json, Message.class);
+        JsonObject message = JsonParser.parseString(json).getAsJsonObject();
         assertNotNull(message);
-        JsonObject descriptorJson = message.message.getAsJsonObject("result").getAsJsonObject("rootEndpoint")
-                .getAsJsonObject("clusters").getAsJsonObject("Descriptor");
+        JsonObject descriptorJson = message.getAsJsonObject("message").getAsJsonObject("result")
+                .getAsJsonObject("rootEndpoint").getAsJsonObject("clusters").getAsJsonObject("Descriptor");
         DescriptorCluster descriptorCluster = client.getGson().fromJson(descriptorJson, DescriptorCluster.class);
         assertNotNull(descriptorCluster);
         assertEquals(29, DescriptorCluster.CLUSTER_ID);
@@ -216,10 +226,10 @@ class MatterWebsocketClientTest {
                     }
                 }
                 """;
-        Message message = client.getGson().fromJson(json, Message.class);
+        JsonObject message = JsonParser.parseString(json).getAsJsonObject();
         assertNotNull(message);
-        JsonObject onOffClusterJson = message.message.getAsJsonObject("result").getAsJsonObject("endpoints")
-                .getAsJsonObject("1").getAsJsonObject("clusters").getAsJsonObject("OnOff");
+        JsonObject onOffClusterJson = message.getAsJsonObject("message").getAsJsonObject("result")
+                .getAsJsonObject("endpoints").getAsJsonObject("1").getAsJsonObject("clusters").getAsJsonObject("OnOff");
         OnOffCluster onOffCluster = client.getGson().fromJson(onOffClusterJson, OnOffCluster.class);
         assertNotNull(onOffCluster);
         assertEquals(6, onOffCluster.id);
@@ -270,10 +280,11 @@ class MatterWebsocketClientTest {
                     }
                 }
                 """;
-        Message message = client.getGson().fromJson(json, Message.class);
+        JsonObject message = JsonParser.parseString(json).getAsJsonObject();
         assertNotNull(message);
-        JsonObject levelControlClusterJson = message.message.getAsJsonObject("result").getAsJsonObject("endpoints")
-                .getAsJsonObject("1").getAsJsonObject("clusters").getAsJsonObject("LevelControl");
+        JsonObject levelControlClusterJson = message.getAsJsonObject("message").getAsJsonObject("result")
+                .getAsJsonObject("endpoints").getAsJsonObject("1").getAsJsonObject("clusters")
+                .getAsJsonObject("LevelControl");
 
         LevelControlCluster levelControlCluster = client.getGson().fromJson(levelControlClusterJson,
                 LevelControlCluster.class);
@@ -313,4 +324,115 @@ class MatterWebsocketClientTest {
         assertNotNull(occupancyBitmap);
         assertEquals(true, occupancyBitmap.occupied);
     }
+
+    @Test
+    void testDecodeAttributeChangedEvent() throws IOException {
+        MatterClientListener listener = mock(MatterClientListener.class);
+        client.addListener(listener);
+        client.decodeMessage("""
+                {
+                    "type": "event",
+                    "message": {
+                        "type": "attributeChanged",
+                        "data": {
+                            "path": {
+                                "nodeId": "4643639431978709653",
+                                "endpointId": 6,
+                                "clusterId": 1030,
+                                "attributeId": 0,
+                                "attributeName": "occupancy"
+                            },
+                            "version": 2038225370,
+                            "value": {
+                                "occupied": true
+                            }
+                        }
+                    }
+                }
+                """);
+        ArgumentCaptor<AttributeChangedMessage> captor = ArgumentCaptor.forClass(AttributeChangedMessage.class);
+        verify(listener).onEvent(captor.capture());
+        AttributeChangedMessage message = captor.getValue();
+        assertEquals("occupancy", message.path.attributeName);
+        assertEquals(6, message.path.endpointId);
+        assertTrue(((OccupancySensingCluster.OccupancyBitmap) message.value).occupied);
+    }
+
+    @Test
+    void testDecodeEventWithTypeAfterData() throws IOException {
+        MatterClientListener listener = mock(MatterClientListener.class);
+        client.addListener(listener);
+        client.decodeMessage("""
+                {
+                    "message": {
+                        "data": {
+                            "path": {
+                                "clusterId": 1,
+                                "attributeName": "testAttribute"
+                            },
+                            "version": 1,
+                            "value": "testValue"
+                        },
+                        "type": "attributeChanged"
+                    },
+                    "type": "event"
+                }
+                """);
+        ArgumentCaptor<AttributeChangedMessage> captor = ArgumentCaptor.forClass(AttributeChangedMessage.class);
+        verify(listener).onEvent(captor.capture());
+        assertEquals("testAttribute", captor.getValue().path.attributeName);
+        assertEquals("testValue", captor.getValue().value);
+    }
+
+    @Test
+    void testDecodeNodeDataEvent() throws IOException {
+        MatterClientListener listener = mock(MatterClientListener.class);
+        client.addListener(listener);
+        client.decodeMessage("""
+                {
+                    "type": "event",
+                    "message": {
+                        "type": "nodeData",
+                        "data": {
+                            "id": "1234567890",
+                            "rootEndpoint": {
+                                "number": 0,
+                                "clusters": {
+                                    "Descriptor": {
+                                        "id": 29,
+                                        "name": "Descriptor"
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+                """);
+        ArgumentCaptor<NodeDataMessage> captor = ArgumentCaptor.forClass(NodeDataMessage.class);
+        verify(listener).onEvent(captor.capture());
+        verify(listener, never()).onEvent(any(AttributeChangedMessage.class));
+        Node node = captor.getValue().getNode();
+        assertEquals(new BigInteger("1234567890"), node.id);
+        assertEquals(1, node.rootEndpoint.clusters.size());
+    }
+
+    @Test
+    void testDecodeResponse() throws IOException {
+        CompletableFuture<JsonElement> future = new CompletableFuture<>();
+        client.pendingRequests.put("example-id", future);
+        client.decodeMessage("""
+                {
+                    "type": "response",
+                    "message": {
+                        "type": "resultSuccess",
+                        "id": "example-id",
+                        "result": {
+                            "id": "8507467286360628650"
+                        }
+                    }
+                }
+                """);
+        assertTrue(future.isDone());
+        assertEquals("8507467286360628650", future.join().getAsJsonObject().get("id").getAsString());
+    }
 }
@@ -22,7 +22,10 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.modbus.internal.AtomicStampedValue;
 import org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal;
+import org.openhab.binding.modbus.internal.ModbusPollMerger;
+import org.openhab.binding.modbus.internal.ModbusPollMerger.Registration;
 import org.openhab.binding.modbus.internal.config.ModbusPollerConfiguration;
+import org.openhab.binding.modbus.internal.handler.AbstractModbusEndpointThingHandler;
 import org.openhab.binding.modbus.internal.handler.ModbusDataThingHandler;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
 import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
@@ -189,6 +192,8 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     private @NonNullByDefault({}) ModbusPollerConfiguration config;
     private long cacheMillis;
     private volatile @Nullable PollTask pollTask;
+    private volatile @Nullable ModbusPollMerger pollMerger;
+    private volatile @Nullable Registration pollRegistration;
     private volatile @Nullable ModbusReadRequestBlueprint request;
     private volatile boolean disposed;
     private volatile List<ModbusDataThingHandler> childCallbacks = new CopyOnWriteArrayList<>();
@@ -312,7 +317,15 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             logger.debug("Unregistering polling from ModbusManager");
             comms.unregisterRegularPoll(localPollTask);
         }
+        ModbusPollMerger localPollMerger = this.pollMerger;
+        Registration localPollRegistration = this.pollRegistration;
+        if (localPollMerger != null && localPollRegistration != null) {
+            logger.debug("Unregistering polling from endpoint poll merger");
+            localPollMerger.unregister(localPollRegistration);
+        }
         this.pollTask = null;
+        this.pollMerger = null;
+        this.pollRegistration = null;
         request = null;
         comms = null;
         updateStatus(ThingStatus.OFFLINE);
@@ -327,7 +340,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     @SuppressWarnings("null")
     private synchronized void registerPollTask() throws EndpointNotInitializedException {
         logger.trace("registerPollTask()");
-        if (pollTask != null) {
+        if (pollTask != null || pollRegistration != null) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR);
             logger.debug("pollTask should be unregistered before registering a new one!");
             return;
@@ -361,10 +374,21 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             logger.debug("Not registering polling with ModbusManager since refresh disabled");
             updateStatus(ThingStatus.ONLINE, ThingStatusDetail.NONE, "Not polling");
         } else {
-            logger.debug("Registering polling with ModbusManager");
-            pollTask = localComms.registerRegularPoll(localRequest, config.getRefresh(), 0, callbackDelegator,
-                    callbackDelegator);
-            assert pollTask != null;
+            ModbusPollMerger localPollMerger = null;
+            if (slaveEndpointThingHandler instanceof AbstractModbusEndpointThingHandler<?, ?> endpointHandler) {
+                localPollMerger = endpointHandler.getPollMerger();
+            }
+            if (localPollMerger != null) {
+                logger.debug("Registering polling with endpoint poll merger");
+                pollRegistration = localPollMerger.register(localRequest, config.getRefresh(), callbackDelegator,
+                        callbackDelegator);
+                pollMerger = localPollMerger;
+            } else {
+                logger.debug("Registering polling with ModbusManager");
+                pollTask = localComms.registerRegularPoll(localRequest, config.getRefresh(), 0, callbackDelegator,
+                        callbackDelegator);
+                assert pollTask != null;
+            }
             updateStatus(ThingStatus.ONLINE);
         }
     }
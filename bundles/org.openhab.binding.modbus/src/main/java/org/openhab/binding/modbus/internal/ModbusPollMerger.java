@@ -0,0 +1,362 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.openhab.core.io.transport.modbus.exception.ModbusSlaveErrorResponseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Merges the regular polls of the pollers of an endpoint into as few read requests as possible.
+ *
+ * Polls with the same slave id, function code and refresh interval are sorted by their start address, and merged into
+ * one request as long as the gap between them is within the gap tolerance, and the merged request is within the
+ * protocol limits ({@link ModbusConstants#MAX_REGISTERS_READ_COUNT} registers,
+ * {@link ModbusConstants#MAX_BITS_READ_COUNT} coils or discrete inputs). The response of a merged request is sliced
+ * back to the polls, so each poller receives a result for its own request.
+ *
+ * The polls are planned again shortly after a poll was registered or unregistered, so that pollers initialized
+ * together result in one plan.
+ *
+ * If the slave answers a merged request with a Modbus exception response, e.g. because the merged range contains an
+ * undefined register, its polls are not merged anymore and are planned again as separate requests.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPollMerger {
+
+    private static final long REPLAN_DELAY_MILLIS = 500;
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusPollMerger.class);
+
+    private final ModbusCommunicationInterface comms;
+    private final ScheduledExecutorService scheduler;
+    private final int gapTolerance;
+
+    // guarded by this
+    private final List<Registration> registrations = new ArrayList<>();
+    private final Set<Registration> separateRegistrations = new HashSet<>();
+    private final List<PollTask> pollTasks = new ArrayList<>();
+    private @Nullable ScheduledFuture<?> replanJob;
+    private boolean closed;
+    private double requestsSavedPerSecond;
+
+    /**
+     * A regular poll registered by a poller.
+     */
+    public static class Registration {
+        private final ModbusReadRequestBlueprint request;
+        private final long refreshMillis;
+        private final ModbusReadCallback resultCallback;
+        private final ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback;
+
+        Registration(ModbusReadRequestBlueprint request, long refreshMillis, ModbusReadCallback resultCallback,
+                ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+            this.request = request;
+            this.refreshMillis = refreshMillis;
+            this.resultCallback = resultCallback;
+            this.failureCallback = failureCallback;
+        }
+
+        public ModbusReadRequestBlueprint getRequest() {
+            return request;
+        }
+
+        void handle(AsyncModbusReadResult result) {
+            resultCallback.handle(result);
+        }
+
+        void handle(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+            failureCallback.handle(failure);
+        }
+    }
+
+    /**
+     * A read request covering the polls of one or more registrations, which hands the slices of its response to them.
+     */
+    static class MergedPoll implements ModbusReadCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> {
+        private final ModbusReadRequestBlueprint request;
+        private final long refreshMillis;
+        private final List<Registration> registrations;
+
+        MergedPoll(ModbusReadRequestBlueprint request, long refreshMillis, List<Registration> registrations) {
+            this.request = request;
+            this.refreshMillis = refreshMillis;
+            this.registrations = registrations;
+        }
+
+        ModbusReadRequestBlueprint getRequest() {
+            return request;
+        }
+
+        List<Registration> getRegistrations() {
+            return registrations;
+        }
+
+        @Override
+        public void handle(AsyncModbusReadResult result) {
+            if (registrations.size() == 1) {
+                registrations.get(0).handle(result);
+                return;
+            }
+            Optional<ModbusRegisterArray> registers = result.getRegisters();
+            Optional<BitArray> bits = result.getBits();
+            for (Registration registration : registrations) {
+                ModbusReadRequestBlueprint registrationRequest = registration.getRequest();
+                int offset = registrationRequest.getReference() - request.getReference();
+                int length = registrationRequest.getDataLength();
+                if (registers.isPresent() && offset + length <= registers.get().size()) {
+                    byte[] bytes = Arrays.copyOfRange(registers.get().getBytes(), offset * 2, (offset + length) * 2);
+                    registration.handle(new AsyncModbusReadResult(registrationRequest, new ModbusRegisterArray(bytes)));
+                } else if (bits.isPresent() && offset + length <= bits.get().size()) {
+                    BitArray slice = new BitArray(length);
+                    for (int i = 0; i < length; i++) {
+                        slice.setBit(i, bits.get().getBit(offset + i));
+                    }
+                    registration.handle(new AsyncModbusReadResult(registrationRequest, slice));
+                } else {
+                    registration.handle(new AsyncModbusFailure<>(registrationRequest, new IllegalStateException(
+                            String.format("Response of merged request %s is too short", request))));
+                }
+            }
+        }
+
+        @Override
+        public void handle(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+            for (Registration registration : registrations) {
+                registration.handle(new AsyncModbusFailure<>(registration.getRequest(), failure.getCause()));
+            }
+        }
+    }
+
+    private record GroupKey(int slaveId, ModbusReadFunctionCode functionCode, long refreshMillis) {
+    }
+
+    /**
+     * @param comms communication interface of the endpoint
+     * @param scheduler scheduler for planning the polls
+     * @param gapTolerance maximum number of unused registers or bits between two merged polls
+     */
+    public ModbusPollMerger(ModbusCommunicationInterface comms, ScheduledExecutorService scheduler, int gapTolerance) {
+        this.comms = comms;
+        this.scheduler = scheduler;
+        this.gapTolerance = Math.max(0, gapTolerance);
+    }
+
+    /**
+     * Register a regular poll.
+     *
+     * @param request request to poll
+     * @param refreshMillis poll interval in milliseconds
+     * @param resultCallback callback for the results of the request
+     * @param failureCallback callback for the failures of the request
+     * @return the registration, for unregistering the poll
+     */
+    public synchronized Registration register(ModbusReadRequestBlueprint request, long refreshMillis,
+            ModbusReadCallback resultCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+        Registration registration = new Registration(request, refreshMillis, resultCallback, failureCallback);
+        registrations.add(registration);
+        scheduleReplan();
+        return registration;
+    }
+
+    /**
+     * Unregister a regular poll.
+     *
+     * @param registration the registration returned by
+     *            {@link #register(ModbusReadRequestBlueprint, long, ModbusReadCallback, ModbusFailureCallback)}
+     */
+    public synchronized void unregister(Registration registration) {
+        if (registrations.remove(registration)) {
+            separateRegistrations.remove(registration);
+            scheduleReplan();
+        }
+    }
+
+    /**
+     * Unregister all polls from the communication interface.
+     */
+    public synchronized void close() {
+        closed = true;
+        ScheduledFuture<?> localReplanJob = replanJob;
+        if (localReplanJob != null) {
+            localReplanJob.cancel(false);
+            replanJob = null;
+        }
+        unregisterPollTasks();
+        registrations.clear();
+        separateRegistrations.clear();
+    }
+
+    /**
+     * @return the number of read requests per second that are saved by merging polls
+     */
+    public synchronized double getRequestsSavedPerSecond() {
+        return requestsSavedPerSecond;
+    }
+
+    private void scheduleReplan() {
+        if (!closed && replanJob == null) {
+            replanJob = scheduler.schedule(this::replan, REPLAN_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void replan() {
+        replanJob = null;
+        if (closed) {
+            return;
+        }
+        unregisterPollTasks();
+        List<MergedPoll> mergedPolls = plan(registrations, separateRegistrations, gapTolerance);
+        double requestsPerSecond = 0;
+        double mergedRequestsPerSecond = 0;
+        for (MergedPoll mergedPoll : mergedPolls) {
+            pollTasks.add(comms.registerRegularPoll(mergedPoll.request, mergedPoll.refreshMillis, 0, mergedPoll,
+                    failure -> handleFailure(mergedPoll, failure)));
+            requestsPerSecond += mergedPoll.registrations.size() * 1000.0 / mergedPoll.refreshMillis;
+            mergedRequestsPerSecond += 1000.0 / mergedPoll.refreshMillis;
+        }
+        requestsSavedPerSecond = requestsPerSecond - mergedRequestsPerSecond;
+        logger.debug("Merged {} polls into {} requests to {}, saving {} requests per second", registrations.size(),
+                mergedPolls.size(), comms.getEndpoint(), String.format("%.2f", requestsSavedPerSecond));
+    }
+
+    private void handleFailure(MergedPoll mergedPoll, AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+        if (mergedPoll.registrations.size() > 1 && failure.getCause() instanceof ModbusSlaveErrorResponseException) {
+            // the polls may well succeed on their own, so do not report the failure to them
+            separate(mergedPoll, failure.getCause());
+        } else {
+            mergedPoll.handle(failure);
+        }
+    }
+
+    private synchronized void separate(MergedPoll mergedPoll, Exception cause) {
+        if (closed) {
+            return;
+        }
+        logger.debug("Merged request {} to {} failed with an exception response ({}), polling its {} polls separately",
+                mergedPoll.request, comms.getEndpoint(), cause.getMessage(), mergedPoll.registrations.size());
+        for (Registration registration : mergedPoll.registrations) {
+            if (registrations.contains(registration)) {
+                separateRegistrations.add(registration);
+            }
+        }
+        scheduleReplan();
+    }
+
+    private void unregisterPollTasks() {
+        pollTasks.forEach(comms::unregisterRegularPoll);
+        pollTasks.clear();
+    }
+
+    /**
+     * Plan the read requests for the given polls.
+     *
+     * @param registrations the polls
+     * @param separateRegistrations the polls that are not merged with other polls
+     * @param gapTolerance maximum number of unused registers or bits between two merged polls
+     * @return the read requests, each with the polls it covers
+     */
+    static List<MergedPoll> plan(Collection<Registration> registrations, Set<Registration> separateRegistrations,
+            int gapTolerance) {
+        List<MergedPoll> mergedPolls = new ArrayList<>();
+        Map<GroupKey, List<Registration>> groups = new LinkedHashMap<>();
+        for (Registration registration : registrations) {
+            ModbusReadRequestBlueprint request = registration.getRequest();
+            if (separateRegistrations.contains(registration)) {
+                mergedPolls.add(new MergedPoll(request, registration.refreshMillis, List.of(registration)));
+                continue;
+            }
+            groups.computeIfAbsent(
+                    new GroupKey(request.getUnitID(), request.getFunctionCode(), registration.refreshMillis),
+                    key -> new ArrayList<>()).add(registration);
+        }
+
+        for (Map.Entry<GroupKey, List<Registration>> group : groups.entrySet()) {
+            GroupKey key = group.getKey();
+            int maxLength = switch (key.functionCode()) {
+                case READ_COILS, READ_INPUT_DISCRETES -> ModbusConstants.MAX_BITS_READ_COUNT;
+                default -> ModbusConstants.MAX_REGISTERS_READ_COUNT;
+            };
+            List<Registration> sorted = new ArrayList<>(group.getValue());
+            sorted.sort(Comparator.comparingInt((Registration r) -> r.getRequest().getReference())
+                    .thenComparingInt(r -> r.getRequest().getDataLength()));
+
+            List<Registration> current = new ArrayList<>();
+            int start = 0;
+            int end = 0;
+            for (Registration registration : sorted) {
+                int registrationStart = registration.getRequest().getReference();
+                int registrationEnd = registrationStart + registration.getRequest().getDataLength();
+                int mergedEnd = Math.max(end, registrationEnd);
+                if (!current.isEmpty() && registrationStart <= end + gapTolerance
+                        && mergedEnd - start <= maxLength) {
+                    current.add(registration);
+                    end = mergedEnd;
+                } else {
+                    if (!current.isEmpty()) {
+                        mergedPolls.add(mergedPoll(key, current, start, end));
+                    }
+                    current = new ArrayList<>();
+                    current.add(registration);
+                    start = registrationStart;
+                    end = registrationEnd;
+                }
+            }
+            if (!current.isEmpty()) {
+                mergedPolls.add(mergedPoll(key, current, start, end));
+            }
+        }
+        return mergedPolls;
+    }
+
+    private static MergedPoll mergedPoll(GroupKey key, List<Registration> registrations, int start, int end) {
+        ModbusReadRequestBlueprint request;
+        if (registrations.size() == 1) {
+            request = registrations.get(0).getRequest();
+        } else {
+            int maxTries = registrations.stream().mapToInt(r -> r.getRequest().getMaxTries()).max().orElse(1);
+            request = new ModbusReadRequestBlueprint(key.slaveId(), key.functionCode(), start, end - start,
+                    maxTries);
+        }
+        return new MergedPoll(request, key.refreshMillis(), List.copyOf(registrations));
+    }
+}
@@ -39,6 +39,8 @@ public class ModbusSerialConfiguration {
     private int afterConnectionDelayMillis;
     private int connectTimeoutMillis = 10_000;
     private boolean enableDiscovery;
+    private boolean mergePolls;
+    private int mergeGapTolerance;
 
     public @Nullable String getPort() {
         return port;
@@ -167,4 +169,20 @@ public class ModbusSerialConfiguration {
     public void setDiscoveryEnabled(boolean enableDiscovery) {
         this.enableDiscovery = enableDiscovery;
     }
+
+    public boolean isMergePolls() {
+        return mergePolls;
+    }
+
+    public void setMergePolls(boolean mergePolls) {
+        this.mergePolls = mergePolls;
+    }
+
+    public int getMergeGapTolerance() {
+        return mergeGapTolerance;
+    }
+
+    public void setMergeGapTolerance(int mergeGapTolerance) {
+        this.mergeGapTolerance = mergeGapTolerance;
+    }
 }
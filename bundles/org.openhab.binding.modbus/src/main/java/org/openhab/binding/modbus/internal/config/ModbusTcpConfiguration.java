@@ -33,6 +33,8 @@ public class ModbusTcpConfiguration {
     private int afterConnectionDelayMillis;
     private int connectTimeoutMillis = 10_000;
     private boolean enableDiscovery;
+    private boolean mergePolls;
+    private int mergeGapTolerance;
     private boolean rtuEncoded;
 
     public boolean getRtuEncoded() {
@@ -118,4 +120,20 @@ public class ModbusTcpConfiguration {
     public void setDiscoveryEnabled(boolean enableDiscovery) {
         this.enableDiscovery = enableDiscovery;
     }
+
+    public boolean isMergePolls() {
+        return mergePolls;
+    }
+
+    public void setMergePolls(boolean mergePolls) {
+        this.mergePolls = mergePolls;
+    }
+
+    public int getMergeGapTolerance() {
+        return mergeGapTolerance;
+    }
+
+    public void setMergeGapTolerance(int mergeGapTolerance) {
+        this.mergeGapTolerance = mergeGapTolerance;
+    }
 }
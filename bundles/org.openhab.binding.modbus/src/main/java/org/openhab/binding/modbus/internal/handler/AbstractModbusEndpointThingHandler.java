@@ -17,6 +17,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.modbus.handler.EndpointNotInitializedException;
 import org.openhab.binding.modbus.handler.ModbusEndpointThingHandler;
 import org.openhab.binding.modbus.internal.ModbusConfigurationException;
+import org.openhab.binding.modbus.internal.ModbusPollMerger;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
 import org.openhab.core.io.transport.modbus.ModbusManager;
 import org.openhab.core.io.transport.modbus.endpoint.EndpointPoolConfiguration;
@@ -46,8 +47,11 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
     protected volatile @Nullable E endpoint;
     protected ModbusManager modbusManager;
     protected volatile @NonNullByDefault({}) EndpointPoolConfiguration poolConfiguration;
+    protected volatile boolean mergePolls;
+    protected volatile int mergeGapTolerance;
     private final Logger logger = LoggerFactory.getLogger(AbstractModbusEndpointThingHandler.class);
     private @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private volatile @Nullable ModbusPollMerger pollMerger;
 
     public AbstractModbusEndpointThingHandler(Bridge bridge, ModbusManager modbusManager) {
         super(bridge);
@@ -76,6 +80,7 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
                 }
                 try {
                     comms = modbusManager.newModbusCommunicationInterface(endpoint, poolConfiguration);
+                    pollMerger = mergePolls ? new ModbusPollMerger(comms, scheduler, mergeGapTolerance) : null;
                     updateStatus(ThingStatus.ONLINE);
                 } catch (IllegalArgumentException e) {
                     updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
@@ -93,6 +98,11 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
 
     @Override
     public void dispose() {
+        ModbusPollMerger localPollMerger = pollMerger;
+        if (localPollMerger != null) {
+            localPollMerger.close();
+            pollMerger = null;
+        }
         try {
             ModbusCommunicationInterface localComms = comms;
             if (localComms != null) {
@@ -110,6 +120,15 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
         return comms;
     }
 
+    /**
+     * Get the merger of the regular polls of the pollers of this endpoint
+     *
+     * @return poll merger, or <code>null</code> if merging polls is disabled or the initialization is not complete
+     */
+    public @Nullable ModbusPollMerger getPollMerger() {
+        return pollMerger;
+    }
+
     @Nullable
     public E getEndpoint() {
         return endpoint;
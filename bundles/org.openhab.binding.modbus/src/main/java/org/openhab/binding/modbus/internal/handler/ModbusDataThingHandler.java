@@ -17,6 +17,8 @@ import static org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -119,6 +121,69 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     // data channels + 4 for read/write last error/success
     private static final int NUMER_OF_CHANNELS_HINT = CHANNEL_ID_TO_ACCEPTED_TYPES.size() + 4;
 
+    /**
+     * Read processing of this thing, precomputed from the read parameters and the linked channels, so that polls only
+     * handle the linked channels and do not extract the value again if its registers did not change.
+     */
+    private static class ReadPlan {
+        private final List<ReadChannel> channels;
+        private final @Nullable ChannelUID lastReadSuccessUID;
+        // index of the value for ModbusBitUtilities.extractStateFromRegisters
+        private final int extractIndex;
+        // registers holding the value, relative to the poll start
+        private final int firstRegister;
+        private final int registerCount;
+        // registers of the last value, and the numeric state extracted from them
+        private int @Nullable [] lastRegisters;
+        private @Nullable State lastNumericState;
+
+        ReadPlan(List<ReadChannel> channels, @Nullable ChannelUID lastReadSuccessUID, int extractIndex,
+                int firstRegister, int registerCount) {
+            this.channels = channels;
+            this.lastReadSuccessUID = lastReadSuccessUID;
+            this.extractIndex = extractIndex;
+            this.firstRegister = firstRegister;
+            this.registerCount = registerCount;
+        }
+
+        /**
+         * @return the registers holding the value, or <code>null</code> if they are not within the polled registers
+         */
+        int @Nullable [] valueRegisters(ModbusRegisterArray registers) {
+            if (firstRegister < 0 || firstRegister + registerCount > registers.size()) {
+                return null;
+            }
+            int[] values = new int[registerCount];
+            for (int i = 0; i < registerCount; i++) {
+                values[i] = registers.getRegister(firstRegister + i);
+            }
+            return values;
+        }
+    }
+
+    /**
+     * A linked data channel of this thing
+     */
+    private static class ReadChannel {
+        private final ChannelUID uid;
+        private final String channelId;
+        private final List<Class<? extends State>> acceptedDataTypes;
+        // states for ON/OFF and OPEN/CLOSED with boolean like items, null for other channels
+        private final @Nullable State trueState;
+        private final @Nullable State falseState;
+        // last state of the channel, reused with identity transformation when the value did not change
+        private @Nullable State lastState;
+
+        ReadChannel(ChannelUID uid, String channelId, List<Class<? extends State>> acceptedDataTypes,
+                @Nullable State trueState, @Nullable State falseState) {
+            this.uid = uid;
+            this.channelId = channelId;
+            this.acceptedDataTypes = acceptedDataTypes;
+            this.trueState = trueState;
+            this.falseState = falseState;
+        }
+    }
+
     //
     // If you change the below default/initial values, please update the corresponding values in dispose()
     //
@@ -145,6 +210,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     private volatile Map<String, ChannelUID> channelCache = new HashMap<>();
     private volatile Map<ChannelUID, Long> channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
     private volatile Map<ChannelUID, State> channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
+    private volatile @Nullable ReadPlan readPlan;
 
     private volatile LocalDateTime lastStatusInfoUpdate = LocalDateTime.MIN;
     private volatile ThingStatusInfo statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE,
@@ -395,6 +461,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         // Long running initialization should be done asynchronously in background.
         try {
             logger.trace("initialize() of thing {} '{}' starting", thing.getUID(), thing.getLabel());
+            readPlan = null;
             ModbusDataConfiguration localConfig = config = getConfigAs(ModbusDataConfiguration.class);
             updateUnchangedValuesEveryMillis = localConfig.getUpdateUnchangedValuesEveryMillis();
             Bridge bridge = getBridge();
@@ -480,6 +547,20 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE, null);
         channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
         channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
+        readPlan = null;
+    }
+
+    @Override
+    public synchronized void channelLinked(ChannelUID channelUID) {
+        // linked channels are part of the read plan, synchronized so that a plan being built during a poll is dropped
+        readPlan = null;
+        super.channelLinked(channelUID);
+    }
+
+    @Override
+    public synchronized void channelUnlinked(ChannelUID channelUID) {
+        readPlan = null;
+        super.channelUnlinked(channelUID);
     }
 
     @Override
@@ -814,8 +895,40 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         if (readValueType == null) {
             return;
         }
+        ReadPlan plan = getReadPlan(readValueType);
+        int extractIndex = plan.extractIndex;
+        int[] valueRegisters = plan.valueRegisters(registers);
         State numericState;
+        State lastNumericState = plan.lastNumericState;
+        boolean unchanged = valueRegisters != null && lastNumericState != null
+                && Arrays.equals(valueRegisters, plan.lastRegisters);
+        if (unchanged && lastNumericState != null) {
+            numericState = lastNumericState;
+        } else {
+            numericState = ModbusBitUtilities.extractStateFromRegisters(registers, extractIndex, readValueType)
+                    .map(state -> (State) state).orElse(UnDefType.UNDEF);
+            plan.lastRegisters = valueRegisters;
+            plan.lastNumericState = numericState;
+        }
+        boolean boolValue = !numericState.equals(DecimalType.ZERO);
+        Map<ChannelUID, State> values = processUpdatedValue(plan, numericState, boolValue, unchanged);
+        logger.debug(
+                "Thing {} channels updated: {}. readValueType={}, readIndex={}, readSubIndex(or 0)={}, extractIndex={} -> numeric value {} and boolValue={}. Registers {} for request {}",
+                thing.getUID(), values, readValueType, readIndex, readSubIndex.orElse(0), extractIndex, numericState,
+                boolValue, registers, request);
+    }
 
+    /**
+     * Get the read plan, computing it if the read parameters or the linked channels changed
+     *
+     * @param readValueType value type to read
+     * @return read plan
+     */
+    private ReadPlan getReadPlan(ValueType readValueType) {
+        ReadPlan plan = readPlan;
+        if (plan != null) {
+            return plan;
+        }
         // extractIndex:
         // e.g. with bit, extractIndex=4 means 5th bit (from right) ("10.4" -> 5th bit of register 10, "10.4" -> 5th bit
         // of register 10)
@@ -826,23 +939,40 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         // respectively.
         // with >=16 bit types, this is index of first register
         int extractIndex;
+        int firstRegister = readIndex.orElse(0) - pollStart;
+        int registerCount;
         if (readValueType.getBits() >= 16) {
             // Invariant, checked in initialize
             assert readSubIndex.orElse(0) == 0;
-            extractIndex = readIndex.get() - pollStart;
+            extractIndex = firstRegister;
+            registerCount = readValueType.getBits() / 16;
         } else {
             int subIndex = readSubIndex.orElse(0);
             int itemsPerRegister = 16 / readValueType.getBits();
-            extractIndex = (readIndex.get() - pollStart) * itemsPerRegister + subIndex;
+            extractIndex = firstRegister * itemsPerRegister + subIndex;
+            registerCount = 1;
         }
-        numericState = ModbusBitUtilities.extractStateFromRegisters(registers, extractIndex, readValueType)
-                .map(state -> (State) state).orElse(UnDefType.UNDEF);
-        boolean boolValue = !numericState.equals(DecimalType.ZERO);
-        Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
-        logger.debug(
-                "Thing {} channels updated: {}. readValueType={}, readIndex={}, readSubIndex(or 0)={}, extractIndex={} -> numeric value {} and boolValue={}. Registers {} for request {}",
-                thing.getUID(), values, readValueType, readIndex, readSubIndex.orElse(0), extractIndex, numericState,
-                boolValue, registers, request);
+
+        List<ReadChannel> channels = new ArrayList<>();
+        CHANNEL_ID_TO_ACCEPTED_TYPES.forEach((channelId, acceptedDataTypes) -> {
+            ChannelUID channelUID = getChannelUID(channelId);
+            if (!isLinked(channelUID) || acceptedDataTypes.isEmpty()) {
+                return;
+            }
+            if (containsOnOff(acceptedDataTypes)) {
+                channels.add(new ReadChannel(channelUID, channelId, acceptedDataTypes, OnOffType.ON, OnOffType.OFF));
+            } else if (containsOpenClosed(acceptedDataTypes)) {
+                channels.add(new ReadChannel(channelUID, channelId, acceptedDataTypes, OpenClosedType.OPEN,
+                        OpenClosedType.CLOSED));
+            } else {
+                channels.add(new ReadChannel(channelUID, channelId, acceptedDataTypes, null, null));
+            }
+        });
+        ChannelUID lastReadSuccessUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_SUCCESS);
+        plan = new ReadPlan(channels, isLinked(lastReadSuccessUID) ? lastReadSuccessUID : null, extractIndex,
+                firstRegister, registerCount);
+        readPlan = plan;
+        return plan;
     }
 
     private synchronized void onBits(ModbusReadRequestBlueprint request, BitArray bits) {
@@ -851,9 +981,16 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         } else if (!isReadEnabled) {
             return;
         }
+        ValueType readValueType = this.readValueType;
+        if (readValueType == null) {
+            return;
+        }
+        ReadPlan plan = getReadPlan(readValueType);
         boolean boolValue = bits.getBit(readIndex.get() - pollStart);
         DecimalType numericState = boolValue ? new DecimalType(BigDecimal.ONE) : DecimalType.ZERO;
-        Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
+        boolean unchanged = numericState.equals(plan.lastNumericState);
+        plan.lastNumericState = numericState;
+        Map<ChannelUID, State> values = processUpdatedValue(plan, numericState, boolValue, unchanged);
         logger.debug(
                 "Thing {} channels updated: {}. readValueType={}, readIndex={} -> numeric value {} and boolValue={}. Bits {} for request {}",
                 thing.getUID(), values, readValueType, readIndex, numericState, boolValue, bits, request);
@@ -948,39 +1085,33 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     /**
      * Update linked channels
      *
+     * @param plan read plan with the linked channels
      * @param numericState numeric state corresponding to polled data (or UNDEF with floating point NaN or infinity)
      * @param boolValue boolean value corresponding to polled data
+     * @param unchanged whether the polled data is the same as in the previous poll
      * @return updated channel data
      */
-    private Map<ChannelUID, State> processUpdatedValue(State numericState, boolean boolValue) {
+    private Map<ChannelUID, State> processUpdatedValue(ReadPlan plan, State numericState, boolean boolValue,
+            boolean unchanged) {
         ModbusTransformation localReadTransformation = readTransformation;
         if (localReadTransformation == null) {
             // We should always have transformation available if thing is initalized properly
             logger.trace("No transformation available, aborting processUpdatedValue");
             return Collections.emptyMap();
         }
-        Map<ChannelUID, State> states = new HashMap<>();
-        CHANNEL_ID_TO_ACCEPTED_TYPES.keySet().stream().forEach(channelId -> {
-            ChannelUID channelUID = getChannelUID(channelId);
-            if (!isLinked(channelUID)) {
-                return;
-            }
-            List<Class<? extends State>> acceptedDataTypes = CHANNEL_ID_TO_ACCEPTED_TYPES.get(channelId);
-            if (acceptedDataTypes.isEmpty()) {
-                return;
-            }
-
-            State boolLikeState;
-            if (containsOnOff(acceptedDataTypes)) {
-                boolLikeState = OnOffType.from(boolValue);
-            } else if (containsOpenClosed(acceptedDataTypes)) {
-                boolLikeState = boolValue ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
-            } else {
-                boolLikeState = null;
-            }
+        Map<ChannelUID, State> states = new HashMap<>(NUMER_OF_CHANNELS_HINT);
+        for (ReadChannel channel : plan.channels) {
+            ChannelUID channelUID = channel.uid;
+            String channelId = channel.channelId;
+            List<Class<? extends State>> acceptedDataTypes = channel.acceptedDataTypes;
+            State boolLikeState = boolValue ? channel.trueState : channel.falseState;
 
             State transformedState;
-            if (localReadTransformation.isIdentityTransform()) {
+            State lastState = channel.lastState;
+            if (unchanged && lastState != null && localReadTransformation.isIdentityTransform()) {
+                // same value as in the previous poll, no need to convert it again
+                transformedState = lastState;
+            } else if (localReadTransformation.isIdentityTransform()) {
                 if (boolLikeState != null) {
                     // A bit of smartness for ON/OFF and OPEN/CLOSED with boolean like items
                     transformedState = boolLikeState;
@@ -1011,10 +1142,11 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                         channelId, types, numericState, readValueType, boolValue,
                         localReadTransformation.isIdentityTransform() ? "<identity>" : localReadTransformation);
             }
-        });
+            channel.lastState = transformedState;
+        }
 
-        ChannelUID lastReadSuccessUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_SUCCESS);
-        if (isLinked(lastReadSuccessUID)) {
+        ChannelUID lastReadSuccessUID = plan.lastReadSuccessUID;
+        if (lastReadSuccessUID != null) {
             states.put(lastReadSuccessUID, new DateTimeType());
         }
         updateExpiredChannels(states);
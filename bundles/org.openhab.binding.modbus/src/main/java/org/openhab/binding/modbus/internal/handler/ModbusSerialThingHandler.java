@@ -72,6 +72,9 @@ public class ModbusSerialThingHandler
 
         endpoint = new ModbusSerialSlaveEndpoint(port, baud, flowControlIn, flowControlOut, config.getDataBits(),
                 stopBits, parity, encoding, config.isEcho(), config.getReceiveTimeoutMillis());
+
+        mergePolls = config.isMergePolls();
+        mergeGapTolerance = config.getMergeGapTolerance();
     }
 
     /**
@@ -61,6 +61,9 @@ public class ModbusTcpThingHandler
         poolConfiguration.setInterConnectDelayMillis(config.getTimeBetweenReconnectMillis());
         poolConfiguration.setInterTransactionDelayMillis(config.getTimeBetweenTransactionsMillis());
         poolConfiguration.setReconnectAfterMillis(config.getReconnectAfterMillis());
+
+        mergePolls = config.isMergePolls();
+        mergeGapTolerance = config.getMergeGapTolerance();
     }
 
     @SuppressWarnings("null") // since Optional.map is always called with NonNull argument
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.binding.modbus.internal.ModbusPollMerger.MergedPoll;
+import org.openhab.binding.modbus.internal.ModbusPollMerger.Registration;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.openhab.core.io.transport.modbus.exception.ModbusSlaveErrorResponseException;
+
+/**
+ * Tests for {@link ModbusPollMerger}.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPollMergerTest {
+
+    private final List<AsyncModbusReadResult> results = new ArrayList<>();
+    private final List<AsyncModbusFailure<ModbusReadRequestBlueprint>> failures = new ArrayList<>();
+    private final ModbusCommunicationInterface comms = mock(ModbusCommunicationInterface.class);
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+
+    @BeforeEach
+    public void setUp() {
+        when(comms.registerRegularPoll(any(), anyLong(), anyLong(), any(), any()))
+                .thenAnswer(invocation -> mock(PollTask.class));
+        doReturn(mock(ScheduledFuture.class)).when(scheduler).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    @Test
+    public void testAdjacentAndOverlappingPollsAreMerged() {
+        List<MergedPoll> plan = ModbusPollMerger.plan(List.of(registration(10, 5, 1000), registration(0, 10, 1000),
+                registration(12, 8, 1000)), Set.of(), 0);
+
+        assertThat(plan.size(), is(1));
+        assertThat(plan.get(0).getRequest().getReference(), is(0));
+        assertThat(plan.get(0).getRequest().getDataLength(), is(20));
+        assertThat(plan.get(0).getRegistrations().size(), is(3));
+    }
+
+    @Test
+    public void testGapTolerance() {
+        List<Registration> registrations = List.of(registration(0, 10, 1000), registration(13, 2, 1000));
+
+        assertThat(ModbusPollMerger.plan(registrations, Set.of(), 2).size(), is(2));
+        List<MergedPoll> plan = ModbusPollMerger.plan(registrations, Set.of(), 3);
+        assertThat(plan.size(), is(1));
+        assertThat(plan.get(0).getRequest().getDataLength(), is(15));
+    }
+
+    @Test
+    public void testProtocolLimitAndRefreshAreRespected() {
+        List<MergedPoll> plan = ModbusPollMerger.plan(List.of(registration(0, 100, 1000),
+                registration(100, 30, 1000), registration(130, 5, 2000)), Set.of(), 0);
+
+        assertThat(plan.size(), is(3));
+        for (MergedPoll mergedPoll : plan) {
+            assertThat(mergedPoll.getRegistrations().size(), is(1));
+            assertThat(mergedPoll.getRequest(), is(sameInstance(mergedPoll.getRegistrations().get(0).getRequest())));
+        }
+    }
+
+    @Test
+    public void testResponseIsSlicedToEachPoll() {
+        Registration first = registration(0, 2, 1000);
+        Registration second = registration(3, 1, 1000);
+        MergedPoll mergedPoll = ModbusPollMerger.plan(List.of(first, second), Set.of(), 1).get(0);
+
+        mergedPoll.handle(new AsyncModbusReadResult(mergedPoll.getRequest(), new ModbusRegisterArray(1, 2, 3, 4)));
+
+        assertThat(results.size(), is(2));
+        assertThat(results.get(0).getRequest(), is(sameInstance(first.getRequest())));
+        assertThat(results.get(0).getRegisters().get(), is(new ModbusRegisterArray(1, 2)));
+        assertThat(results.get(1).getRequest(), is(sameInstance(second.getRequest())));
+        assertThat(results.get(1).getRegisters().get(), is(new ModbusRegisterArray(4)));
+    }
+
+    @Test
+    public void testPollsAreSeparatedAfterExceptionResponse() {
+        ModbusPollMerger merger = new ModbusPollMerger(comms, scheduler, 1);
+        ModbusReadRequestBlueprint first = request(0, 2);
+        ModbusReadRequestBlueprint second = request(3, 1);
+        merger.register(first, 1000, results::add, failures::add);
+        merger.register(second, 1000, results::add, failures::add);
+        runReplan(1);
+
+        ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback = registeredFailureCallback(1);
+        failureCallback.handle(new AsyncModbusFailure<>(request(0, 4), mock(ModbusSlaveErrorResponseException.class)));
+        assertThat(failures.size(), is(0));
+        runReplan(2);
+
+        verify(comms).registerRegularPoll(eq(first), eq(1000L), eq(0L), any(), any());
+        verify(comms).registerRegularPoll(eq(second), eq(1000L), eq(0L), any(), any());
+        verify(comms, times(3)).registerRegularPoll(any(), anyLong(), anyLong(), any(), any());
+        verify(comms).unregisterRegularPoll(any());
+    }
+
+    @Test
+    public void testOtherFailuresAreReportedToEachPoll() {
+        ModbusPollMerger merger = new ModbusPollMerger(comms, scheduler, 1);
+        merger.register(request(0, 2), 1000, results::add, failures::add);
+        merger.register(request(3, 1), 1000, results::add, failures::add);
+        runReplan(1);
+
+        registeredFailureCallback(1).handle(new AsyncModbusFailure<>(request(0, 4), new IOException("timeout")));
+        assertThat(failures.size(), is(2));
+        verify(scheduler, times(1)).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    private void runReplan(int times) {
+        ArgumentCaptor<Runnable> replan = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler, times(times)).schedule(replan.capture(), anyLong(), any(TimeUnit.class));
+        replan.getValue().run();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ModbusFailureCallback<ModbusReadRequestBlueprint> registeredFailureCallback(int times) {
+        ArgumentCaptor<ModbusFailureCallback<ModbusReadRequestBlueprint>> failureCallback = ArgumentCaptor
+                .forClass(ModbusFailureCallback.class);
+        verify(comms, times(times)).registerRegularPoll(any(), anyLong(), anyLong(), any(), failureCallback.capture());
+        return failureCallback.getValue();
+    }
+
+    private ModbusReadRequestBlueprint request(int start, int length) {
+        return new ModbusReadRequestBlueprint(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, start, length, 3);
+    }
+
+    private Registration registration(int start, int length, long refreshMillis) {
+        return new Registration(request(start, length), refreshMillis, results::add, failure -> {
+        });
+    }
+}
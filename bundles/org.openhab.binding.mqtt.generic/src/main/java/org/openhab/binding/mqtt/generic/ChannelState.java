@@ -12,7 +12,6 @@
  */
 package org.openhab.binding.mqtt.generic;
 
-import java.nio.charset.StandardCharsets;
 import java.util.IllegalFormatException;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -22,6 +21,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.mqtt.generic.tools.CoalescingPublisher;
 import org.openhab.binding.mqtt.generic.values.TextValue;
 import org.openhab.binding.mqtt.generic.values.Value;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
@@ -62,6 +62,7 @@ public class ChannelState implements MqttMessageSubscriber {
     protected final ChannelTransformation incomingTransformation;
     protected final ChannelTransformation outgoingTransformation;
     private @Nullable ChannelStateUpdateListener channelStateUpdateListener;
+    private @Nullable CoalescingPublisher publisher;
     protected boolean hasSubscribed = false;
     private @Nullable ScheduledFuture<?> scheduledFuture;
     private CompletableFuture<@Nullable Void> future = CompletableFuture.completedFuture(null);
@@ -159,7 +160,7 @@ public class ChannelState implements MqttMessageSubscriber {
         }
 
         // String value: Apply transformations
-        String strValue = new String(payload, StandardCharsets.UTF_8);
+        String strValue = PayloadDecoder.decode(payload);
         if (incomingTransformation.isPresent()) {
             Optional<String> transformedValue = incomingTransformation.apply(strValue);
             if (transformedValue.isEmpty()) {
@@ -417,6 +418,10 @@ public class ChannelState implements MqttMessageSubscriber {
         } else {
             commandTopic = config.commandTopic;
         }
+        final CoalescingPublisher publisher = this.publisher;
+        if (publisher != null) {
+            return publisher.publish(this, connection, commandTopic, commandString.getBytes(), qos, config.retained);
+        }
         return connection.publish(commandTopic, commandString.getBytes(), qos, config.retained);
     }
 
@@ -434,6 +439,13 @@ public class ChannelState implements MqttMessageSubscriber {
         this.channelStateUpdateListener = channelStateUpdateListener;
     }
 
+    /**
+     * @param publisher A publisher that limits the publish rate, or null to publish every value right away
+     */
+    public void setPublisher(@Nullable CoalescingPublisher publisher) {
+        this.publisher = publisher;
+    }
+
     public @Nullable MqttBrokerConnection getConnection() {
         return connection;
     }
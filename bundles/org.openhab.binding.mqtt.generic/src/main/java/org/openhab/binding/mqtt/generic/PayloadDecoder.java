@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Decodes MQTT payloads to strings, once per message.
+ *
+ * A message is delivered to every {@link ChannelState} subscribed to its topic, one after the other on the thread of
+ * the broker connection. The last decoded payload is remembered per thread, so all channels of a topic get the same
+ * {@link String} instance. Transformations that cache their parsed input (like the JSONPath transformation, which
+ * keeps the recently parsed documents) then also parse the message only once, no matter how many channels extract
+ * values from it.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+final class PayloadDecoder {
+
+    private record Decoded(byte[] payload, String value) {
+    }
+
+    /** Larger payloads are not remembered, to not keep them in memory */
+    private static final int MAX_REMEMBERED_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<@Nullable Decoded> LAST_DECODED = new ThreadLocal<>();
+
+    private PayloadDecoder() {
+        // static utility class
+    }
+
+    /**
+     * Decode an UTF-8 payload.
+     *
+     * @param payload the payload
+     * @return the decoded payload, the same instance as for the previous call on this thread if the payload is equal
+     */
+    static String decode(byte[] payload) {
+        Decoded last = LAST_DECODED.get();
+        if (last != null && Arrays.equals(last.payload(), payload)) {
+            return last.value();
+        }
+        String value = new String(payload, StandardCharsets.UTF_8);
+        // keep a copy, the caller may reuse the array
+        LAST_DECODED.set(payload.length <= MAX_REMEMBERED_SIZE ? new Decoded(payload.clone(), value) : null);
+        return value;
+    }
+}
@@ -30,6 +30,7 @@ import org.openhab.binding.mqtt.generic.ChannelState;
 import org.openhab.binding.mqtt.generic.ChannelStateUpdateListener;
 import org.openhab.binding.mqtt.generic.MqttChannelStateDescriptionProvider;
 import org.openhab.binding.mqtt.generic.internal.MqttBindingConstants;
+import org.openhab.binding.mqtt.generic.tools.CoalescingPublisher;
 import org.openhab.binding.mqtt.generic.utils.FutureCollector;
 import org.openhab.binding.mqtt.generic.values.Value;
 import org.openhab.binding.mqtt.generic.values.ValueFactory;
@@ -59,6 +60,7 @@ public class GenericMQTTThingHandler extends AbstractMQTTThingHandler implements
     private final Logger logger = LoggerFactory.getLogger(GenericMQTTThingHandler.class);
     final Map<ChannelUID, ChannelState> channelStateByChannelUID = new HashMap<>();
     protected final MqttChannelStateDescriptionProvider stateDescProvider;
+    private @Nullable CoalescingPublisher publisher;
 
     /**
      * Creates a new Thing handler for generic MQTT channels.
@@ -96,6 +98,12 @@ public class GenericMQTTThingHandler extends AbstractMQTTThingHandler implements
     @Override
     protected void stop() {
         channelStateByChannelUID.values().forEach(c -> c.getCache().resetState());
+        CoalescingPublisher publisher = this.publisher;
+        if (publisher != null) {
+            logger.debug("Thing {} published {} commands, {} commands were replaced by newer ones", thing.getUID(),
+                    publisher.getPublishedCount(), publisher.getCoalescedCount());
+            publisher.stop();
+        }
         super.stop();
     }
 
@@ -126,13 +134,18 @@ public class GenericMQTTThingHandler extends AbstractMQTTThingHandler implements
      * @return
      */
     protected ChannelState createChannelState(ChannelConfig channelConfig, ChannelUID channelUID, Value valueState) {
-        return new ChannelState(channelConfig, channelUID, valueState, this);
+        ChannelState channelState = new ChannelState(channelConfig, channelUID, valueState, this);
+        channelState.setPublisher(publisher);
+        return channelState;
     }
 
     @Override
     public void initialize() {
         initializeAvailabilityTopicsFromConfig();
 
+        int publishCoalescingWindow = getConfigAs(GenericThingConfiguration.class).publishCoalescingWindow;
+        publisher = publishCoalescingWindow > 0 ? new CoalescingPublisher(publishCoalescingWindow, scheduler) : null;
+
         ThingHandlerCallback callback = getCallback();
         if (callback == null) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.NONE, "Framework failure: callback must not be null");
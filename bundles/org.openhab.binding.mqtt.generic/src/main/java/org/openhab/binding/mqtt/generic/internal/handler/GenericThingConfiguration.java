@@ -45,4 +45,9 @@ public class GenericThingConfiguration {
      * transformation pattern for the availability payload
      */
     public List<String> transformationPattern = List.of();
+
+    /**
+     * minimum time in milliseconds between two commands published to the same topic, 0 to publish every command
+     */
+    public int publishCoalescingWindow = 0;
 }
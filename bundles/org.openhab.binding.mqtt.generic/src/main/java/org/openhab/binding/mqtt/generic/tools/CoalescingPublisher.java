@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic.tools;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Limits the publish rate per sender and topic, keeping only the latest value of a sender.
+ *
+ * The first message of a sender to a topic is published right away and starts a window of the configured length.
+ * Messages of the same sender to the same topic within the window replace each other, and only the latest one is
+ * published when the window ends, which starts the next window. Messages of different senders, e.g. two channels
+ * sharing a command topic, never replace each other. Each message is published with its own QoS and retain flag.
+ *
+ * The futures of replaced messages complete together with the future of the message that replaced them.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+public class CoalescingPublisher {
+    private final Logger logger = LoggerFactory.getLogger(CoalescingPublisher.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final int window;
+
+    // guarded by this
+    private final Map<WindowKey, TopicWindow> windows = new HashMap<>();
+    private long publishedCount;
+    private long coalescedCount;
+
+    // senders are compared by identity, as they are the channel states of a thing
+    private record WindowKey(Object sender, String topic) {
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            return obj instanceof WindowKey other && sender == other.sender && topic.equals(other.topic);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(sender) + topic.hashCode();
+        }
+    }
+
+    private static class TopicWindow {
+        @Nullable
+        ScheduledFuture<?> timer;
+        @Nullable
+        PendingMessage pending;
+    }
+
+    private record PendingMessage(MqttBrokerConnection connection, byte[] payload, int qos, boolean retain,
+            List<CompletableFuture<Boolean>> futures) {
+    }
+
+    /**
+     * Creates a {@link CoalescingPublisher}.
+     *
+     * @param window The minimum time between two publishes to the same topic in milliseconds
+     * @param scheduler A scheduled executor service
+     */
+    public CoalescingPublisher(int window, ScheduledExecutorService scheduler) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("Window need to be greater than 0!");
+        }
+        this.window = window;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Publish a message, or queue it if the sender published a message to the same topic within the window.
+     *
+     * @param sender The sender of the message, e.g. a channel state. Only messages of the same sender replace
+     *            each other.
+     * @param connection The broker connection
+     * @param topic The topic
+     * @param payload The payload
+     * @param qos The QoS level
+     * @param retain The retain flag
+     * @return A future that completes like {@link MqttBrokerConnection#publish(String, byte[], int, boolean)} for the
+     *         message or the message that replaced it
+     */
+    public synchronized CompletableFuture<Boolean> publish(Object sender, MqttBrokerConnection connection,
+            String topic, byte[] payload, int qos, boolean retain) {
+        WindowKey key = new WindowKey(sender, topic);
+        TopicWindow topicWindow = windows.get(key);
+        if (topicWindow == null) {
+            topicWindow = new TopicWindow();
+            windows.put(key, topicWindow);
+            startWindow(key, topicWindow);
+            publishedCount++;
+            return connection.publish(topic, payload, qos, retain);
+        }
+
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+        PendingMessage replaced = topicWindow.pending;
+        if (replaced != null) {
+            coalescedCount++;
+            logger.trace("Replacing pending message to topic {}, {} messages coalesced so far", topic,
+                    coalescedCount);
+            futures.addAll(replaced.futures());
+        }
+        futures.add(future);
+        topicWindow.pending = new PendingMessage(connection, payload, qos, retain, futures);
+        return future;
+    }
+
+    /**
+     * Discard all pending messages. Their futures complete with false.
+     */
+    public synchronized void stop() {
+        for (TopicWindow topicWindow : windows.values()) {
+            ScheduledFuture<?> timer = topicWindow.timer;
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            PendingMessage pending = topicWindow.pending;
+            if (pending != null) {
+                pending.futures().forEach(f -> f.complete(false));
+            }
+        }
+        windows.clear();
+    }
+
+    /**
+     * @return The number of messages published to the broker
+     */
+    public synchronized long getPublishedCount() {
+        return publishedCount;
+    }
+
+    /**
+     * @return The number of messages that were replaced by a later message of the same sender and not published
+     */
+    public synchronized long getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    private void startWindow(WindowKey key, TopicWindow topicWindow) {
+        topicWindow.timer = scheduler.schedule(() -> endWindow(key, topicWindow), window, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void endWindow(WindowKey key, TopicWindow topicWindow) {
+        if (windows.get(key) != topicWindow) {
+            // stopped in the meantime
+            return;
+        }
+        PendingMessage pending = topicWindow.pending;
+        if (pending == null) {
+            windows.remove(key);
+            return;
+        }
+        topicWindow.pending = null;
+        startWindow(key, topicWindow);
+        publishedCount++;
+        pending.connection().publish(key.topic(), pending.payload(), pending.qos(), pending.retain())
+                .whenComplete((result, exception) -> {
+                    for (CompletableFuture<Boolean> future : pending.futures()) {
+                        if (exception != null) {
+                            future.completeExceptionally(exception);
+                        } else {
+                            future.complete(result);
+                        }
+                    }
+                });
+    }
+}
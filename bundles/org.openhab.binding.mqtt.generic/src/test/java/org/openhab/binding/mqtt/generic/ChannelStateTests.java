@@ -37,6 +37,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.Spy;
@@ -494,6 +495,24 @@ public class ChannelStateTests {
             verify(channelStateUpdateListenerMock, never()).updateChannelState(eq(channelUIDMock), any());
         }
 
+        @Test
+        public void transformationInputIsSharedTest() throws Exception {
+            ChannelConfig config = ChannelConfigBuilder.create("state", "command")
+                    .withTransformationPattern(List.of(T1_NAME + ":" + T1_PATTERN)).build();
+            ChannelState c1 = new ChannelState(config, channelUIDMock, new TextValue(), channelStateUpdateListenerMock);
+            ChannelState c2 = new ChannelState(config, channelUIDMock, new TextValue(), channelStateUpdateListenerMock);
+
+            byte[] payload = T1_INPUT.getBytes();
+            c1.processMessage("state", payload);
+            c2.processMessage("state", payload);
+
+            ArgumentCaptor<String> inputs = ArgumentCaptor.forClass(String.class);
+            verify(transformationService1Mock, times(2)).transform(eq(T1_PATTERN), inputs.capture());
+            assertThat(inputs.getAllValues().get(0), is(T1_INPUT));
+            assertThat(inputs.getAllValues().get(1), is(sameInstance(inputs.getAllValues().get(0))));
+            verify(channelStateUpdateListenerMock, times(2)).updateChannelState(eq(channelUIDMock), any());
+        }
+
         @Test
         public void transformationPatternOutTest() throws Exception {
             ChannelConfig config = ChannelConfigBuilder.create("state", "command")
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic.tools;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+
+/**
+ * Tests the {@link CoalescingPublisher} class.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class CoalescingPublisherTests {
+
+    private @Mock @NonNullByDefault({}) MqttBrokerConnection connectionMock;
+    private @Mock @NonNullByDefault({}) ScheduledExecutorService schedulerMock;
+    private @Mock @NonNullByDefault({}) ScheduledFuture<?> scheduledFutureMock;
+
+    private final Object channel1 = new Object();
+    private final Object channel2 = new Object();
+
+    @BeforeEach
+    public void setUp() {
+        doReturn(CompletableFuture.completedFuture(true)).when(connectionMock).publish(any(), any(), anyInt(),
+                anyBoolean());
+        doReturn(scheduledFutureMock).when(schedulerMock).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    @Test
+    public void latestValueIsPublishedAfterWindow() throws Exception {
+        CoalescingPublisher publisher = new CoalescingPublisher(100, schedulerMock);
+
+        CompletableFuture<Boolean> first = publisher.publish(channel1, connectionMock, "topic",
+                "1".getBytes(), 1, false);
+        CompletableFuture<Boolean> second = publisher.publish(channel1, connectionMock, "topic",
+                "2".getBytes(), 1, false);
+        CompletableFuture<Boolean> third = publisher.publish(channel1, connectionMock, "topic",
+                "3".getBytes(), 2, true);
+        CompletableFuture<Boolean> other = publisher.publish(channel1, connectionMock, "other",
+                "4".getBytes(), 0, false);
+
+        assertThat(first.get(), is(true));
+        assertThat(other.get(), is(true));
+        assertThat(second.isDone(), is(false));
+        verify(connectionMock).publish(eq("topic"), argThat(p -> Arrays.equals(p, "1".getBytes())), eq(1), eq(false));
+        verify(connectionMock, times(2)).publish(any(), any(), anyInt(), anyBoolean());
+
+        ArgumentCaptor<Runnable> endWindow = ArgumentCaptor.forClass(Runnable.class);
+        verify(schedulerMock, times(2)).schedule(endWindow.capture(), eq(100L), eq(TimeUnit.MILLISECONDS));
+        endWindow.getAllValues().get(0).run();
+
+        verify(connectionMock).publish(eq("topic"), argThat(p -> Arrays.equals(p, "3".getBytes())), eq(2), eq(true));
+        verify(connectionMock, never()).publish(eq("topic"), argThat(p -> Arrays.equals(p, "2".getBytes())),
+                anyInt(), anyBoolean());
+        assertThat(second.get(), is(true));
+        assertThat(third.get(), is(true));
+        assertThat(publisher.getPublishedCount(), is(3L));
+        assertThat(publisher.getCoalescedCount(), is(1L));
+    }
+
+    @Test
+    public void valuesOfOtherChannelsOnTheSameTopicAreNotReplaced() throws Exception {
+        CoalescingPublisher publisher = new CoalescingPublisher(100, schedulerMock);
+
+        publisher.publish(channel1, connectionMock, "device/set", "{\"brightness\":1}".getBytes(), 1, false);
+        publisher.publish(channel2, connectionMock, "device/set", "{\"color\":\"red\"}".getBytes(), 1, false);
+        CompletableFuture<Boolean> brightness = publisher.publish(channel1, connectionMock, "device/set",
+                "{\"brightness\":2}".getBytes(), 1, false);
+        CompletableFuture<Boolean> color = publisher.publish(channel2, connectionMock, "device/set",
+                "{\"color\":\"blue\"}".getBytes(), 1, false);
+        verify(connectionMock, times(2)).publish(any(), any(), anyInt(), anyBoolean());
+
+        ArgumentCaptor<Runnable> endWindow = ArgumentCaptor.forClass(Runnable.class);
+        verify(schedulerMock, times(2)).schedule(endWindow.capture(), eq(100L), eq(TimeUnit.MILLISECONDS));
+        endWindow.getAllValues().forEach(Runnable::run);
+
+        verify(connectionMock).publish(eq("device/set"),
+                argThat(p -> Arrays.equals(p, "{\"brightness\":2}".getBytes())), eq(1), eq(false));
+        verify(connectionMock).publish(eq("device/set"),
+                argThat(p -> Arrays.equals(p, "{\"color\":\"blue\"}".getBytes())), eq(1), eq(false));
+        assertThat(brightness.get(), is(true));
+        assertThat(color.get(), is(true));
+        assertThat(publisher.getPublishedCount(), is(4L));
+        assertThat(publisher.getCoalescedCount(), is(0L));
+    }
+
+    @Test
+    public void pendingValuesAreDiscardedOnStop() throws Exception {
+        CoalescingPublisher publisher = new CoalescingPublisher(100, schedulerMock);
+
+        publisher.publish(channel1, connectionMock, "topic", "1".getBytes(), 1, false);
+        CompletableFuture<Boolean> second = publisher.publish(channel1, connectionMock, "topic",
+                "2".getBytes(), 1, false);
+        publisher.stop();
+
+        assertThat(second.get(), is(false));
+        verify(scheduledFutureMock).cancel(false);
+        verify(connectionMock, times(1)).publish(any(), any(), anyInt(), anyBoolean());
+    }
+}
@@ -22,6 +22,7 @@ import org.openhab.binding.mqtt.generic.MqttChannelStateDescriptionProvider;
 import org.openhab.binding.mqtt.generic.MqttChannelTypeProvider;
 import org.openhab.binding.mqtt.homeassistant.internal.HomeAssistantJinjaFunctionLibrary;
 import org.openhab.binding.mqtt.homeassistant.internal.HomeAssistantStateDescriptionProvider;
+import org.openhab.binding.mqtt.homeassistant.internal.JinjaTemplateRenderer;
 import org.openhab.binding.mqtt.homeassistant.internal.handler.HomeAssistantThingHandler;
 import org.openhab.core.i18n.UnitProvider;
 import org.openhab.core.thing.Thing;
@@ -49,8 +50,11 @@ public class MqttThingHandlerFactory extends BaseThingHandlerFactory {
     private final MqttChannelStateDescriptionProvider stateDescriptionProvider;
     private final ChannelTypeRegistry channelTypeRegistry;
     private final Jinjava jinjava = new Jinjava();
+    // shared by the templates of all components of all things
+    private final JinjaTemplateRenderer templateRenderer = new JinjaTemplateRenderer(jinjava, MAX_CACHED_TEMPLATES);
     private final UnitProvider unitProvider;
 
+    private static final int MAX_CACHED_TEMPLATES = 1000;
     private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Stream
             .of(MqttBindingConstants.HOMEASSISTANT_MQTT_THING).collect(Collectors.toSet());
 
@@ -82,12 +86,12 @@ public class MqttThingHandlerFactory extends BaseThingHandlerFactory {
 
         if (supportsThingType(thingTypeUID)) {
             return new HomeAssistantThingHandler(thing, this, typeProvider, stateDescriptionProvider,
-                    channelTypeRegistry, jinjava, unitProvider, 10000, 2000);
+                    channelTypeRegistry, templateRenderer, unitProvider, 10000, 2000);
         }
         return null;
     }
 
-    public Jinjava getJinjava() {
-        return jinjava;
+    public JinjaTemplateRenderer getTemplateRenderer() {
+        return templateRenderer;
     }
 }
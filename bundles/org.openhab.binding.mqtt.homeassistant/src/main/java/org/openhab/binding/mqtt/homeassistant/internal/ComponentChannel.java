@@ -265,13 +265,13 @@ public class ComponentChannel {
 
             String localTemplateIn = templateIn;
             if (localTemplateIn != null) {
-                incomingTransformation = new HomeAssistantChannelTransformation(component.getJinjava(), component,
-                        localTemplateIn);
+                incomingTransformation = new HomeAssistantChannelTransformation(component.getTemplateRenderer(),
+                        component, localTemplateIn);
             }
             String localTemplateOut = templateOut;
             if (localTemplateOut != null) {
-                outgoingTransformation = new HomeAssistantChannelTransformation(component.getJinjava(), component,
-                        localTemplateOut);
+                outgoingTransformation = new HomeAssistantChannelTransformation(component.getTemplateRenderer(),
+                        component, localTemplateOut);
             }
 
             channelState = new HomeAssistantChannelState(channelConfigBuilder.build(), channelUID, valueState,
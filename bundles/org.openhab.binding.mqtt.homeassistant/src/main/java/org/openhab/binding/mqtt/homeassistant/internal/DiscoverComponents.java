@@ -14,11 +14,14 @@ package org.openhab.binding.mqtt.homeassistant.internal;
 
 import java.lang.ref.WeakReference;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -38,7 +41,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
-import com.hubspot.jinjava.Jinjava;
 
 /**
  * Responsible for subscribing to the HomeAssistant MQTT components wildcard topic, either
@@ -57,7 +59,7 @@ public class DiscoverComponents implements MqttMessageSubscriber {
 
     protected final CompletableFuture<@Nullable Void> discoverFinishedFuture = new CompletableFuture<>();
     private final Gson gson;
-    private final Jinjava jinjava;
+    private final JinjaTemplateRenderer templateRenderer;
     private final UnitProvider unitProvider;
 
     private @Nullable ScheduledFuture<?> stopDiscoveryFuture;
@@ -66,6 +68,12 @@ public class DiscoverComponents implements MqttMessageSubscriber {
     private int discoverTime;
     private Set<String> topics = new HashSet<>();
 
+    // The last configuration received per component, to skip unchanged (retained) configurations
+    private final Map<HaID, String> receivedConfigs = new ConcurrentHashMap<>();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong unchangedCount = new AtomicLong();
+    private final AtomicLong createNanos = new AtomicLong();
+
     /**
      * Implement this to get notified of new components
      */
@@ -73,6 +81,17 @@ public class DiscoverComponents implements MqttMessageSubscriber {
         void componentDiscovered(HaID homeAssistantTopicID, AbstractComponent<?> component);
 
         void componentRemoved(HaID homeAssistantTopicID);
+
+        /**
+         * Return the configuration of an already known component, e.g. one restored from the Thing's channels.
+         * A discovered configuration equal to it is not parsed again.
+         *
+         * @param homeAssistantTopicID The component
+         * @return The JSON configuration of the known component, or null if the component is not known
+         */
+        default @Nullable String getKnownConfig(HaID homeAssistantTopicID) {
+            return null;
+        }
     }
 
     /**
@@ -84,13 +103,13 @@ public class DiscoverComponents implements MqttMessageSubscriber {
      */
     public DiscoverComponents(ThingUID thingUID, ScheduledExecutorService scheduler,
             ChannelStateUpdateListener channelStateUpdateListener, HomeAssistantChannelLinkageChecker linkageChecker,
-            AvailabilityTracker tracker, Gson gson, Jinjava jinjava, UnitProvider unitProvider) {
+            AvailabilityTracker tracker, Gson gson, JinjaTemplateRenderer templateRenderer, UnitProvider unitProvider) {
         this.thingUID = thingUID;
         this.scheduler = scheduler;
         this.updateListener = channelStateUpdateListener;
         this.linkageChecker = linkageChecker;
         this.gson = gson;
-        this.jinjava = jinjava;
+        this.templateRenderer = templateRenderer;
         this.unitProvider = unitProvider;
         this.tracker = tracker;
     }
@@ -106,9 +125,18 @@ public class DiscoverComponents implements MqttMessageSubscriber {
         AbstractComponent<?> component = null;
 
         if (config.length() > 0) {
+            if (isUnchanged(haID, config)) {
+                unchangedCount.incrementAndGet();
+                logger.trace("Skipping unchanged HomeAssistant component {}", haID);
+                return;
+            }
+            receivedConfigs.put(haID, config);
             try {
+                long start = System.nanoTime();
                 component = ComponentFactory.createComponent(thingUID, haID, config, updateListener, linkageChecker,
-                        tracker, scheduler, gson, jinjava, unitProvider);
+                        tracker, scheduler, gson, templateRenderer, unitProvider);
+                createNanos.addAndGet(System.nanoTime() - start);
+                createdCount.incrementAndGet();
                 component.setConfigSeen();
 
                 logger.trace("Found HomeAssistant component {}", haID);
@@ -124,12 +152,54 @@ public class DiscoverComponents implements MqttMessageSubscriber {
                         haID.objectID, haID.component, e.getMessage());
             }
         } else {
+            // remember the removal, the listener may not have processed it yet
+            receivedConfigs.put(haID, "");
             if (discoveredListener != null) {
                 discoveredListener.componentRemoved(haID);
             }
         }
     }
 
+    private boolean isUnchanged(HaID haID, String config) {
+        String lastConfig = receivedConfigs.get(haID);
+        if (lastConfig == null) {
+            ComponentDiscovered discoveredListener = this.discoveredListener;
+            lastConfig = discoveredListener != null ? discoveredListener.getKnownConfig(haID) : null;
+        }
+        return config.equals(lastConfig);
+    }
+
+    /**
+     * @return The number of components created from discovered configurations since the last reset
+     */
+    public long getCreatedCount() {
+        return createdCount.get();
+    }
+
+    /**
+     * @return The number of discovered configurations that were skipped because they did not change, since the last
+     *         reset
+     */
+    public long getUnchangedCount() {
+        return unchangedCount.get();
+    }
+
+    /**
+     * @return The time spent creating components from discovered configurations since the last reset, in milliseconds
+     */
+    public long getCreateMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(createNanos.get());
+    }
+
+    /**
+     * Reset the statistics, so the counters only cover the current discovery round.
+     */
+    public void resetStatistics() {
+        createdCount.set(0);
+        unchangedCount.set(0);
+        createNanos.set(0);
+    }
+
     /**
      * Start a components discovery.
      *
@@ -154,6 +224,7 @@ public class DiscoverComponents implements MqttMessageSubscriber {
         this.discoverTime = discoverTime;
         this.discoveredListener = componentsDiscoveredListener;
         this.connectionRef = new WeakReference<>(connection);
+        this.receivedConfigs.clear();
 
         // Subscribe to the wildcard topic and start receive MQTT retained topics
         this.topics.stream().map(t -> connection.subscribe(t, this)).collect(FutureCollector.allOf())
@@ -13,12 +13,8 @@
 package org.openhab.binding.mqtt.homeassistant.internal;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -30,7 +26,6 @@ import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.hubspot.jinjava.Jinjava;
 import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
 import com.hubspot.jinjava.interpret.InvalidInputException;
 import com.hubspot.jinjava.interpret.JinjavaInterpreter;
@@ -50,16 +45,18 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
         }
     }
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     private final Logger logger = LoggerFactory.getLogger(HomeAssistantChannelTransformation.class);
 
-    private final Jinjava jinjava;
+    private final JinjaTemplateRenderer renderer;
     private final AbstractComponent<?> component;
     private final String template;
-    private final ObjectMapper objectMapper = new ObjectMapper();
 
-    public HomeAssistantChannelTransformation(Jinjava jinjava, AbstractComponent<?> component, String template) {
+    public HomeAssistantChannelTransformation(JinjaTemplateRenderer renderer, AbstractComponent<?> component,
+            String template) {
         super((String) null);
-        this.jinjava = jinjava;
+        this.renderer = renderer;
         this.component = component;
         this.template = template;
     }
@@ -82,8 +79,8 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
         bindings.put("value", value);
 
         try {
-            JsonNode tree = objectMapper.readTree(value);
-            bindings.put("value_json", toObject(tree));
+            JsonNode tree = OBJECT_MAPPER.readTree(value);
+            bindings.put("value_json", JsonBinding.toObject(tree));
         } catch (IOException e) {
             // ok, then value_json is null...
         }
@@ -95,7 +92,7 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
         String transformationResult;
 
         try {
-            transformationResult = jinjava.render(template, bindings);
+            transformationResult = renderer.render(template, bindings);
         } catch (FatalTemplateErrorsException e) {
             var error = e.getErrors().iterator();
             Exception exception = null;
@@ -115,34 +112,4 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
 
         return Optional.of(transformationResult);
     }
-
-    private static @Nullable Object toObject(JsonNode node) {
-        switch (node.getNodeType()) {
-            case ARRAY: {
-                List<@Nullable Object> result = new ArrayList<>();
-                for (JsonNode el : node) {
-                    result.add(toObject(el));
-                }
-                return result;
-            }
-            case NUMBER:
-                return node.decimalValue();
-            case OBJECT: {
-                Map<String, @Nullable Object> result = new HashMap<>();
-                Iterator<Entry<String, JsonNode>> it = node.fields();
-                while (it.hasNext()) {
-                    Entry<String, JsonNode> field = it.next();
-                    result.put(field.getKey(), toObject(field.getValue()));
-                }
-                return result;
-            }
-            case STRING:
-                return node.asText();
-            case BOOLEAN:
-                return node.asBoolean();
-            case NULL:
-            default:
-                return null;
-        }
-    }
 }
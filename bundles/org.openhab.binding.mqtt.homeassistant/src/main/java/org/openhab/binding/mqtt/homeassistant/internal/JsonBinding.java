@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.homeassistant.internal;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Converts a JSON tree into the objects used as <code>value_json</code> binding.
+ *
+ * Objects and arrays are wrapped into a {@link Map} and a {@link java.util.List} which convert their elements only when
+ * they are accessed, so a template which reads a single field of a large message does not convert the whole message.
+ * Numbers are converted to {@link java.math.BigDecimal}, strings to {@link String} and booleans to {@link Boolean}.
+ *
+ * The wrappers are not thread-safe, they are meant to be used for a single rendering.
+ *
+ * Add-ons are installed independently, so the Jinja transformation and the MQTT Home Assistant binding each have an
+ * identical copy of this class, which only differs in the package.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+final class JsonBinding {
+
+    private JsonBinding() {
+        // static utility class
+    }
+
+    static @Nullable Object toObject(JsonNode node) {
+        switch (node.getNodeType()) {
+            case ARRAY:
+                return new JsonList(node);
+            case NUMBER:
+                return node.decimalValue();
+            case OBJECT:
+                return new JsonMap(node);
+            case STRING:
+                return node.asText();
+            case BOOLEAN:
+                return node.asBoolean();
+            case NULL:
+            default:
+                return null;
+        }
+    }
+
+    private static class JsonMap extends AbstractMap<String, @Nullable Object> {
+        private final JsonNode node;
+        private final Map<String, @Nullable Object> converted = new HashMap<>();
+
+        JsonMap(JsonNode node) {
+            this.node = node;
+        }
+
+        @Override
+        public @Nullable Object get(@Nullable Object key) {
+            if (!(key instanceof String name)) {
+                return null;
+            }
+            if (converted.containsKey(name)) {
+                return converted.get(name);
+            }
+            JsonNode child = node.get(name);
+            Object value = child == null ? null : toObject(child);
+            converted.put(name, value);
+            return value;
+        }
+
+        @Override
+        public boolean containsKey(@Nullable Object key) {
+            return key instanceof String name && node.has(name);
+        }
+
+        @Override
+        public int size() {
+            return node.size();
+        }
+
+        @Override
+        public Set<Entry<String, @Nullable Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, @Nullable Object>> iterator() {
+                    Iterator<String> names = node.fieldNames();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return names.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, @Nullable Object> next() {
+                            String name = names.next();
+                            return new SimpleImmutableEntry<>(name, get(name));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return node.size();
+                }
+            };
+        }
+    }
+
+    private static class JsonList extends AbstractList<@Nullable Object> {
+        private final JsonNode node;
+        private final @Nullable Object[] elements;
+        private final boolean[] converted;
+
+        JsonList(JsonNode node) {
+            this.node = node;
+            this.elements = new Object[node.size()];
+            this.converted = new boolean[node.size()];
+        }
+
+        @Override
+        public @Nullable Object get(int index) {
+            if (!converted[index]) {
+                elements[index] = toObject(node.get(index));
+                converted[index] = true;
+            }
+            return elements[index];
+        }
+
+        @Override
+        public int size() {
+            return elements.length;
+        }
+    }
+}
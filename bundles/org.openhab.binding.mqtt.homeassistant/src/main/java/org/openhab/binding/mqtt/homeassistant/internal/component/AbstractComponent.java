@@ -38,6 +38,7 @@ import org.openhab.binding.mqtt.homeassistant.internal.ComponentChannel;
 import org.openhab.binding.mqtt.homeassistant.internal.ComponentChannelType;
 import org.openhab.binding.mqtt.homeassistant.internal.HaID;
 import org.openhab.binding.mqtt.homeassistant.internal.HomeAssistantChannelTransformation;
+import org.openhab.binding.mqtt.homeassistant.internal.JinjaTemplateRenderer;
 import org.openhab.binding.mqtt.homeassistant.internal.component.ComponentFactory.ComponentConfiguration;
 import org.openhab.binding.mqtt.homeassistant.internal.config.dto.AbstractChannelConfiguration;
 import org.openhab.binding.mqtt.homeassistant.internal.config.dto.Availability;
@@ -62,7 +63,6 @@ import org.openhab.core.types.StateDescription;
 
 import com.google.gson.Gson;
 import com.google.gson.annotations.SerializedName;
-import com.hubspot.jinjava.Jinjava;
 
 /**
  * A HomeAssistant component is comparable to a channel group.
@@ -155,7 +155,8 @@ public abstract class AbstractComponent<C extends AbstractChannelConfiguration>
                 String availabilityTemplate = availability.getValueTemplate();
                 ChannelTransformation transformation = null;
                 if (availabilityTemplate != null) {
-                    transformation = new HomeAssistantChannelTransformation(getJinjava(), this, availabilityTemplate);
+                    transformation = new HomeAssistantChannelTransformation(getTemplateRenderer(), this,
+                            availabilityTemplate);
                 }
                 componentConfiguration.getTracker().addAvailabilityTopic(availability.getTopic(),
                         availability.getPayloadAvailable(), availability.getPayloadNotAvailable(), transformation);
@@ -166,7 +167,8 @@ public abstract class AbstractComponent<C extends AbstractChannelConfiguration>
                 String availabilityTemplate = this.channelConfiguration.getAvailabilityTemplate();
                 ChannelTransformation transformation = null;
                 if (availabilityTemplate != null) {
-                    transformation = new HomeAssistantChannelTransformation(getJinjava(), this, availabilityTemplate);
+                    transformation = new HomeAssistantChannelTransformation(getTemplateRenderer(), this,
+                            availabilityTemplate);
                 }
                 componentConfiguration.getTracker().addAvailabilityTopic(availabilityTopic,
                         this.channelConfiguration.getPayloadAvailable(),
@@ -406,8 +408,8 @@ public abstract class AbstractComponent<C extends AbstractChannelConfiguration>
         return componentConfiguration.getGson();
     }
 
-    public Jinjava getJinjava() {
-        return componentConfiguration.getJinjava();
+    public JinjaTemplateRenderer getTemplateRenderer() {
+        return componentConfiguration.getTemplateRenderer();
     }
 
     public C getChannelConfiguration() {
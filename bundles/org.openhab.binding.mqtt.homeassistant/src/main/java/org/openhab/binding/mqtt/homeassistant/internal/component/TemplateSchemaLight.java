@@ -72,7 +72,7 @@ public class TemplateSchemaLight extends AbstractRawSchemaLight {
 
     public TemplateSchemaLight(ComponentFactory.ComponentConfiguration builder) {
         super(builder);
-        transformation = new HomeAssistantChannelTransformation(getJinjava(), this, "");
+        transformation = new HomeAssistantChannelTransformation(getTemplateRenderer(), this, "");
     }
 
     @Override
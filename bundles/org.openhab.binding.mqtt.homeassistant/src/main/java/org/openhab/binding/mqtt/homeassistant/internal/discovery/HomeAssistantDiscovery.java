@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -76,6 +77,13 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
     protected final Map<String, ThingUID> thingIDPerTopic = new HashMap<>();
     protected final Map<String, DiscoveryResult> results = new HashMap<>();
     protected final Map<String, DiscoveryResult> allResults = new HashMap<>();
+    // The parsed configuration per topic, so unchanged configurations are not parsed again after a reconnect
+    protected final Map<String, ParsedConfig> parsedConfigs = new ConcurrentHashMap<>();
+
+    // Statistics of the messages received since the results were last published, guarded by results
+    private long firstMessageNanos;
+    private int parsedCount;
+    private int unchangedCount;
 
     private @Nullable ScheduledFuture<?> future;
     private final Gson gson;
@@ -83,6 +91,8 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
     static final String BASE_TOPIC = "homeassistant";
     static final String BIRTH_TOPIC = "homeassistant/status";
     static final String ONLINE_STATUS = "online";
+    // Results are published once no further configuration was received for this delay
+    static final long PUBLISH_DELAY_MILLIS = 2000;
 
     @NonNullByDefault({})
     protected MqttChannelTypeProvider typeProvider;
@@ -90,6 +100,12 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
     @NonNullByDefault({})
     protected MQTTTopicDiscoveryService mqttTopicDiscovery;
 
+    /**
+     * The part of a component configuration that is needed to build a discovery result.
+     */
+    protected record ParsedConfig(String config, String thingID, String thingName, Map<String, Object> properties) {
+    }
+
     @Activate
     public HomeAssistantDiscovery(@Nullable Map<String, Object> properties) {
         super(null, 3, true, BASE_TOPIC + "/#");
@@ -151,20 +167,34 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         HaID haID = new HaID(topic);
 
         try {
-            AbstractChannelConfiguration config = AbstractChannelConfiguration
-                    .fromString(new String(payload, StandardCharsets.UTF_8), gson);
+            String configString = new String(payload, StandardCharsets.UTF_8);
+            ParsedConfig parsedConfig = parsedConfigs.get(topic);
+            boolean unchanged = parsedConfig != null && parsedConfig.config().equals(configString);
+            if (parsedConfig == null || !unchanged) {
+                AbstractChannelConfiguration config = AbstractChannelConfiguration.fromString(configString, gson);
+                parsedConfig = new ParsedConfig(configString, config.getThingId(haID.objectID), config.getThingName(),
+                        config.appendToProperties(new HashMap<>()));
+                parsedConfigs.put(topic, parsedConfig);
+            }
 
-            final String thingID = config.getThingId(haID.objectID);
+            final String thingID = parsedConfig.thingID();
             final ThingUID thingUID = new ThingUID(MqttBindingConstants.HOMEASSISTANT_MQTT_THING, bridgeUID, thingID);
 
             synchronized (results) {
+                if (parsedCount == 0 && unchangedCount == 0) {
+                    firstMessageNanos = System.nanoTime();
+                }
+                if (unchanged) {
+                    unchangedCount++;
+                } else {
+                    parsedCount++;
+                }
                 thingIDPerTopic.put(topic, thingUID);
 
-                Map<String, Object> properties = new HashMap<>();
-                properties = config.appendToProperties(properties);
+                Map<String, Object> properties = new HashMap<>(parsedConfig.properties());
                 properties.put("deviceId", thingID);
 
-                buildResult(thingID, thingUID, config.getThingName(), haID, properties, bridgeUID);
+                buildResult(thingID, thingUID, parsedConfig.thingName(), haID, properties, bridgeUID);
             }
         } catch (ConfigurationException e) {
             logger.warn("HomeAssistant discover error: invalid configuration of thing {} component {}: {}",
@@ -196,12 +226,12 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
 
     private void resetPublishTimer() {
         // Reset the found-component timer.
-        // We will collect components for the thing label description for another 2 seconds.
+        // We will collect components for the thing label description for another PUBLISH_DELAY_MILLIS.
         final ScheduledFuture<?> future = this.future;
         if (future != null) {
             future.cancel(false);
         }
-        this.future = scheduler.schedule(this::publishResults, 2, TimeUnit.SECONDS);
+        this.future = scheduler.schedule(this::publishResults, PUBLISH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
     }
 
     private void buildResult(String thingID, ThingUID thingUID, String thingName, HaID haID,
@@ -240,6 +270,16 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         synchronized (results) {
             localResults = new ArrayList<>(results.values());
             results.clear();
+            if (parsedCount > 0 || unchangedCount > 0) {
+                // the publish timer fires PUBLISH_DELAY_MILLIS after the last message
+                long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - firstMessageNanos)
+                        - PUBLISH_DELAY_MILLIS;
+                logger.debug("Processed {} component configurations ({} parsed, {} unchanged) of {} things in {} ms",
+                        parsedCount + unchangedCount, parsedCount, unchangedCount, localResults.size(),
+                        Math.max(elapsed, 0));
+                parsedCount = 0;
+                unchangedCount = 0;
+            }
         }
         for (DiscoveryResult result : localResults) {
             thingDiscovered(result);
@@ -251,6 +291,7 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         if (!topic.endsWith("/config")) {
             return;
         }
+        parsedConfigs.remove(topic);
         synchronized (results) {
             ThingUID thingUID = thingIDPerTopic.remove(topic);
             if (thingUID != null) {
@@ -39,6 +39,7 @@ import org.openhab.binding.mqtt.homeassistant.internal.DiscoverComponents.Compon
 import org.openhab.binding.mqtt.homeassistant.internal.HaID;
 import org.openhab.binding.mqtt.homeassistant.internal.HandlerConfiguration;
 import org.openhab.binding.mqtt.homeassistant.internal.HomeAssistantChannelLinkageChecker;
+import org.openhab.binding.mqtt.homeassistant.internal.JinjaTemplateRenderer;
 import org.openhab.binding.mqtt.homeassistant.internal.actions.HomeAssistantUpdateThingActions;
 import org.openhab.binding.mqtt.homeassistant.internal.component.AbstractComponent;
 import org.openhab.binding.mqtt.homeassistant.internal.component.ComponentFactory;
@@ -63,7 +64,6 @@ import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.hubspot.jinjava.Jinjava;
 
 /**
  * Handles HomeAssistant MQTT object things. Such an HA Object can have multiple HA Components with different instances
@@ -95,7 +95,7 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
     protected final MqttChannelTypeProvider channelTypeProvider;
     protected final MqttChannelStateDescriptionProvider stateDescriptionProvider;
     protected final ChannelTypeRegistry channelTypeRegistry;
-    protected final Jinjava jinjava;
+    protected final JinjaTemplateRenderer templateRenderer;
     protected final UnitProvider unitProvider;
     public final int attributeReceiveTimeout;
     protected final DelayedBatchProcessing<Object> delayedProcessing;
@@ -124,20 +124,20 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
      */
     public HomeAssistantThingHandler(Thing thing, BaseThingHandlerFactory thingHandlerFactory,
             MqttChannelTypeProvider channelTypeProvider, MqttChannelStateDescriptionProvider stateDescriptionProvider,
-            ChannelTypeRegistry channelTypeRegistry, Jinjava jinjava, UnitProvider unitProvider, int subscribeTimeout,
-            int attributeReceiveTimeout) {
+            ChannelTypeRegistry channelTypeRegistry, JinjaTemplateRenderer templateRenderer, UnitProvider unitProvider,
+            int subscribeTimeout, int attributeReceiveTimeout) {
         super(thing, subscribeTimeout);
         this.gson = new GsonBuilder().registerTypeAdapterFactory(new ChannelConfigurationTypeAdapterFactory()).create();
         this.thingHandlerFactory = thingHandlerFactory;
         this.channelTypeProvider = channelTypeProvider;
         this.stateDescriptionProvider = stateDescriptionProvider;
         this.channelTypeRegistry = channelTypeRegistry;
-        this.jinjava = jinjava;
+        this.templateRenderer = templateRenderer;
         this.unitProvider = unitProvider;
         this.attributeReceiveTimeout = attributeReceiveTimeout;
         this.delayedProcessing = new DelayedBatchProcessing<>(attributeReceiveTimeout, this, scheduler);
-        this.discoverComponents = new DiscoverComponents(thing.getUID(), scheduler, this, this, this, gson, jinjava,
-                unitProvider);
+        this.discoverComponents = new DiscoverComponents(thing.getUID(), scheduler, this, this, this, gson,
+                templateRenderer, unitProvider);
     }
 
     @Override
@@ -185,7 +185,8 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
                 String channelConfigurationJSON = (String) channelConfig.get("config");
                 try {
                     AbstractComponent<?> component = ComponentFactory.createComponent(thingUID, haID,
-                            channelConfigurationJSON, this, this, this, scheduler, gson, jinjava, unitProvider);
+                            channelConfigurationJSON, this, this, this, scheduler, gson, templateRenderer,
+                            unitProvider);
                     if (typeID.equals(MqttBindingConstants.HOMEASSISTANT_MQTT_THING)) {
                         typeID = calculateThingTypeUID(component);
                     }
@@ -280,6 +281,18 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
         delayedProcessing.accept(haID);
     }
 
+    /**
+     * Callback of {@link DiscoverComponents}. Components restored from the channel configurations are not re-created
+     * when the same configuration is discovered again.
+     */
+    @Override
+    public @Nullable String getKnownConfig(HaID haID) {
+        synchronized (haComponents) {
+            AbstractComponent<?> known = haComponentsByHaId.get(haID);
+            return known != null ? known.getChannelConfigurationJson() : null;
+        }
+    }
+
     /**
      * Callback of {@link DelayedBatchProcessing}.
      * Add all newly discovered and removed components to the Thing and start the components.
@@ -301,6 +314,10 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
         if (!removedComponents.isEmpty()) {
             removeComponents(removedComponents);
         }
+        logger.debug("Discovery of {}: {} components created in {} ms, {} unchanged configurations skipped",
+                getThing().getUID(), discoverComponents.getCreatedCount(), discoverComponents.getCreateMillis(),
+                discoverComponents.getUnchangedCount());
+        discoverComponents.resetStatistics();
     }
 
     /**
@@ -314,6 +331,7 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
 
         synchronized (haComponents) { // sync whenever discoverComponents is started
             ThingTypeUID typeID = getThing().getThingTypeUID();
+            boolean componentsChanged = false;
             for (AbstractComponent<?> discovered : discoveredComponentsList) {
                 if (typeID.equals(MqttBindingConstants.HOMEASSISTANT_MQTT_THING)) {
                     typeID = calculateThingTypeUID(discovered);
@@ -338,6 +356,7 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
                     }
                 }
 
+                componentsChanged = true;
                 // Add component to the component map
                 if (addComponent(discovered)) {
                     // Start component / Subscribe to channel topics
@@ -347,7 +366,10 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
                     });
                 }
             }
-            updateThingType(typeID);
+            // Regenerating the thing and channel types is expensive, skip it if nothing changed
+            if (componentsChanged || !typeID.equals(getThing().getThingTypeUID())) {
+                updateThingType(typeID);
+            }
         }
     }
 
@@ -65,7 +65,8 @@ public class HomeAssistantChannelTransformationTests {
         AbstractComponent component = Mockito.mock(AbstractComponent.class);
         HaID haID = new HaID("homeassistant/light/pool/light/config");
         when(component.getHaID()).thenReturn(haID);
-        transformation = new HomeAssistantChannelTransformation(thingHandlerFactory.getJinjava(), component, "");
+        transformation = new HomeAssistantChannelTransformation(thingHandlerFactory.getTemplateRenderer(), component,
+                "");
     }
 
     @Test
@@ -122,6 +123,15 @@ public class HomeAssistantChannelTransformationTests {
                 ""), is("[button_up, press]"));
     }
 
+    @Test
+    public void testRepeatedTemplate() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(transform("{{ value_json.action | is_defined }}", "{\"battery\":" + i + "}"), is(nullValue()));
+            assertThat(transform("{{ value_json.sensors[1].temperature }}",
+                    "{\"sensors\":[{},{\"temperature\":2" + i + ".5}]}"), is("2" + i + ".5"));
+        }
+    }
+
     protected @Nullable String transform(String template, String value) {
         return transformation.apply(template, value).orElse(null);
     }
@@ -40,6 +40,7 @@ import org.openhab.binding.mqtt.homeassistant.internal.AbstractHomeAssistantTest
 import org.openhab.binding.mqtt.homeassistant.internal.ComponentChannel;
 import org.openhab.binding.mqtt.homeassistant.internal.HaID;
 import org.openhab.binding.mqtt.homeassistant.internal.HandlerConfiguration;
+import org.openhab.binding.mqtt.homeassistant.internal.JinjaTemplateRenderer;
 import org.openhab.binding.mqtt.homeassistant.internal.config.dto.AbstractChannelConfiguration;
 import org.openhab.binding.mqtt.homeassistant.internal.handler.HomeAssistantThingHandler;
 import org.openhab.core.i18n.UnitProvider;
@@ -369,7 +370,8 @@ public abstract class AbstractComponentTests extends AbstractHomeAssistantTests
                 MqttChannelStateDescriptionProvider stateDescriptionProvider, ChannelTypeRegistry channelTypeRegistry,
                 UnitProvider unitProvider, int subscribeTimeout, int attributeReceiveTimeout) {
             super(thing, thingHandlerFactory, channelTypeProvider, stateDescriptionProvider, channelTypeRegistry,
-                    new Jinjava(), unitProvider, subscribeTimeout, attributeReceiveTimeout);
+                    new JinjaTemplateRenderer(new Jinjava(), 100), unitProvider, subscribeTimeout,
+                    attributeReceiveTimeout);
         }
 
         @Override
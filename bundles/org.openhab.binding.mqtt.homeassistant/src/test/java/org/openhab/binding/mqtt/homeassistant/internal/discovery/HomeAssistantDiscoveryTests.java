@@ -181,6 +181,37 @@ public class HomeAssistantDiscoveryTests extends AbstractHomeAssistantTests {
                 hasItems("climate/0x847127fffe11dd6a_climate_zigbee2mqtt"));
     }
 
+    @Test
+    public void testUnchangedConfigIsNotParsedAgain() throws Exception {
+        var discoveryListener = new LatchDiscoveryListener();
+        var latch = discoveryListener.createWaitForThingsDiscoveredLatch(1);
+        var topic = "homeassistant/climate/0x847127fffe11dd6a_climate_zigbee2mqtt/config";
+
+        discovery.addDiscoveryListener(discoveryListener);
+        discovery.receivedMessage(HA_UID, bridgeConnection, topic,
+                getResourceAsByteArray("component/configTS0601ClimateThermostat.json"));
+        assert latch.await(3, TimeUnit.SECONDS);
+        var parsedConfig = discovery.parsedConfigs.get(topic);
+        assertThat(parsedConfig, is(notNullValue()));
+
+        // When the same config is received again, e.g. after a reconnect
+        latch = discoveryListener.createWaitForThingsDiscoveredLatch(1);
+        discoveryListener.getDiscoveryResults();
+        discovery.receivedMessage(HA_UID, bridgeConnection, topic,
+                getResourceAsByteArray("component/configTS0601ClimateThermostat.json"));
+
+        // Then the parsed config is reused and the thing is found again
+        assert latch.await(3, TimeUnit.SECONDS);
+        assertThat(discovery.parsedConfigs.get(topic), is(sameInstance(parsedConfig)));
+        var discoveryResults = discoveryListener.getDiscoveryResults();
+        assertThat(discoveryResults.size(), is(1));
+        var result = discoveryResults.get(0);
+        assertThat(result.getLabel(), is("th1"));
+        assertThat(result.getProperties().get(Thing.PROPERTY_VENDOR), is("TuYa"));
+        assertThat((List<String>) result.getProperties().get(HandlerConfiguration.PROPERTY_TOPICS),
+                hasItems("climate/0x847127fffe11dd6a_climate_zigbee2mqtt"));
+    }
+
     private static class TestHomeAssistantDiscovery extends HomeAssistantDiscovery {
         public TestHomeAssistantDiscovery(MqttChannelTypeProvider typeProvider) {
             super(null);
@@ -34,6 +34,7 @@ import org.openhab.binding.mqtt.homeassistant.internal.AbstractHomeAssistantTest
 import org.openhab.binding.mqtt.homeassistant.internal.ComponentChannelType;
 import org.openhab.binding.mqtt.homeassistant.internal.HaID;
 import org.openhab.binding.mqtt.homeassistant.internal.HandlerConfiguration;
+import org.openhab.binding.mqtt.homeassistant.internal.JinjaTemplateRenderer;
 import org.openhab.binding.mqtt.homeassistant.internal.component.Climate;
 import org.openhab.binding.mqtt.homeassistant.internal.component.Sensor;
 import org.openhab.binding.mqtt.homeassistant.internal.component.Switch;
@@ -91,8 +92,8 @@ public class HomeAssistantThingHandlerTests extends AbstractHomeAssistantTests {
 
     protected void setupThingHandler() {
         thingHandler = new HomeAssistantThingHandler(haThing, thingHandlerFactory, channelTypeProvider,
-                stateDescriptionProvider, channelTypeRegistry, new Jinjava(), unitProvider, SUBSCRIBE_TIMEOUT,
-                ATTRIBUTE_RECEIVE_TIMEOUT);
+                stateDescriptionProvider, channelTypeRegistry, new JinjaTemplateRenderer(new Jinjava(), 100),
+                unitProvider, SUBSCRIBE_TIMEOUT, ATTRIBUTE_RECEIVE_TIMEOUT);
         thingHandler.setConnection(bridgeConnection);
         thingHandler.setCallback(callbackMock);
         nonSpyThingHandler = thingHandler;
@@ -326,6 +327,33 @@ public class HomeAssistantThingHandlerTests extends AbstractHomeAssistantTests {
         assertThat(haThing.getChannels().size(), is(0));
     }
 
+    @Test
+    public void testUnchangedConfigIsSkipped() {
+        thingHandler.initialize();
+
+        // Expect subscription on each topic from config
+        MQTT_TOPICS.forEach(t -> {
+            verify(bridgeConnection, timeout(SUBSCRIBE_TIMEOUT)).subscribe(eq(t), any());
+        });
+        var configTopic = "homeassistant/climate/0x847127fffe11dd6a_climate_zigbee2mqtt/config";
+        thingHandler.discoverComponents.processMessage(configTopic,
+                getResourceAsByteArray("component/configTS0601ClimateThermostat.json"));
+        thingHandler.delayedProcessing.forceProcessNow();
+        assertThat(nonSpyThingHandler.getThing().getChannels().size(), is(7));
+
+        // The same retained config again, e.g. after a reconnect
+        thingHandler.discoverComponents.processMessage(configTopic,
+                getResourceAsByteArray("component/configTS0601ClimateThermostat.json"));
+        verify(thingHandler, times(1)).componentDiscovered(any(), any());
+        assertThat(thingHandler.discoverComponents.getUnchangedCount(), is(1L));
+
+        // Removed and added again
+        thingHandler.discoverComponents.processMessage(configTopic, new byte[0]);
+        thingHandler.discoverComponents.processMessage(configTopic,
+                getResourceAsByteArray("component/configTS0601ClimateThermostat.json"));
+        verify(thingHandler, times(2)).componentDiscovered(eq(new HaID(configTopic)), any(Climate.class));
+    }
+
     @Test
     public void testRestoreComponentFromChannelConfig() {
         Configuration thingConfiguration = new Configuration();
@@ -361,8 +389,8 @@ public class HomeAssistantThingHandlerTests extends AbstractHomeAssistantTests {
     @Test
     public void testDuplicateChannelId() {
         thingHandler = new HomeAssistantThingHandler(haThing, thingHandlerFactory, channelTypeProvider,
-                stateDescriptionProvider, channelTypeRegistry, new Jinjava(), unitProvider, SUBSCRIBE_TIMEOUT,
-                ATTRIBUTE_RECEIVE_TIMEOUT);
+                stateDescriptionProvider, channelTypeRegistry, new JinjaTemplateRenderer(new Jinjava(), 100),
+                unitProvider, SUBSCRIBE_TIMEOUT, ATTRIBUTE_RECEIVE_TIMEOUT);
         thingHandler.setConnection(bridgeConnection);
         thingHandler.setCallback(callbackMock);
         nonSpyThingHandler = thingHandler;
@@ -418,8 +446,8 @@ public class HomeAssistantThingHandlerTests extends AbstractHomeAssistantTests {
     @Test
     public void testDuplicateChannelIdComplex() {
         thingHandler = new HomeAssistantThingHandler(haThing, thingHandlerFactory, channelTypeProvider,
-                stateDescriptionProvider, channelTypeRegistry, new Jinjava(), unitProvider, SUBSCRIBE_TIMEOUT,
-                ATTRIBUTE_RECEIVE_TIMEOUT);
+                stateDescriptionProvider, channelTypeRegistry, new JinjaTemplateRenderer(new Jinjava(), 100),
+                unitProvider, SUBSCRIBE_TIMEOUT, ATTRIBUTE_RECEIVE_TIMEOUT);
         thingHandler.setConnection(bridgeConnection);
         thingHandler.setCallback(callbackMock);
         nonSpyThingHandler = thingHandler;
@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.dynamodb.internal;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.RequestLimitExceededException;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+
+/**
+ * Buffers DTOs and writes them with BatchWriteItem requests of at most {@link #MAX_BATCH_SIZE} items.
+ *
+ * Only one request is in flight at a time. Unprocessed items and throttled requests are put back to the head of the
+ * queue, and the delay before the next request is doubled (with jitter) up to {@link #MAX_BACKOFF}. Each request that
+ * is processed completely halves the delay again, so the send rate adapts to the provisioned write capacity.
+ *
+ * If the table does not exist yet, the batch falls back to {@link TableCreatingPutItem}, which creates the table.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+public class DynamoDBBatchWriter {
+
+    /**
+     * Maximum number of put requests in one BatchWriteItem request, as defined by DynamoDB
+     */
+    static final int MAX_BATCH_SIZE = 25;
+
+    private static final Duration MIN_BACKOFF = Duration.ofMillis(50);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(20);
+
+    private final Logger logger = LoggerFactory.getLogger(DynamoDBBatchWriter.class);
+
+    private final DynamoDBPersistenceService service;
+    private final ScheduledExecutorService scheduler;
+    private final long commitIntervalMillis;
+    private final int capacity;
+
+    // guarded by this
+    private final Deque<DynamoDBItem<?>> queue = new ArrayDeque<>();
+    private long backoffMillis;
+    private boolean sending;
+    private boolean closed;
+    private @Nullable ScheduledFuture<?> sendJob;
+
+    public DynamoDBBatchWriter(DynamoDBPersistenceService service, ScheduledExecutorService scheduler,
+            long commitIntervalMillis, int capacity) {
+        this.service = service;
+        this.scheduler = scheduler;
+        this.commitIntervalMillis = commitIntervalMillis;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Queue DTO for writing
+     *
+     * @param dto DTO to write
+     * @return false if the buffer is full and the DTO was dropped
+     */
+    public synchronized boolean add(DynamoDBItem<?> dto) {
+        if (closed || queue.size() >= capacity) {
+            return false;
+        }
+        queue.addLast(dto);
+        // send full batches right away, otherwise wait for more values to arrive
+        scheduleSend(queue.size() >= MAX_BATCH_SIZE ? backoffMillis : Math.max(backoffMillis, commitIntervalMillis));
+        return true;
+    }
+
+    public synchronized int size() {
+        return queue.size();
+    }
+
+    /**
+     * Write all queued DTOs and stop accepting new ones
+     *
+     * @param timeout maximum time to wait for the DTOs to be written
+     */
+    public synchronized void close(Duration timeout) {
+        closed = true;
+        ScheduledFuture<?> localSendJob = sendJob;
+        if (localSendJob != null) {
+            localSendJob.cancel(false);
+            sendJob = null;
+        }
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        boolean backedOff = false;
+        try {
+            while (sending || !queue.isEmpty()) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    break;
+                }
+                if (sending) {
+                    wait(remainingMillis);
+                } else if (backoffMillis > 0 && !backedOff) {
+                    backedOff = true;
+                    wait(Math.min(backoffMillis, remainingMillis));
+                } else {
+                    backedOff = false;
+                    startSend();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            logger.warn("BatchWriteItem: {} values could not be written before shutdown and are discarded",
+                    queue.size());
+            queue.clear();
+        }
+    }
+
+    private synchronized void scheduleSend(long delayMillis) {
+        if (closed || sending || queue.isEmpty()) {
+            return;
+        }
+        ScheduledFuture<?> localSendJob = sendJob;
+        if (localSendJob != null) {
+            if (localSendJob.getDelay(TimeUnit.MILLISECONDS) <= delayMillis) {
+                return;
+            }
+            localSendJob.cancel(false);
+        }
+        sendJob = scheduler.schedule(this::send, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void send() {
+        sendJob = null;
+        if (!closed) {
+            startSend();
+        }
+    }
+
+    private synchronized void startSend() {
+        if (sending || queue.isEmpty()) {
+            return;
+        }
+        sending = true;
+
+        // DynamoDB rejects batches with duplicate keys, later values overwrite earlier ones like with PutItem
+        Map<String, DynamoDBItem<?>> batch = new LinkedHashMap<>();
+        while (batch.size() < MAX_BATCH_SIZE) {
+            DynamoDBItem<?> dto = queue.pollFirst();
+            if (dto == null) {
+                break;
+            }
+            batch.put(key(dto), dto);
+        }
+
+        CompletableFuture<Void> future;
+        try {
+            future = write(batch);
+        } catch (RuntimeException e) {
+            logger.warn("BatchWriteItem: failed (final) with {} {}. {} values not stored.",
+                    e.getClass().getSimpleName(), e.getMessage(), batch.size());
+            future = CompletableFuture.completedFuture(null);
+        }
+        future.whenComplete((result, exception) -> {
+            synchronized (this) {
+                sending = false;
+                notifyAll();
+                scheduleSend(backoffMillis == 0 ? 0
+                        : ThreadLocalRandom.current().nextLong(backoffMillis / 2, backoffMillis + 1));
+            }
+        });
+    }
+
+    /**
+     * @return the primary key of the DTO, i.e. item name and timestamp
+     */
+    private static String key(DynamoDBItem<?> dto) {
+        return dto.getName() + "/" + dto.getTime().toInstant().toEpochMilli();
+    }
+
+    private CompletableFuture<Void> write(Map<String, DynamoDBItem<?>> batchByKey) {
+        List<DynamoDBItem<?>> batch = new ArrayList<>(batchByKey.values());
+        DynamoDbEnhancedAsyncClient client = service.getClient();
+        if (client == null) {
+            throw new IllegalStateException("Client not ready");
+        }
+
+        List<DynamoDBBigDecimalItem> numbers = new ArrayList<>();
+        List<DynamoDBStringItem> strings = new ArrayList<>();
+        for (DynamoDBItem<?> dto : batch) {
+            dto.accept(new DynamoDBItemVisitor<Boolean>() {
+                @Override
+                public Boolean visit(DynamoDBBigDecimalItem dynamoBigDecimalItem) {
+                    return numbers.add(dynamoBigDecimalItem);
+                }
+
+                @Override
+                public Boolean visit(DynamoDBStringItem dynamoStringItem) {
+                    return strings.add(dynamoStringItem);
+                }
+            });
+        }
+
+        DynamoDbAsyncTable<DynamoDBBigDecimalItem> numberTable = service.getTable(DynamoDBBigDecimalItem.class);
+        DynamoDbAsyncTable<DynamoDBStringItem> stringTable = service.getTable(DynamoDBStringItem.class);
+        BatchWriteItemEnhancedRequest.Builder request = BatchWriteItemEnhancedRequest.builder();
+        if (!numbers.isEmpty()) {
+            request.addWriteBatch(writeBatch(DynamoDBBigDecimalItem.class, numberTable, numbers));
+        }
+        if (!strings.isEmpty()) {
+            request.addWriteBatch(writeBatch(DynamoDBStringItem.class, stringTable, strings));
+        }
+
+        // with the new table schema, number and string values are stored in the same table
+        Map<String, DynamoDbAsyncTable<? extends DynamoDBItem<?>>> tables = new LinkedHashMap<>();
+        if (!numbers.isEmpty()) {
+            tables.putIfAbsent(numberTable.tableName(), numberTable);
+        }
+        if (!strings.isEmpty()) {
+            tables.putIfAbsent(stringTable.tableName(), stringTable);
+        }
+
+        Instant start = Instant.now();
+        return client.batchWriteItem(request.build()).handleAsync((result, exception) -> {
+            if (exception == null) {
+                // unprocessed items are only used for their key, the queued DTOs are retried, as the schema of the
+                // table may not match the type of an unprocessed item
+                Set<String> unprocessedKeys = new HashSet<>();
+                for (DynamoDbAsyncTable<? extends DynamoDBItem<?>> table : tables.values()) {
+                    for (DynamoDBItem<?> item : result.unprocessedPutItemsForTable(table)) {
+                        unprocessedKeys.add(key(item));
+                    }
+                }
+                List<DynamoDBItem<?>> unprocessed = new ArrayList<>();
+                batchByKey.forEach((key, dto) -> {
+                    if (unprocessedKeys.contains(key)) {
+                        unprocessed.add(dto);
+                    }
+                });
+                if (unprocessed.isEmpty()) {
+                    logger.trace("BatchWriteItem: {} values written in {} ms", batch.size(),
+                            Duration.between(start, Instant.now()).toMillis());
+                    onSuccess();
+                } else {
+                    logger.debug("BatchWriteItem: {} of {} values were not processed, retrying", unprocessed.size(),
+                            batch.size());
+                    onThrottled(unprocessed);
+                }
+                return null;
+            }
+
+            Throwable cause = exception instanceof CompletionException && exception.getCause() != null
+                    ? exception.getCause()
+                    : exception;
+            if (cause instanceof ProvisionedThroughputExceededException
+                    || cause instanceof RequestLimitExceededException) {
+                logger.debug("BatchWriteItem: throttled with {}, retrying {} values", cause.getClass().getSimpleName(),
+                        batch.size());
+                onThrottled(batch);
+                return null;
+            } else if (cause instanceof ResourceNotFoundException) {
+                // Table does not exist yet, let PutItem create it
+                logger.trace("BatchWriteItem: table was not present. Retrying with PutItem, creating the table first");
+                return CompletableFuture
+                        .allOf(batch.stream().map(service::putItemAsync).toArray(CompletableFuture[]::new));
+            } else {
+                logger.warn("BatchWriteItem: failed (final) with {} {}. {} values not stored.",
+                        cause == null ? "<null>" : cause.getClass().getSimpleName(),
+                        cause == null ? "" : cause.getMessage(), batch.size());
+                return null;
+            }
+        }, service.getExecutor()).thenCompose(putItems -> putItems == null //
+                ? CompletableFuture.<Void> completedFuture(null)
+                : putItems.<Void> handle((result, exception) -> null));
+    }
+
+    private static <T extends DynamoDBItem<?>> WriteBatch writeBatch(Class<T> dtoClass, DynamoDbAsyncTable<T> table,
+            List<T> dtos) {
+        WriteBatch.Builder<T> writeBatch = WriteBatch.builder(dtoClass).mappedTableResource(table);
+        dtos.forEach(writeBatch::addPutItem);
+        return writeBatch.build();
+    }
+
+    private synchronized void onSuccess() {
+        backoffMillis = backoffMillis / 2 < MIN_BACKOFF.toMillis() ? 0 : backoffMillis / 2;
+    }
+
+    private synchronized void onThrottled(List<DynamoDBItem<?>> dtos) {
+        // keep the order of the values, the retried ones are older than the queued ones
+        for (int i = dtos.size() - 1; i >= 0; i--) {
+            queue.addFirst(dtos.get(i));
+        }
+        backoffMillis = Math.min(MAX_BACKOFF.toMillis(), Math.max(MIN_BACKOFF.toMillis(), backoffMillis * 2));
+        logger.debug("BatchWriteItem: delaying next request by up to {} ms", backoffMillis);
+    }
+}
@@ -49,6 +49,8 @@ public class DynamoDBConfig {
     public static final String DEFAULT_TABLE_NAME = "openhab";
     public static final long DEFAULT_READ_CAPACITY_UNITS = 1;
     public static final long DEFAULT_WRITE_CAPACITY_UNITS = 1;
+    public static final long DEFAULT_BUFFER_COMMIT_INTERVAL_MILLIS = 0;
+    public static final int DEFAULT_BUFFER_SIZE = 1000;
     private static final Logger LOGGER = LoggerFactory.getLogger(DynamoDBConfig.class);
 
     private long readCapacityUnits;
@@ -60,6 +62,8 @@ public class DynamoDBConfig {
     private String table;
     private String tablePrefixLegacy;
     private @Nullable Integer expireDays;
+    private long bufferCommitIntervalMillis = DEFAULT_BUFFER_COMMIT_INTERVAL_MILLIS;
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
 
     /**
      *
@@ -168,25 +172,58 @@ public class DynamoDBConfig {
                 }
             }
 
+            final long bufferCommitIntervalMillis;
+            String bufferCommitIntervalMillisParam = (String) config.get("bufferCommitIntervalMillis");
+            if (bufferCommitIntervalMillisParam == null || bufferCommitIntervalMillisParam.isBlank()) {
+                bufferCommitIntervalMillis = DEFAULT_BUFFER_COMMIT_INTERVAL_MILLIS;
+            } else {
+                bufferCommitIntervalMillis = Long.parseLong(bufferCommitIntervalMillisParam);
+                if (bufferCommitIntervalMillis < 0) {
+                    LOGGER.error("bufferCommitIntervalMillis should be zero or positive integer");
+                    return null;
+                }
+            }
+
+            final int bufferSize;
+            String bufferSizeParam = (String) config.get("bufferSize");
+            if (bufferSizeParam == null || bufferSizeParam.isBlank()) {
+                bufferSize = DEFAULT_BUFFER_SIZE;
+            } else {
+                bufferSize = Integer.parseInt(bufferSizeParam);
+                if (bufferSize <= 0) {
+                    LOGGER.error("bufferSize should be positive integer");
+                    return null;
+                }
+            }
+
+            final DynamoDBConfig dbConfig;
             switch (tableRevision) {
                 case NEW:
                     LOGGER.debug("Using new DynamoDB table schema");
-                    return DynamoDBConfig.newSchema(region, credentials, retryMode.map(AwsRetryPolicy::forRetryMode),
-                            table, readCapacityUnits, writeCapacityUnits, expireDays);
+                    dbConfig = DynamoDBConfig.newSchema(region, credentials,
+                            retryMode.map(AwsRetryPolicy::forRetryMode), table, readCapacityUnits, writeCapacityUnits,
+                            expireDays);
+                    break;
                 case LEGACY:
                     LOGGER.warn(
                             "Using legacy DynamoDB table schema. It is recommended to transition to new schema by defining 'table' parameter and not configuring 'tablePrefix'");
-                    return DynamoDBConfig.legacySchema(region, credentials, retryMode.map(AwsRetryPolicy::forRetryMode),
-                            tablePrefixLegacy, readCapacityUnits, writeCapacityUnits);
+                    dbConfig = DynamoDBConfig.legacySchema(region, credentials,
+                            retryMode.map(AwsRetryPolicy::forRetryMode), tablePrefixLegacy, readCapacityUnits,
+                            writeCapacityUnits);
+                    break;
                 case MAYBE_LEGACY:
                     LOGGER.debug(
                             "Unclear whether we should use new legacy DynamoDB table schema. It is recommended to explicitly define new 'table' parameter. The correct table schema will be detected at runtime.");
-                    return DynamoDBConfig.maybeLegacySchema(region, credentials,
+                    dbConfig = DynamoDBConfig.maybeLegacySchema(region, credentials,
                             retryMode.map(AwsRetryPolicy::forRetryMode), table, tablePrefixLegacy, readCapacityUnits,
                             writeCapacityUnits, expireDays);
+                    break;
                 default:
                     throw new IllegalStateException("Unhandled enum. Bug");
             }
+            dbConfig.bufferCommitIntervalMillis = bufferCommitIntervalMillis;
+            dbConfig.bufferSize = bufferSize;
+            return dbConfig;
         } catch (Exception e) {
             LOGGER.error("Error with configuration: {} {}", e.getClass().getSimpleName(), e.getMessage());
             return null;
@@ -263,4 +300,18 @@ public class DynamoDBConfig {
     public @Nullable Integer getExpireDays() {
         return expireDays;
     }
+
+    /**
+     * @return time to collect values before they are written with BatchWriteItem, 0 if values are written one by one
+     */
+    public long getBufferCommitIntervalMillis() {
+        return bufferCommitIntervalMillis;
+    }
+
+    /**
+     * @return maximum number of values waiting to be written
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
 }
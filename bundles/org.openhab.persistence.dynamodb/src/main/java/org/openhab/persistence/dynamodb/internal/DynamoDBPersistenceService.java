@@ -115,10 +115,12 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
     private final ExecutorService executor = ThreadPoolManager.getPool(DYNAMODB_THREADPOOL_NAME);
     private static final Duration TIMEOUT_API_CALL = Duration.ofSeconds(60);
     private static final Duration TIMEOUT_API_CALL_ATTEMPT = Duration.ofSeconds(5);
+    private static final Duration TIMEOUT_BUFFER_FLUSH = Duration.ofSeconds(30);
     private Map<Class<? extends DynamoDBItem<?>>, DynamoDbAsyncTable<? extends DynamoDBItem<?>>> tableCache = new ConcurrentHashMap<>(
             2);
 
     private @Nullable URI endpointOverride;
+    private @Nullable DynamoDBBatchWriter batchWriter;
 
     void overrideConfig(AwsRequestOverrideConfiguration.Builder config) {
         config.apiCallAttemptTimeout(TIMEOUT_API_CALL_ATTEMPT).apiCallTimeout(TIMEOUT_API_CALL);
@@ -157,6 +159,11 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
         return endpointOverride;
     }
 
+    @Nullable
+    DynamoDbEnhancedAsyncClient getClient() {
+        return client;
+    }
+
     @Nullable
     DynamoDbAsyncClient getLowLevelClient() {
         return lowLevelClient;
@@ -197,6 +204,13 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
             return;
         }
 
+        if (localDbConfig.getBufferCommitIntervalMillis() > 0) {
+            logger.debug("Buffering values for {} ms, writing them with BatchWriteItem",
+                    localDbConfig.getBufferCommitIntervalMillis());
+            batchWriter = new DynamoDBBatchWriter(this, ThreadPoolManager.getScheduledPool("persist"),
+                    localDbConfig.getBufferCommitIntervalMillis(), localDbConfig.getBufferSize());
+        }
+
         isProperlyConfigured = true;
         logger.debug("dynamodb persistence service activated");
     }
@@ -277,7 +291,7 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
         }
     }
 
-    private <T extends DynamoDBItem<?>> DynamoDbAsyncTable<T> getTable(Class<T> dtoClass) {
+    <T extends DynamoDBItem<?>> DynamoDbAsyncTable<T> getTable(Class<T> dtoClass) {
         DynamoDbEnhancedAsyncClient localClient = client;
         DynamoDBTableNameResolver localTableNameResolver = tableNameResolver;
         if (!ensureClient() || localClient == null || localTableNameResolver == null) {
@@ -316,6 +330,12 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
     }
 
     private void disconnect() {
+        DynamoDBBatchWriter localBatchWriter = batchWriter;
+        if (localBatchWriter != null) {
+            // write buffered values while the client is still available
+            localBatchWriter.close(TIMEOUT_BUFFER_FLUSH);
+            batchWriter = null;
+        }
         DynamoDbAsyncClient localLowLevelClient = lowLevelClient;
         if (client == null || localLowLevelClient == null) {
             return;
@@ -566,27 +586,42 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
             }
             logger.trace("store() called with item {} {} '{}', which was converted to DTO {}",
                     copiedItem.getClass().getSimpleName(), effectiveName, copiedItem.getState(), dto);
-            dto.accept(new DynamoDBItemVisitor<TableCreatingPutItem<? extends DynamoDBItem<?>>>() {
-
-                @Override
-                public TableCreatingPutItem<? extends DynamoDBItem<?>> visit(
-                        DynamoDBBigDecimalItem dynamoBigDecimalItem) {
-                    return new TableCreatingPutItem<>(DynamoDBPersistenceService.this, dynamoBigDecimalItem,
-                            getTable(DynamoDBBigDecimalItem.class));
-                }
-
-                @Override
-                public TableCreatingPutItem<? extends DynamoDBItem<?>> visit(DynamoDBStringItem dynamoStringItem) {
-                    return new TableCreatingPutItem<>(DynamoDBPersistenceService.this, dynamoStringItem,
-                            getTable(DynamoDBStringItem.class));
-                }
-            }).putItemAsync();
+            DynamoDBBatchWriter localBatchWriter = batchWriter;
+            if (localBatchWriter == null) {
+                putItemAsync(dto);
+            } else if (!localBatchWriter.add(dto)) {
+                logger.warn("Buffer is full, not storing item {}. Consider increasing write capacity or bufferSize.",
+                        copiedItem.getName());
+            }
         }, executor).exceptionally(e -> {
             logger.error("Unexcepted error", e);
             return null;
         });
     }
 
+    /**
+     * Write single DTO with PutItem, creating the table if needed
+     *
+     * @param dto DTO to write
+     * @return future completing when the DTO has been written
+     */
+    CompletableFuture<Void> putItemAsync(DynamoDBItem<?> dto) {
+        return dto.accept(new DynamoDBItemVisitor<TableCreatingPutItem<? extends DynamoDBItem<?>>>() {
+
+            @Override
+            public TableCreatingPutItem<? extends DynamoDBItem<?>> visit(DynamoDBBigDecimalItem dynamoBigDecimalItem) {
+                return new TableCreatingPutItem<>(DynamoDBPersistenceService.this, dynamoBigDecimalItem,
+                        getTable(DynamoDBBigDecimalItem.class));
+            }
+
+            @Override
+            public TableCreatingPutItem<? extends DynamoDBItem<?>> visit(DynamoDBStringItem dynamoStringItem) {
+                return new TableCreatingPutItem<>(DynamoDBPersistenceService.this, dynamoStringItem,
+                        getTable(DynamoDBStringItem.class));
+            }
+        }).putItemAsync();
+    }
+
     private Item getEffectiveItem(Item item) {
         final Item effectiveItem;
         if (item instanceof GroupItem groupItem) {
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.dynamodb.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.items.StringItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.types.State;
+
+/**
+ * Stores more values than fit into a single BatchWriteItem request, for number and string items at the same time.
+ *
+ * @author openHAB Team - Initial contribution
+ *
+ */
+@NonNullByDefault
+public class BatchWriteIntegrationTest extends BaseIntegrationTest {
+
+    public static final boolean LEGACY_MODE = false;
+    private static final String NUMBER_ITEM = "batchNumber";
+    private static final String STRING_ITEM = "batchString";
+    private static final int COUNT = DynamoDBBatchWriter.MAX_BATCH_SIZE * 2 + 5;
+
+    @SuppressWarnings("null")
+    @BeforeAll
+    public static void enableBuffering() {
+        Map<String, Object> config = getConfig(LEGACY_MODE, null, null);
+        config.put("bufferCommitIntervalMillis", "200");
+        config.put("bufferSize", "500");
+        service.activate(null, config);
+    }
+
+    @SuppressWarnings("null")
+    @Test
+    public void testBufferedValuesAreWritten() throws InterruptedException {
+        NumberItem numberItem = new NumberItem(NUMBER_ITEM);
+        StringItem stringItem = new StringItem(STRING_ITEM);
+        ITEMS.put(NUMBER_ITEM, numberItem);
+        ITEMS.put(STRING_ITEM, stringItem);
+
+        State[] expectedNumbers = new State[COUNT];
+        State[] expectedStrings = new State[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            expectedNumbers[i] = new DecimalType(i);
+            expectedStrings[i] = new StringType("value" + i);
+            numberItem.setState(expectedNumbers[i]);
+            stringItem.setState(expectedStrings[i]);
+            service.store(numberItem);
+            service.store(stringItem);
+            // distinct timestamps
+            Thread.sleep(2);
+        }
+
+        waitForAssert(() -> {
+            assertArrayEquals(expectedNumbers, queryAll(NUMBER_ITEM));
+            assertArrayEquals(expectedStrings, queryAll(STRING_ITEM));
+        });
+    }
+
+    @SuppressWarnings("null")
+    private State[] queryAll(String itemName) {
+        FilterCriteria criteria = new FilterCriteria();
+        criteria.setOrdering(Ordering.ASCENDING);
+        criteria.setItemName(itemName);
+        List<State> states = new ArrayList<>();
+        for (HistoricItem historicItem : service.query(criteria)) {
+            states.add(historicItem.getState());
+        }
+        return states.toArray(new State[0]);
+    }
+}
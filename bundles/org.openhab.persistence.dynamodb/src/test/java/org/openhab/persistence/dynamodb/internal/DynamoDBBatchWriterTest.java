@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.dynamodb.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Tests the retry of unprocessed items by the {@link DynamoDBBatchWriter}, without a DynamoDB server.
+ *
+ * @author openHAB Team - Initial contribution
+ *
+ */
+@NonNullByDefault
+public class DynamoDBBatchWriterTest {
+
+    private static final String TABLE = "openhab";
+
+    private final List<BatchWriteItemRequest> requests = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final DynamoDBPersistenceService service = mock(DynamoDBPersistenceService.class);
+
+    @BeforeEach
+    public void setUp() {
+        DynamoDbAsyncClient lowLevelClient = mock(DynamoDbAsyncClient.class);
+        when(lowLevelClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemRequest request = invocation.getArgument(0);
+            requests.add(request);
+            // nothing is processed by the first request
+            return CompletableFuture.completedFuture(BatchWriteItemResponse.builder()
+                    .unprocessedItems(requests.size() == 1 ? request.requestItems() : Map.of()).build());
+        });
+        DynamoDbEnhancedAsyncClient client = DynamoDbEnhancedAsyncClient.builder().dynamoDbClient(lowLevelClient)
+                .build();
+
+        // new table schema: number and string values are stored in the same table
+        when(service.getClient()).thenReturn(client);
+        when(service.getExecutor()).thenReturn(executor);
+        when(service.getTable(DynamoDBBigDecimalItem.class))
+                .thenReturn(client.table(TABLE, DynamoDBBigDecimalItem.TABLE_SCHEMA_NEW));
+        when(service.getTable(DynamoDBStringItem.class))
+                .thenReturn(client.table(TABLE, DynamoDBStringItem.TABLE_SCHEMA_NEW));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testUnprocessedItemsAreRetriedOnceWithTheirValues() {
+        ZonedDateTime time = ZonedDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MILLIS);
+        DynamoDBBatchWriter writer = new DynamoDBBatchWriter(service, scheduler, 0, 100);
+        assertTrue(writer.add(new DynamoDBBigDecimalItem("number", new BigDecimal("1.5"), time, null)));
+        assertTrue(writer.add(new DynamoDBStringItem("string", "value", time, null)));
+
+        writer.close(Duration.ofSeconds(10));
+
+        assertEquals(2, requests.size());
+        List<WriteRequest> retried = requests.get(1).requestItems().get(TABLE);
+        assertNotNull(retried);
+        assertEquals(2, retried.size());
+        Set<String> keys = retried.stream().map(request -> request.putRequest().item())
+                .map(item -> item.get(DynamoDBItem.ATTRIBUTE_NAME_ITEMNAME).s() + "/"
+                        + item.get(DynamoDBItem.ATTRIBUTE_NAME_TIMEUTC).n())
+                .collect(Collectors.toSet());
+        assertEquals(2, keys.size());
+
+        Map<String, Map<String, AttributeValue>> itemsByName = retried.stream()
+                .map(request -> request.putRequest().item()).collect(Collectors
+                        .toMap(item -> item.get(DynamoDBItem.ATTRIBUTE_NAME_ITEMNAME).s(), item -> item));
+        Map<String, AttributeValue> number = itemsByName.get("number");
+        Map<String, AttributeValue> string = itemsByName.get("string");
+        assertNotNull(number);
+        assertNotNull(string);
+        assertEquals("1.5", number.get(DynamoDBItem.ATTRIBUTE_NAME_ITEMSTATE_NUMBER).n());
+        assertFalse(number.containsKey(DynamoDBItem.ATTRIBUTE_NAME_ITEMSTATE_STRING));
+        assertEquals("value", string.get(DynamoDBItem.ATTRIBUTE_NAME_ITEMSTATE_STRING).s());
+        assertFalse(string.containsKey(DynamoDBItem.ATTRIBUTE_NAME_ITEMSTATE_NUMBER));
+    }
+}
@@ -14,6 +14,8 @@ package org.openhab.persistence.influxdb;
 
 import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.*;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
@@ -33,6 +35,7 @@ import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
@@ -54,6 +57,7 @@ import org.openhab.persistence.influxdb.internal.InfluxDBHistoricItem;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
 import org.openhab.persistence.influxdb.internal.InfluxDBPersistentItemInfo;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
+import org.openhab.persistence.influxdb.internal.InfluxDBSpool;
 import org.openhab.persistence.influxdb.internal.InfluxDBStateConvertUtils;
 import org.openhab.persistence.influxdb.internal.InfluxPoint;
 import org.openhab.persistence.influxdb.internal.influx1.InfluxDB1RepositoryImpl;
@@ -98,6 +102,7 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
     private final Logger logger = LoggerFactory.getLogger(InfluxDBPersistenceService.class);
 
     private static final int COMMIT_INTERVAL = 3; // in s
+    private static final Path SPOOL_DIR = Path.of(OpenHAB.getUserDataFolder(), "persistence", "influxdb", "spool");
     protected static final String CONFIG_URI = "persistence:influxdb";
 
     // External dependencies
@@ -111,6 +116,7 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
     // storage
     private final ScheduledFuture<?> storeJob;
     private final BlockingQueue<InfluxPoint> pointsQueue = new LinkedBlockingQueue<>();
+    private final @Nullable InfluxDBSpool spool;
 
     // conversion
     private final Set<ItemFactory> itemFactories = new HashSet<>();
@@ -123,6 +129,7 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         this.influxDBMetadataService = influxDBMetadataService;
         this.configuration = new InfluxDBConfiguration(config);
         if (configuration.isValid()) {
+            this.spool = createSpool();
             this.influxDBRepository = createInfluxDBRepository();
             this.influxDBRepository.connect();
             this.storeJob = ThreadPoolManager.getScheduledPool("org.openhab.influxdb")
@@ -144,6 +151,20 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         };
     }
 
+    // Visible for testing
+    protected @Nullable InfluxDBSpool createSpool() {
+        if (configuration.getSpoolSize() <= 0) {
+            return null;
+        }
+        try {
+            return new InfluxDBSpool(SPOOL_DIR, configuration.getSpoolSize() * 1024L * 1024L,
+                    configuration.getSpoolOverflowPolicy());
+        } catch (IOException e) {
+            logger.warn("Failed to open spool in {}, keeping points in memory: {}", SPOOL_DIR, e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Disconnect from database when service is deactivated
      */
@@ -154,7 +175,14 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         storeJob.cancel(false);
         commit(); // ensure we at least tried to store the data;
 
-        if (!pointsQueue.isEmpty()) {
+        InfluxDBSpool spool = this.spool;
+        if (spool != null) {
+            spoolQueuedPoints(spool);
+            if (!spool.isEmpty()) {
+                logger.info("InfluxDB spooled {} points, they will be stored after restart.", spool.size());
+            }
+            spool.close();
+        } else if (!pointsQueue.isEmpty()) {
             logger.warn("InfluxDB failed to finally store {} points.", pointsQueue.size());
         }
 
@@ -284,17 +312,67 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
     }
 
     private void commit() {
-        if (!pointsQueue.isEmpty() && checkConnection()) {
+        InfluxDBSpool spool = this.spool;
+        boolean hasSpooledPoints = spool != null && !spool.isEmpty();
+        if (pointsQueue.isEmpty() && !hasSpooledPoints) {
+            return;
+        }
+        if (!checkConnection()) {
+            if (spool != null) {
+                spoolQueuedPoints(spool);
+            }
+            return;
+        }
+
+        if (!pointsQueue.isEmpty()) {
             List<InfluxPoint> points = new ArrayList<>();
             pointsQueue.drainTo(points);
             if (!influxDBRepository.write(points)) {
-                logger.warn("Re-queuing {} elements, failed to write batch.", points.size());
-                pointsQueue.addAll(points);
+                if (spool != null) {
+                    logger.warn("Spooling {} elements, failed to write batch.", points.size());
+                    spool.append(points);
+                } else {
+                    logger.warn("Re-queuing {} elements, failed to write batch.", points.size());
+                    pointsQueue.addAll(points);
+                }
                 influxDBRepository.disconnect();
+                return;
             } else {
                 logger.trace("Wrote {} elements to database", points.size());
             }
         }
+
+        if (spool != null && !spool.isEmpty()) {
+            replaySpool(spool);
+        }
+    }
+
+    /**
+     * Move all queued points to the spool, so they don't accumulate in memory while the database is not available.
+     */
+    private void spoolQueuedPoints(InfluxDBSpool spool) {
+        List<InfluxPoint> points = new ArrayList<>();
+        pointsQueue.drainTo(points);
+        if (!points.isEmpty()) {
+            int spooled = spool.append(points);
+            logger.debug("Spooled {} of {} elements, {} elements in spool", spooled, points.size(), spool.size());
+        }
+    }
+
+    /**
+     * Write the oldest points from the spool. Only one batch is written per commit, so that replaying a large spool
+     * does not delay new points.
+     */
+    private void replaySpool(InfluxDBSpool spool) {
+        InfluxDBSpool.Batch batch = spool.peek(configuration.getSpoolReplayBatchSize());
+        if (batch.points().isEmpty() || influxDBRepository.write(batch.points())) {
+            spool.remove(batch);
+            logger.debug("Replayed {} spooled elements, {} elements left in spool", batch.points().size(),
+                    spool.size());
+        } else {
+            logger.warn("Failed to replay {} spooled elements.", batch.points().size());
+            influxDBRepository.disconnect();
+        }
     }
 
     /**
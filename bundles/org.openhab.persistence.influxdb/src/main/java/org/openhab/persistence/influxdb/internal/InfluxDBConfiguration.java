@@ -39,6 +39,9 @@ public class InfluxDBConfiguration {
     public static final String ADD_CATEGORY_TAG_PARAM = "addCategoryTag";
     public static final String ADD_LABEL_TAG_PARAM = "addLabelTag";
     public static final String ADD_TYPE_TAG_PARAM = "addTypeTag";
+    public static final String SPOOL_SIZE_PARAM = "spoolSize";
+    public static final String SPOOL_OVERFLOW_POLICY_PARAM = "spoolOverflowPolicy";
+    public static final String SPOOL_REPLAY_BATCH_SIZE_PARAM = "spoolReplayBatchSize";
     private final Logger logger = LoggerFactory.getLogger(InfluxDBConfiguration.class);
     private final String url;
     private final String user;
@@ -51,6 +54,9 @@ public class InfluxDBConfiguration {
     private final boolean addCategoryTag;
     private final boolean addTypeTag;
     private final boolean addLabelTag;
+    private final int spoolSize;
+    private final InfluxDBSpool.OverflowPolicy spoolOverflowPolicy;
+    private final int spoolReplayBatchSize;
 
     public InfluxDBConfiguration(Map<String, Object> config) {
         url = ConfigParser.valueAsOrElse(config.get(URL_PARAM), String.class, "http://127.0.0.1:8086");
@@ -64,6 +70,20 @@ public class InfluxDBConfiguration {
         addCategoryTag = ConfigParser.valueAsOrElse(config.get(ADD_CATEGORY_TAG_PARAM), Boolean.class, false);
         addLabelTag = ConfigParser.valueAsOrElse(config.get(ADD_LABEL_TAG_PARAM), Boolean.class, false);
         addTypeTag = ConfigParser.valueAsOrElse(config.get(ADD_TYPE_TAG_PARAM), Boolean.class, false);
+        spoolSize = Math.max(0, ConfigParser.valueAsOrElse(config.get(SPOOL_SIZE_PARAM), Integer.class, 0));
+        spoolOverflowPolicy = parseOverflowPolicy(ConfigParser.valueAsOrElse(config.get(SPOOL_OVERFLOW_POLICY_PARAM),
+                String.class, InfluxDBSpool.OverflowPolicy.DROP_OLDEST.name()));
+        spoolReplayBatchSize = Math.max(1,
+                ConfigParser.valueAsOrElse(config.get(SPOOL_REPLAY_BATCH_SIZE_PARAM), Integer.class, 1000));
+    }
+
+    private InfluxDBSpool.OverflowPolicy parseOverflowPolicy(String value) {
+        try {
+            return InfluxDBSpool.OverflowPolicy.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid spool overflow policy {}, using {}", value, InfluxDBSpool.OverflowPolicy.DROP_OLDEST);
+            return InfluxDBSpool.OverflowPolicy.DROP_OLDEST;
+        }
     }
 
     private InfluxDBVersion parseInfluxVersion(@Nullable String value) {
@@ -154,12 +174,28 @@ public class InfluxDBConfiguration {
         return version;
     }
 
+    /**
+     * @return the maximum size of the spool in MB, 0 if the spool is disabled
+     */
+    public int getSpoolSize() {
+        return spoolSize;
+    }
+
+    public InfluxDBSpool.OverflowPolicy getSpoolOverflowPolicy() {
+        return spoolOverflowPolicy;
+    }
+
+    public int getSpoolReplayBatchSize() {
+        return spoolReplayBatchSize;
+    }
+
     @Override
     public String toString() {
         return "InfluxDBConfiguration{url='" + url + "', user='" + user + "', password='" + password.length()
                 + " chars', token='" + token.length() + " chars', databaseName='" + databaseName
                 + "', retentionPolicy='" + retentionPolicy + "', version=" + version + ", replaceUnderscore="
                 + replaceUnderscore + ", addCategoryTag=" + addCategoryTag + ", addTypeTag=" + addTypeTag
-                + ", addLabelTag=" + addLabelTag + '}';
+                + ", addLabelTag=" + addLabelTag + ", spoolSize=" + spoolSize + ", spoolOverflowPolicy="
+                + spoolOverflowPolicy + ", spoolReplayBatchSize=" + spoolReplayBatchSize + '}';
     }
 }
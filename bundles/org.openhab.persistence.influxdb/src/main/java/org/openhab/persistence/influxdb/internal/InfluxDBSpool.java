@@ -0,0 +1,470 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Disk-backed FIFO queue for {@link InfluxPoint}s that could not be written to the database.
+ *
+ * Points are stored in memory-mapped segment files of fixed size. Each segment starts with a header containing the
+ * read and write offsets, followed by length-prefixed records. Fully read segments are deleted, so the spool survives
+ * restarts and is replayed in the order the points were added.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBSpool {
+    public static final int SEGMENT_SIZE = 1024 * 1024;
+
+    private static final int MAGIC = 0x4f48_4978;
+    private static final int HEADER_SIZE = 12;
+    private static final int READ_OFFSET_POSITION = 4;
+    private static final int WRITE_OFFSET_POSITION = 8;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".spool";
+
+    private static final byte TYPE_STRING = 0;
+    private static final byte TYPE_BIG_DECIMAL = 1;
+    private static final byte TYPE_LONG = 2;
+    private static final byte TYPE_INTEGER = 3;
+    private static final byte TYPE_DOUBLE = 4;
+    private static final byte TYPE_BOOLEAN = 5;
+
+    private final Logger logger = LoggerFactory.getLogger(InfluxDBSpool.class);
+
+    private final Path directory;
+    private final int maxSegments;
+    private final OverflowPolicy overflowPolicy;
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private long nextSequence = 0;
+    private int size = 0;
+    private long droppedCount = 0;
+
+    /**
+     * Policy applied when a point is added to a full spool
+     */
+    public enum OverflowPolicy {
+        /** remove the oldest segment to make room for new points */
+        DROP_OLDEST,
+        /** reject new points */
+        DROP_NEWEST
+    }
+
+    /**
+     * A batch of points read from the spool.
+     *
+     * @param points the decoded points
+     * @param records the number of records read, including records that could not be decoded
+     */
+    public record Batch(List<InfluxPoint> points, int records) {
+    }
+
+    /**
+     * Open a spool, existing segments in the directory are loaded.
+     *
+     * @param directory the directory to store the segment files in
+     * @param maxBytes the maximum size of all segments, at least one segment is used
+     * @param overflowPolicy the policy applied if the spool is full
+     * @throws IOException if the directory or the segments cannot be accessed
+     */
+    public InfluxDBSpool(Path directory, long maxBytes, OverflowPolicy overflowPolicy) throws IOException {
+        this.directory = directory;
+        this.maxSegments = (int) Math.max(1, Math.min(Integer.MAX_VALUE, maxBytes / SEGMENT_SIZE));
+        this.overflowPolicy = overflowPolicy;
+
+        Files.createDirectories(directory);
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(path -> sequenceOf(path) >= 0).sorted().toList();
+        }
+        for (Path file : files) {
+            long sequence = sequenceOf(file);
+            nextSequence = Math.max(nextSequence, sequence + 1);
+            try {
+                Segment segment = Segment.open(file);
+                if (segment.isEmpty()) {
+                    segment.delete();
+                } else {
+                    segments.add(segment);
+                    size += segment.count;
+                }
+            } catch (IOException e) {
+                logger.warn("Discarding unreadable spool segment {}: {}", file, e.getMessage());
+                Files.deleteIfExists(file);
+            }
+        }
+        if (size > 0) {
+            logger.info("Loaded {} spooled points from {}", size, directory);
+        }
+    }
+
+    /**
+     * Add points to the end of the spool.
+     *
+     * @param points the points to add
+     * @return the number of points that have been added
+     */
+    public synchronized int append(List<InfluxPoint> points) {
+        int added = 0;
+        int index = 0;
+        Segment tail = segments.peekLast();
+        try {
+            for (; index < points.size(); index++) {
+                InfluxPoint point = points.get(index);
+                byte[] data;
+                try {
+                    data = encode(point);
+                } catch (IOException e) {
+                    logger.warn("Failed to spool {}: {}", point, e.getMessage());
+                    droppedCount++;
+                    continue;
+                }
+                if (Integer.BYTES + data.length > SEGMENT_SIZE - HEADER_SIZE) {
+                    logger.warn("Failed to spool {}: too large", point);
+                    droppedCount++;
+                    continue;
+                }
+                if (tail == null || !tail.hasRemaining(data.length)) {
+                    if (tail != null) {
+                        tail.force();
+                    }
+                    if (segments.size() >= maxSegments) {
+                        if (overflowPolicy == OverflowPolicy.DROP_NEWEST) {
+                            int rejected = points.size() - index;
+                            droppedCount += rejected;
+                            logger.warn("InfluxDB spool is full, dropping {} new points.", rejected);
+                            return added;
+                        }
+                        Segment oldest = segments.removeFirst();
+                        size -= oldest.count;
+                        droppedCount += oldest.count;
+                        logger.warn("InfluxDB spool is full, dropping {} oldest points.", oldest.count);
+                        oldest.delete();
+                    }
+                    tail = Segment.create(directory.resolve(segmentName(nextSequence)));
+                    nextSequence++;
+                    segments.add(tail);
+                }
+                tail.write(data);
+                size++;
+                added++;
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to create spool segment: {}", e.getMessage());
+            droppedCount += points.size() - index;
+        }
+        if (tail != null) {
+            tail.force();
+        }
+        return added;
+    }
+
+    /**
+     * Read points from the head of the spool without removing them.
+     *
+     * @param maxRecords the maximum number of records to read
+     * @return the batch, to be passed to {@link #remove(Batch)} after the points have been written
+     */
+    public synchronized Batch peek(int maxRecords) {
+        List<InfluxPoint> points = new ArrayList<>(Math.min(maxRecords, size));
+        int records = 0;
+        for (Segment segment : segments) {
+            int offset = segment.readOffset;
+            while (offset < segment.writeOffset && records < maxRecords) {
+                byte[] data = segment.read(offset);
+                offset += Integer.BYTES + data.length;
+                records++;
+                try {
+                    points.add(decode(data));
+                } catch (IOException e) {
+                    logger.warn("Skipping corrupt record in spool segment {}: {}", segment.path, e.getMessage());
+                }
+            }
+            if (records >= maxRecords) {
+                break;
+            }
+        }
+        return new Batch(points, records);
+    }
+
+    /**
+     * Remove the records of a batch from the head of the spool.
+     *
+     * @param batch a batch returned by {@link #peek(int)}
+     */
+    public synchronized void remove(Batch batch) {
+        int remaining = batch.records();
+        while (remaining > 0) {
+            Segment head = segments.peekFirst();
+            if (head == null) {
+                break;
+            }
+            while (remaining > 0 && !head.isEmpty()) {
+                head.skip();
+                size--;
+                remaining--;
+            }
+            if (head.isEmpty()) {
+                segments.removeFirst();
+                try {
+                    head.delete();
+                } catch (IOException e) {
+                    logger.warn("Failed to delete spool segment {}: {}", head.path, e.getMessage());
+                }
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    public synchronized long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * Flush all segments to disk and release the files.
+     */
+    public synchronized void close() {
+        for (Segment segment : segments) {
+            try {
+                segment.force();
+                segment.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close spool segment {}: {}", segment.path, e.getMessage());
+            }
+        }
+        segments.clear();
+    }
+
+    private static String segmentName(long sequence) {
+        return String.format("%s%016d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX);
+    }
+
+    private static long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    static byte[] encode(InfluxPoint point) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(point.getMeasurementName());
+            out.writeLong(point.getTime().getEpochSecond());
+            out.writeInt(point.getTime().getNano());
+            Object value = point.getValue();
+            if (value instanceof BigDecimal decimal) {
+                out.writeByte(TYPE_BIG_DECIMAL);
+                out.writeUTF(decimal.toString());
+            } else if (value instanceof Long longValue) {
+                out.writeByte(TYPE_LONG);
+                out.writeLong(longValue);
+            } else if (value instanceof Integer intValue) {
+                out.writeByte(TYPE_INTEGER);
+                out.writeInt(intValue);
+            } else if (value instanceof Double doubleValue) {
+                out.writeByte(TYPE_DOUBLE);
+                out.writeDouble(doubleValue);
+            } else if (value instanceof Boolean booleanValue) {
+                out.writeByte(TYPE_BOOLEAN);
+                out.writeBoolean(booleanValue);
+            } else {
+                byte[] string = value.toString().getBytes(StandardCharsets.UTF_8);
+                out.writeByte(TYPE_STRING);
+                out.writeInt(string.length);
+                out.write(string);
+            }
+            Map<String, String> tags = point.getTags();
+            out.writeInt(tags.size());
+            for (Map.Entry<String, String> tag : tags.entrySet()) {
+                out.writeUTF(tag.getKey());
+                out.writeUTF(tag.getValue());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    static InfluxPoint decode(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            InfluxPoint.Builder builder = InfluxPoint.newBuilder(in.readUTF());
+            builder.withTime(Instant.ofEpochSecond(in.readLong(), in.readInt()));
+            byte type = in.readByte();
+            Object value = switch (type) {
+                case TYPE_BIG_DECIMAL -> new BigDecimal(in.readUTF());
+                case TYPE_LONG -> in.readLong();
+                case TYPE_INTEGER -> in.readInt();
+                case TYPE_DOUBLE -> in.readDouble();
+                case TYPE_BOOLEAN -> in.readBoolean();
+                case TYPE_STRING -> new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8);
+                default -> throw new IOException("Unknown value type " + type);
+            };
+            builder.withValue(value);
+            int tagCount = in.readInt();
+            for (int i = 0; i < tagCount; i++) {
+                builder.withTag(in.readUTF(), in.readUTF());
+            }
+            return builder.build();
+        } catch (RuntimeException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private static class Segment {
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int readOffset;
+        private int writeOffset;
+        private int count;
+
+        private Segment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment create(Path path) throws IOException {
+            Segment segment = map(path);
+            segment.buffer.putInt(0, MAGIC);
+            segment.setReadOffset(HEADER_SIZE);
+            segment.setWriteOffset(HEADER_SIZE);
+            return segment;
+        }
+
+        static Segment open(Path path) throws IOException {
+            if (Files.size(path) != SEGMENT_SIZE) {
+                throw new IOException("Invalid size");
+            }
+            Segment segment = map(path);
+            try {
+                int readOffset = segment.buffer.getInt(READ_OFFSET_POSITION);
+                int writeOffset = segment.buffer.getInt(WRITE_OFFSET_POSITION);
+                if (segment.buffer.getInt(0) != MAGIC || readOffset < HEADER_SIZE || writeOffset < readOffset
+                        || writeOffset > SEGMENT_SIZE) {
+                    throw new IOException("Invalid header");
+                }
+                segment.readOffset = readOffset;
+                segment.writeOffset = writeOffset;
+                int offset = readOffset;
+                while (offset < writeOffset) {
+                    int length = segment.buffer.getInt(offset);
+                    if (length < 0 || offset + Integer.BYTES + length > writeOffset) {
+                        throw new IOException("Invalid record at offset " + offset);
+                    }
+                    offset += Integer.BYTES + length;
+                    segment.count++;
+                }
+            } catch (IOException e) {
+                segment.close();
+                throw e;
+            }
+            return segment;
+        }
+
+        private static Segment map(Path path) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            try {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, SEGMENT_SIZE);
+                return new Segment(path, channel, buffer);
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        boolean isEmpty() {
+            return readOffset >= writeOffset;
+        }
+
+        boolean hasRemaining(int length) {
+            return writeOffset + Integer.BYTES + length <= SEGMENT_SIZE;
+        }
+
+        void write(byte[] data) {
+            buffer.putInt(writeOffset, data.length);
+            buffer.put(writeOffset + Integer.BYTES, data);
+            setWriteOffset(writeOffset + Integer.BYTES + data.length);
+            count++;
+        }
+
+        byte[] read(int offset) {
+            byte[] data = new byte[buffer.getInt(offset)];
+            buffer.get(offset + Integer.BYTES, data);
+            return data;
+        }
+
+        void skip() {
+            setReadOffset(readOffset + Integer.BYTES + buffer.getInt(readOffset));
+            count--;
+        }
+
+        void force() {
+            buffer.force();
+        }
+
+        void close() throws IOException {
+            channel.close();
+        }
+
+        void delete() throws IOException {
+            close();
+            Files.deleteIfExists(path);
+        }
+
+        private void setReadOffset(int readOffset) {
+            this.readOffset = readOffset;
+            buffer.putInt(READ_OFFSET_POSITION, readOffset);
+        }
+
+        private void setWriteOffset(int writeOffset) {
+            this.writeOffset = writeOffset;
+            buffer.putInt(WRITE_OFFSET_POSITION, writeOffset);
+        }
+    }
+}
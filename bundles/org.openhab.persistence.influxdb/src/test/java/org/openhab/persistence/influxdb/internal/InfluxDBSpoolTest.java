@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBSpoolTest {
+    private static final Instant TIME = Instant.parse("2024-01-01T12:00:00.123456789Z");
+
+    private @TempDir @NonNullByDefault({}) Path spoolDir;
+
+    @Test
+    public void pointsAreReadInOrderAndRemoved() throws IOException {
+        InfluxDBSpool spool = openSpool(InfluxDBSpool.OverflowPolicy.DROP_OLDEST);
+        spool.append(createPoints(0, 5));
+
+        InfluxDBSpool.Batch batch = spool.peek(3);
+        assertThat(values(batch.points()), contains(0L, 1L, 2L));
+        assertThat(spool.size(), is(5));
+
+        spool.remove(batch);
+        assertThat(spool.size(), is(2));
+        assertThat(values(spool.peek(10).points()), contains(3L, 4L));
+        spool.close();
+    }
+
+    @Test
+    public void pointsSurviveReopen() throws IOException {
+        InfluxDBSpool spool = openSpool(InfluxDBSpool.OverflowPolicy.DROP_OLDEST);
+        spool.append(createPoints(0, 3));
+        spool.remove(spool.peek(1));
+        spool.close();
+
+        spool = openSpool(InfluxDBSpool.OverflowPolicy.DROP_OLDEST);
+        assertThat(spool.size(), is(2));
+        List<InfluxPoint> points = spool.peek(10).points();
+        assertThat(values(points), contains(1L, 2L));
+        assertThat(points.get(0).getMeasurementName(), is("measurement"));
+        assertThat(points.get(0).getTime(), is(TIME.plusSeconds(1)));
+        assertThat(points.get(0).getTags(), is(Map.of("item", "item1")));
+        spool.close();
+    }
+
+    @Test
+    public void valueTypesAreRestored() throws IOException {
+        List<Object> values = List.of(new BigDecimal("1.12"), 1, 1234567890123L, "ON,äöü", 2.5, true);
+        for (Object value : values) {
+            InfluxPoint point = InfluxPoint.newBuilder("m").withTime(TIME).withValue(value).build();
+            assertThat(InfluxDBSpool.decode(InfluxDBSpool.encode(point)).getValue(), is(value));
+        }
+    }
+
+    @Test
+    public void oldestSegmentIsDroppedIfFull() throws IOException {
+        InfluxDBSpool spool = openSpool(InfluxDBSpool.OverflowPolicy.DROP_OLDEST);
+        int count = 0;
+        while (spool.getDroppedCount() == 0) {
+            spool.append(createPoints(count, 1000));
+            count += 1000;
+        }
+
+        assertThat(spool.size(), is(lessThan(count)));
+        assertThat(spool.size() + spool.getDroppedCount(), is((long) count));
+        // the newest point is kept
+        List<Long> values = values(spool.peek(spool.size()).points());
+        assertThat(values.get(values.size() - 1), is((long) count - 1));
+        spool.close();
+    }
+
+    @Test
+    public void newPointsAreRejectedIfFull() throws IOException {
+        InfluxDBSpool spool = openSpool(InfluxDBSpool.OverflowPolicy.DROP_NEWEST);
+        int count = 0;
+        while (spool.getDroppedCount() == 0) {
+            spool.append(createPoints(count, 1000));
+            count += 1000;
+        }
+
+        // the oldest point is kept
+        assertThat(values(spool.peek(1).points()), contains(0L));
+        assertThat(spool.size() + spool.getDroppedCount(), is((long) count));
+        spool.close();
+    }
+
+    private InfluxDBSpool openSpool(InfluxDBSpool.OverflowPolicy overflowPolicy) throws IOException {
+        return new InfluxDBSpool(spoolDir, InfluxDBSpool.SEGMENT_SIZE, overflowPolicy);
+    }
+
+    private List<InfluxPoint> createPoints(int start, int count) {
+        List<InfluxPoint> points = new ArrayList<>();
+        for (long i = start; i < start + count; i++) {
+            points.add(InfluxPoint.newBuilder("measurement").withTime(TIME.plusSeconds(i)).withValue(i)
+                    .withTag("item", "item1").build());
+        }
+        return points;
+    }
+
+    private List<Long> values(List<InfluxPoint> points) {
+        return points.stream().map(point -> (Long) point.getValue()).toList();
+    }
+}
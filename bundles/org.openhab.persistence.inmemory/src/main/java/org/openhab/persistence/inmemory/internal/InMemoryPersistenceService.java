@@ -14,17 +14,16 @@ package org.openhab.persistence.inmemory.internal;
 
 import java.time.Instant;
 import java.time.ZonedDateTime;
-import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -83,12 +82,10 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
         maxEntries = ConfigParser.valueAsOrElse(config.get(MAX_ENTRIES_CONFIG), Long.class, MAX_ENTRIES_DEFAULT);
 
         persistMap.values().forEach(persistItem -> {
-            Lock lock = persistItem.lock();
+            Lock lock = persistItem.lock.writeLock();
             lock.lock();
             try {
-                while (persistItem.database().size() > maxEntries) {
-                    persistItem.database().pollFirst();
-                }
+                persistItem.storage.purge(maxEntries);
             } finally {
                 lock.unlock();
             }
@@ -112,7 +109,8 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
 
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
-        return persistMap.entrySet().stream().map(this::toItemInfo).collect(Collectors.toSet());
+        return persistMap.entrySet().stream().map(this::toItemInfo).filter(Objects::nonNull)
+                .collect(Collectors.toSet());
     }
 
     @Override
@@ -148,11 +146,10 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return false;
         }
 
-        Lock lock = persistItem.lock();
+        Lock lock = persistItem.lock.writeLock();
         lock.lock();
         try {
-            List<PersistEntry> toRemove = persistItem.database().stream().filter(e -> applies(e, filter)).toList();
-            toRemove.forEach(persistItem.database()::remove);
+            persistItem.storage.remove(filter);
         } finally {
             lock.unlock();
         }
@@ -171,16 +168,10 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return List.of();
         }
 
-        Lock lock = persistItem.lock();
+        Lock lock = persistItem.lock.readLock();
         lock.lock();
-
-        Comparator<PersistEntry> comparator = filter.getOrdering() == FilterCriteria.Ordering.ASCENDING
-                ? Comparator.comparing(PersistEntry::timestamp)
-                : Comparator.comparing(PersistEntry::timestamp).reversed();
-
         try {
-            return persistItem.database().stream().filter(e -> applies(e, filter)).sorted(comparator)
-                    .map(e -> toHistoricItem(itemName, e)).toList();
+            return persistItem.storage.query(itemName, filter);
         } finally {
             lock.unlock();
         }
@@ -192,14 +183,21 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
         return List.of(PersistenceStrategy.Globals.FORECAST);
     }
 
-    private PersistenceItemInfo toItemInfo(Map.Entry<String, PersistItem> itemEntry) {
-        Lock lock = itemEntry.getValue().lock();
+    private @Nullable PersistenceItemInfo toItemInfo(Map.Entry<String, PersistItem> itemEntry) {
+        Lock lock = itemEntry.getValue().lock.readLock();
         lock.lock();
         try {
+            InMemoryStorage storage = itemEntry.getValue().storage;
+            ZonedDateTime earliestDate = storage.getEarliest();
+            ZonedDateTime latestDate = storage.getLatest();
+            if (earliestDate == null || latestDate == null) {
+                // all entries have been removed
+                return null;
+            }
             String name = itemEntry.getKey();
-            Integer count = itemEntry.getValue().database().size();
-            Instant earliest = itemEntry.getValue().database().first().timestamp().toInstant();
-            Instant latest = itemEntry.getValue().database.last().timestamp.toInstant();
+            Integer count = storage.size();
+            Instant earliest = earliestDate.toInstant();
+            Instant latest = latestDate.toInstant();
             return new PersistenceItemInfo() {
 
                 @Override
@@ -227,95 +225,40 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
         }
     }
 
-    private HistoricItem toHistoricItem(String itemName, PersistEntry entry) {
-        return new HistoricItem() {
-            @Override
-            public ZonedDateTime getTimestamp() {
-                return entry.timestamp();
-            }
-
-            @Override
-            public State getState() {
-                return entry.state();
-            }
-
-            @Override
-            public String getName() {
-                return itemName;
-            }
-        };
-    }
-
     private void internalStore(String itemName, ZonedDateTime timestamp, State state) {
         if (state instanceof UnDefType) {
             return;
         }
 
-        PersistItem persistItem = Objects.requireNonNull(persistMap.computeIfAbsent(itemName,
-                k -> new PersistItem(new TreeSet<>(Comparator.comparing(PersistEntry::timestamp)),
-                        new ReentrantLock())));
+        PersistItem persistItem = Objects.requireNonNull(
+                persistMap.computeIfAbsent(itemName, k -> new PersistItem(createStorage(timestamp, state))));
 
-        Lock lock = persistItem.lock();
+        Lock lock = persistItem.lock.writeLock();
         lock.lock();
         try {
-            persistItem.database().add(new PersistEntry(timestamp, state));
-
-            while (persistItem.database.size() > maxEntries) {
-                persistItem.database().pollFirst();
+            if (!persistItem.storage.accepts(state)) {
+                // type or unit changed, keep the existing entries in a storage that accepts all states
+                logger.debug("Item '{}' received state '{}' of a different type, switching storage", itemName, state);
+                InMemoryStorage storage = new ObjectStorage();
+                persistItem.storage.forEach((entryTime, entryState) -> storage.store(entryTime, entryState, 0));
+                persistItem.storage = storage;
             }
+            persistItem.storage.store(timestamp, state, maxEntries);
         } finally {
             lock.unlock();
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private boolean applies(PersistEntry entry, FilterCriteria filter) {
-        ZonedDateTime beginDate = filter.getBeginDate();
-        if (beginDate != null && beginDate.isAfter(entry.timestamp())) {
-            return false;
-        }
-        ZonedDateTime endDate = filter.getEndDate();
-        if (endDate != null && endDate.isBefore(entry.timestamp())) {
-            return false;
-        }
-
-        State refState = filter.getState();
-        FilterCriteria.Operator operator = filter.getOperator();
-        if (refState == null) {
-            // no state filter
-            return true;
-        }
-
-        if (operator == FilterCriteria.Operator.EQ) {
-            return entry.state().equals(refState);
-        }
-
-        if (operator == FilterCriteria.Operator.NEQ) {
-            return !entry.state().equals(refState);
-        }
-
-        if (entry.state() instanceof Comparable comparableState && entry.state.getClass().equals(refState.getClass())) {
-            if (operator == FilterCriteria.Operator.GT) {
-                return comparableState.compareTo(refState) > 0;
-            }
-            if (operator == FilterCriteria.Operator.GTE) {
-                return comparableState.compareTo(refState) >= 0;
-            }
-            if (operator == FilterCriteria.Operator.LT) {
-                return comparableState.compareTo(refState) < 0;
-            }
-            if (operator == FilterCriteria.Operator.LTE) {
-                return comparableState.compareTo(refState) <= 0;
-            }
-        } else {
-            logger.warn("Using operator {} but state {} is not comparable!", operator, refState);
-        }
-        return true;
+    private InMemoryStorage createStorage(ZonedDateTime timestamp, State state) {
+        return NumericStorage.isSupported(state) ? new NumericStorage(state, timestamp.getZone()) : new ObjectStorage();
     }
 
-    private record PersistEntry(ZonedDateTime timestamp, State state) {
-    }
+    private static class PersistItem {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private InMemoryStorage storage;
 
-    private record PersistItem(TreeSet<PersistEntry> database, Lock lock) {
+        public PersistItem(InMemoryStorage storage) {
+            this.storage = storage;
+        }
     }
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.types.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link InMemoryStorage} holds the persisted states of a single item, ordered by timestamp.
+ *
+ * Implementations are not thread-safe, callers have to guard access with the lock of the item.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+public abstract class InMemoryStorage {
+
+    private final Logger logger = LoggerFactory.getLogger(InMemoryStorage.class);
+
+    /**
+     * Check if a state can be stored without changing the storage type.
+     *
+     * @param state the state to store
+     * @return true if {@link #store(ZonedDateTime, State, long)} can be called with this state
+     */
+    public abstract boolean accepts(State state);
+
+    /**
+     * Store a state. If a state with the same timestamp is already present, the new state is ignored.
+     *
+     * @param timestamp the timestamp of the state
+     * @param state the state
+     * @param maxEntries the maximum number of entries, the oldest entries are removed if exceeded (0 = unlimited)
+     */
+    public abstract void store(ZonedDateTime timestamp, State state, long maxEntries);
+
+    /**
+     * Remove the oldest entries until at most maxEntries are left.
+     *
+     * @param maxEntries the maximum number of entries (0 = unlimited)
+     */
+    public abstract void purge(long maxEntries);
+
+    /**
+     * Query the entries matching the filter, honoring begin/end date, ordering, state filter and paging.
+     *
+     * @param name the item name to report in the returned {@link HistoricItem}s
+     * @param filter the filter
+     * @return the matching page of entries
+     */
+    public abstract List<HistoricItem> query(String name, FilterCriteria filter);
+
+    /**
+     * Remove the entries matching begin/end date and state of the filter.
+     *
+     * @param filter the filter
+     */
+    public abstract void remove(FilterCriteria filter);
+
+    public abstract int size();
+
+    public abstract @Nullable ZonedDateTime getEarliest();
+
+    public abstract @Nullable ZonedDateTime getLatest();
+
+    /**
+     * Pass all entries in ascending order to the consumer, used to migrate between storage types.
+     */
+    public abstract void forEach(BiConsumer<ZonedDateTime, State> consumer);
+
+    @SuppressWarnings("unchecked")
+    protected boolean appliesState(State state, FilterCriteria filter) {
+        State refState = filter.getState();
+        FilterCriteria.Operator operator = filter.getOperator();
+        if (refState == null) {
+            // no state filter
+            return true;
+        }
+
+        if (operator == FilterCriteria.Operator.EQ) {
+            return state.equals(refState);
+        }
+
+        if (operator == FilterCriteria.Operator.NEQ) {
+            return !state.equals(refState);
+        }
+
+        if (state instanceof Comparable comparableState && state.getClass().equals(refState.getClass())) {
+            if (operator == FilterCriteria.Operator.GT) {
+                return comparableState.compareTo(refState) > 0;
+            }
+            if (operator == FilterCriteria.Operator.GTE) {
+                return comparableState.compareTo(refState) >= 0;
+            }
+            if (operator == FilterCriteria.Operator.LT) {
+                return comparableState.compareTo(refState) < 0;
+            }
+            if (operator == FilterCriteria.Operator.LTE) {
+                return comparableState.compareTo(refState) <= 0;
+            }
+        } else {
+            logger.warn("Using operator {} but state {} is not comparable!", operator, refState);
+        }
+        return true;
+    }
+
+    protected static HistoricItem toHistoricItem(String itemName, ZonedDateTime timestamp, State state) {
+        return new HistoricItem() {
+            @Override
+            public ZonedDateTime getTimestamp() {
+                return timestamp;
+            }
+
+            @Override
+            public State getState() {
+                return state;
+            }
+
+            @Override
+            public String getName() {
+                return itemName;
+            }
+        };
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link NumericStorage} keeps the states of a numeric item in a ring buffer of primitive arrays, for the
+ * timestamps (epoch milliseconds), the values and their scales. Type, unit and time zone are stored once per item and
+ * the states are re-created on query. Only values that are restored exactly, including their scale, are accepted.
+ *
+ * The buffer grows on demand up to the configured maximum number of entries. Values are usually persisted in
+ * chronological order, so new values are appended in constant time. Older values are inserted at the right position.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+public class NumericStorage extends InMemoryStorage {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final Type type;
+    private final @Nullable Unit<?> unit;
+    private final ZoneId zone;
+
+    private long[] timestamps = new long[INITIAL_CAPACITY];
+    private double[] values = new double[INITIAL_CAPACITY];
+    private byte[] scales = new byte[INITIAL_CAPACITY];
+    private int head = 0;
+    private int size = 0;
+
+    /**
+     * Create a new storage for states of the same type as the given state.
+     *
+     * @param state the first state, see {@link #isSupported(State)}
+     * @param zone the time zone used for the timestamps of returned {@link HistoricItem}s
+     */
+    public NumericStorage(State state, ZoneId zone) {
+        Type type = typeOf(state);
+        if (type == null) {
+            throw new IllegalArgumentException("State '" + state + "' is not supported");
+        }
+        this.type = type;
+        this.unit = state instanceof QuantityType<?> quantityType ? quantityType.getUnit() : null;
+        this.zone = zone;
+    }
+
+    /**
+     * Check if a state can be stored in a {@link NumericStorage}.
+     *
+     * @param state the state
+     * @return true for {@link DecimalType}, {@link PercentType} and {@link QuantityType} with a value that is restored
+     *         exactly from a double and its scale
+     */
+    public static boolean isSupported(State state) {
+        return typeOf(state) != null && isRestoredExactly(toBigDecimal(state));
+    }
+
+    @Override
+    public boolean accepts(State state) {
+        if (typeOf(state) != type || !isRestoredExactly(toBigDecimal(state))) {
+            return false;
+        }
+        return !(state instanceof QuantityType<?> quantityType) || quantityType.getUnit().equals(unit);
+    }
+
+    @Override
+    public void store(ZonedDateTime timestamp, State state, long maxEntries) {
+        long time = timestamp.toInstant().toEpochMilli();
+        BigDecimal decimal = toBigDecimal(state);
+        double value = decimal.doubleValue();
+        byte scale = (byte) decimal.scale();
+
+        int index;
+        if (size == 0 || time > timestampAt(size - 1)) {
+            index = size;
+        } else {
+            index = lowerBound(time);
+            if (timestampAt(index) == time) {
+                // same behavior as a set: keep the existing value
+                return;
+            }
+        }
+
+        if (maxEntries > 0 && size >= maxEntries) {
+            int remove = (int) (size - maxEntries + 1);
+            if (index < remove) {
+                // older than the entries that are kept, it would be removed immediately
+                return;
+            }
+            head = (head + remove) % timestamps.length;
+            size -= remove;
+            index -= remove;
+        }
+
+        ensureCapacity(size + 1, maxEntries);
+        for (int i = size; i > index; i--) {
+            set(i, timestampAt(i - 1), valueAt(i - 1), scaleAt(i - 1));
+        }
+        set(index, time, value, scale);
+        size++;
+    }
+
+    @Override
+    public void purge(long maxEntries) {
+        if (maxEntries > 0 && size > maxEntries) {
+            int remove = (int) (size - maxEntries);
+            head = (head + remove) % timestamps.length;
+            size -= remove;
+        }
+    }
+
+    @Override
+    public List<HistoricItem> query(String name, FilterCriteria filter) {
+        long skip = (long) filter.getPageNumber() * filter.getPageSize();
+        int pageSize = filter.getPageSize();
+        List<HistoricItem> result = new ArrayList<>(Math.min(pageSize, 64));
+
+        int from = fromIndex(filter);
+        int to = toIndex(filter);
+        boolean descending = filter.getOrdering() == FilterCriteria.Ordering.DESCENDING;
+        boolean stateFilter = filter.getState() != null;
+        for (int n = 0; n < to - from && result.size() < pageSize; n++) {
+            int i = descending ? to - 1 - n : from + n;
+            State state = toState(i);
+            if (stateFilter && !appliesState(state, filter)) {
+                continue;
+            }
+            if (skip > 0) {
+                skip--;
+                continue;
+            }
+            result.add(toHistoricItem(name, toZonedDateTime(timestampAt(i)), state));
+        }
+        return result;
+    }
+
+    @Override
+    public void remove(FilterCriteria filter) {
+        int from = fromIndex(filter);
+        int to = toIndex(filter);
+        if (from >= to) {
+            return;
+        }
+
+        int target = from;
+        for (int i = from; i < to; i++) {
+            if (!appliesState(toState(i), filter)) {
+                set(target++, timestampAt(i), valueAt(i), scaleAt(i));
+            }
+        }
+        for (int i = to; i < size; i++) {
+            set(target++, timestampAt(i), valueAt(i), scaleAt(i));
+        }
+        size = target;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public @Nullable ZonedDateTime getEarliest() {
+        return size == 0 ? null : toZonedDateTime(timestampAt(0));
+    }
+
+    @Override
+    public @Nullable ZonedDateTime getLatest() {
+        return size == 0 ? null : toZonedDateTime(timestampAt(size - 1));
+    }
+
+    @Override
+    public void forEach(BiConsumer<ZonedDateTime, State> consumer) {
+        for (int i = 0; i < size; i++) {
+            consumer.accept(toZonedDateTime(timestampAt(i)), toState(i));
+        }
+    }
+
+    private int fromIndex(FilterCriteria filter) {
+        ZonedDateTime beginDate = filter.getBeginDate();
+        return beginDate == null ? 0 : lowerBound(beginDate.toInstant().toEpochMilli());
+    }
+
+    private int toIndex(FilterCriteria filter) {
+        ZonedDateTime endDate = filter.getEndDate();
+        int to = endDate == null ? size : upperBound(endDate.toInstant().toEpochMilli());
+        return Math.max(to, fromIndex(filter));
+    }
+
+    /**
+     * Find the index of the first entry with a timestamp greater than or equal to the given time.
+     */
+    private int lowerBound(long time) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestampAt(mid) < time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Find the index of the first entry with a timestamp greater than the given time.
+     */
+    private int upperBound(long time) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestampAt(mid) <= time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void ensureCapacity(int required, long maxEntries) {
+        if (required <= timestamps.length) {
+            return;
+        }
+        long capacity = Math.max(required, Math.min((long) timestamps.length * 2, MAX_CAPACITY));
+        if (maxEntries > 0) {
+            capacity = Math.min(capacity, Math.max(maxEntries, required));
+        }
+        long[] newTimestamps = new long[(int) capacity];
+        double[] newValues = new double[(int) capacity];
+        byte[] newScales = new byte[(int) capacity];
+        for (int i = 0; i < size; i++) {
+            newTimestamps[i] = timestampAt(i);
+            newValues[i] = valueAt(i);
+            newScales[i] = scaleAt(i);
+        }
+        timestamps = newTimestamps;
+        values = newValues;
+        scales = newScales;
+        head = 0;
+    }
+
+    private long timestampAt(int index) {
+        return timestamps[(head + index) % timestamps.length];
+    }
+
+    private double valueAt(int index) {
+        return values[(head + index) % values.length];
+    }
+
+    private byte scaleAt(int index) {
+        return scales[(head + index) % scales.length];
+    }
+
+    private void set(int index, long timestamp, double value, byte scale) {
+        int position = (head + index) % timestamps.length;
+        timestamps[position] = timestamp;
+        values[position] = value;
+        scales[position] = scale;
+    }
+
+    private ZonedDateTime toZonedDateTime(long timestamp) {
+        return ZonedDateTime.ofInstant(Instant.ofEpochMilli(timestamp), zone);
+    }
+
+    private State toState(int index) {
+        BigDecimal decimal = toBigDecimal(valueAt(index), scaleAt(index));
+        return switch (type) {
+            case DECIMAL -> new DecimalType(decimal);
+            case PERCENT -> new PercentType(decimal);
+            case QUANTITY -> new QuantityType<>(decimal, Objects.requireNonNull(unit));
+        };
+    }
+
+    private static BigDecimal toBigDecimal(State state) {
+        return state instanceof QuantityType<?> quantityType ? quantityType.toBigDecimal()
+                : ((DecimalType) state).toBigDecimal();
+    }
+
+    private static BigDecimal toBigDecimal(double value, int scale) {
+        // exact for accepted values, see isRestoredExactly
+        return BigDecimal.valueOf(value).setScale(scale, RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * Check if a value is restored exactly from its double value and its scale. Values beyond the range or the
+     * precision of a double, e.g. with more than 15 significant digits, are not.
+     */
+    private static boolean isRestoredExactly(BigDecimal decimal) {
+        double value = decimal.doubleValue();
+        if (!Double.isFinite(value) || decimal.scale() < Byte.MIN_VALUE || decimal.scale() > Byte.MAX_VALUE) {
+            return false;
+        }
+        return BigDecimal.valueOf(value).compareTo(decimal) == 0;
+    }
+
+    private static @Nullable Type typeOf(State state) {
+        // compare the exact class, sub-classes (e.g. HSBType) carry more than a single value
+        if (state.getClass() == DecimalType.class) {
+            return Type.DECIMAL;
+        } else if (state.getClass() == PercentType.class) {
+            return Type.PERCENT;
+        } else if (state.getClass() == QuantityType.class) {
+            return Type.QUANTITY;
+        }
+        return null;
+    }
+
+    private enum Type {
+        DECIMAL,
+        PERCENT,
+        QUANTITY
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.time.ZonedDateTime;
+import java.time.chrono.ChronoZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.types.State;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * The {@link ObjectStorage} keeps the states of an item as objects in a {@link TreeSet}. It is used for all states
+ * that cannot be stored in a {@link NumericStorage}.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+public class ObjectStorage extends InMemoryStorage {
+
+    private static final Comparator<PersistEntry> TIMESTAMP_COMPARATOR = Comparator
+            .comparing(PersistEntry::timestamp, ChronoZonedDateTime.timeLineOrder());
+
+    private final TreeSet<PersistEntry> database = new TreeSet<>(TIMESTAMP_COMPARATOR);
+
+    @Override
+    public boolean accepts(State state) {
+        return true;
+    }
+
+    @Override
+    public void store(ZonedDateTime timestamp, State state, long maxEntries) {
+        database.add(new PersistEntry(timestamp, state));
+        purge(maxEntries);
+    }
+
+    @Override
+    public void purge(long maxEntries) {
+        if (maxEntries > 0) {
+            while (database.size() > maxEntries) {
+                database.pollFirst();
+            }
+        }
+    }
+
+    @Override
+    public List<HistoricItem> query(String name, FilterCriteria filter) {
+        long skip = (long) filter.getPageNumber() * filter.getPageSize();
+        int pageSize = filter.getPageSize();
+        List<HistoricItem> result = new ArrayList<>(Math.min(pageSize, 64));
+
+        NavigableSet<PersistEntry> range = range(filter);
+        if (filter.getOrdering() == FilterCriteria.Ordering.DESCENDING) {
+            range = range.descendingSet();
+        }
+        for (PersistEntry entry : range) {
+            if (result.size() >= pageSize) {
+                break;
+            }
+            if (!appliesState(entry.state(), filter)) {
+                continue;
+            }
+            if (skip > 0) {
+                skip--;
+                continue;
+            }
+            result.add(toHistoricItem(name, entry.timestamp(), entry.state()));
+        }
+        return result;
+    }
+
+    @Override
+    public void remove(FilterCriteria filter) {
+        Iterator<PersistEntry> iterator = range(filter).iterator();
+        while (iterator.hasNext()) {
+            if (appliesState(iterator.next().state(), filter)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return database.size();
+    }
+
+    @Override
+    public @Nullable ZonedDateTime getEarliest() {
+        return database.isEmpty() ? null : database.first().timestamp();
+    }
+
+    @Override
+    public @Nullable ZonedDateTime getLatest() {
+        return database.isEmpty() ? null : database.last().timestamp();
+    }
+
+    @Override
+    public void forEach(BiConsumer<ZonedDateTime, State> consumer) {
+        database.forEach(entry -> consumer.accept(entry.timestamp(), entry.state()));
+    }
+
+    /**
+     * Get a view of the entries within the begin and end date (both inclusive) of the filter, in ascending order.
+     */
+    private NavigableSet<PersistEntry> range(FilterCriteria filter) {
+        ZonedDateTime beginDate = filter.getBeginDate();
+        ZonedDateTime endDate = filter.getEndDate();
+        if (beginDate != null && endDate != null) {
+            if (beginDate.isAfter(endDate)) {
+                return new TreeSet<>(TIMESTAMP_COMPARATOR);
+            }
+            return database.subSet(new PersistEntry(beginDate, UnDefType.NULL), true,
+                    new PersistEntry(endDate, UnDefType.NULL), true);
+        } else if (beginDate != null) {
+            return database.tailSet(new PersistEntry(beginDate, UnDefType.NULL), true);
+        } else if (endDate != null) {
+            return database.headSet(new PersistEntry(endDate, UnDefType.NULL), true);
+        }
+        return database;
+    }
+
+    private record PersistEntry(ZonedDateTime timestamp, State state) {
+    }
+}
@@ -16,11 +16,13 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.Mockito.when;
 
+import java.math.BigDecimal;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -35,7 +37,9 @@ import org.openhab.core.items.GenericItem;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.HSBType;
 import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.types.State;
@@ -175,6 +179,50 @@ public class InMemoryPersistenceTests {
         assertThat(resultSet, contains(3, 2, 1));
     }
 
+    @Test
+    public void querySupportsPaging() {
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 1; i <= 10; i++) {
+            service.store(item, start.plusHours(i), new DecimalType(i));
+        }
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.DESCENDING);
+        filterCriteria.setPageSize(3);
+        filterCriteria.setPageNumber(1);
+
+        List<Integer> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+
+        assertThat(resultSet, contains(7, 6, 5));
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        filterCriteria.setPageNumber(0);
+        filterCriteria.setBeginDate(start.plusHours(5));
+        filterCriteria.setEndDate(start.plusHours(9));
+        filterCriteria.setState(new DecimalType(6));
+        filterCriteria.setOperator(FilterCriteria.Operator.GT);
+
+        resultSet.clear();
+        service.query(filterCriteria).forEach(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+
+        assertThat(resultSet, contains(7, 8, 9));
+    }
+
+    @Test
+    public void queryObservesDatesInOtherTimeZones() {
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.of("UTC"));
+        service.store(item, start, new DecimalType(1));
+        service.store(item, start.plusHours(1), new DecimalType(2));
+
+        filterCriteria.setBeginDate(start.withZoneSameInstant(ZoneId.of("Europe/Berlin")));
+        filterCriteria.setEndDate(start.withZoneSameInstant(ZoneId.of("America/New_York")));
+
+        List<Integer> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+
+        assertThat(resultSet, contains(1));
+    }
+
     @Test
     public void removeBetweenTimes() {
         State historicState1 = new StringType("value1");
@@ -275,4 +323,105 @@ public class InMemoryPersistenceTests {
 
         // begin date is before first date is already covered by case #1
     }
+
+    @Test
+    public void numericStatesAreRestored() {
+        ZonedDateTime start = ZonedDateTime.of(2022, 05, 31, 10, 0, 0, 0, ZoneId.systemDefault());
+        service.store(item, start, new PercentType(42));
+        service.store(item, start.plusHours(1), new PercentType("12.5"));
+
+        List<State> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(h.getState()));
+
+        assertThat(resultSet, contains(new PercentType(42), new PercentType("12.5")));
+        assertThat(resultSet.get(0), is(instanceOf(PercentType.class)));
+    }
+
+    @Test
+    public void numericStatesKeepTheirScale() {
+        ZonedDateTime start = ZonedDateTime.of(2022, 05, 31, 10, 0, 0, 0, ZoneId.systemDefault());
+        service.store(item, start, new DecimalType("5"));
+        service.store(item, start.plusHours(1), new DecimalType("21.50"));
+        service.store(item, start.plusHours(2), new DecimalType(new BigDecimal("1E+3")));
+        service.store(item, start.plusHours(3), new DecimalType("0.1"));
+
+        List<String> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(h.getState().toFullString()));
+
+        assertThat(resultSet, contains("5", "21.50", "1000", "0.1"));
+    }
+
+    @Test
+    public void numericStatesBeyondDoublePrecisionAreRestored() {
+        ZonedDateTime start = ZonedDateTime.of(2022, 05, 31, 10, 0, 0, 0, ZoneId.systemDefault());
+        service.store(item, start, new DecimalType(1));
+        service.store(item, start.plusHours(1), new DecimalType("12345678901234567891"));
+        service.store(item, start.plusHours(2), new DecimalType(new BigDecimal("1E+400")));
+
+        List<State> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(h.getState()));
+
+        assertThat(resultSet, contains(new DecimalType(1), new DecimalType("12345678901234567891"),
+                new DecimalType(new BigDecimal("1E+400"))));
+    }
+
+    @Test
+    public void numericStateBeyondDoubleRangeIsRestored() {
+        ZonedDateTime start = ZonedDateTime.of(2022, 05, 31, 10, 0, 0, 0, ZoneId.systemDefault());
+        service.store(item, start, new QuantityType<>(new BigDecimal("-1E+400"), SIUnits.CELSIUS));
+        service.store(item, start.plusHours(1), new QuantityType<>(20, SIUnits.CELSIUS));
+
+        List<State> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(h.getState()));
+
+        assertThat(resultSet, contains(new QuantityType<>(new BigDecimal("-1E+400"), SIUnits.CELSIUS),
+                new QuantityType<>(20, SIUnits.CELSIUS)));
+    }
+
+    @Test
+    public void numericStatesAreInsertedInOrder() {
+        ZonedDateTime start = ZonedDateTime.of(2022, 05, 31, 10, 0, 0, 0, ZoneId.systemDefault());
+        service.store(item, start.plusHours(2), new DecimalType(3));
+        service.store(item, start, new DecimalType(1));
+        service.store(item, start.plusHours(3), new DecimalType(4));
+        service.store(item, start.plusHours(1), new DecimalType(2));
+        // same timestamp is ignored
+        service.store(item, start.plusHours(1), new DecimalType(5));
+
+        List<Integer> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+
+        assertThat(resultSet, contains(1, 2, 3, 4));
+    }
+
+    @Test
+    public void oldestNumericStatesAreRemovedWhenMaxEntriesReached() {
+        service.activate(Map.of("maxEntries", 3L));
+
+        ZonedDateTime start = ZonedDateTime.of(2022, 05, 31, 10, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 1; i <= 5; i++) {
+            service.store(item, start.plusHours(i), new DecimalType(i));
+        }
+        // older than all remaining entries
+        service.store(item, start, new DecimalType(0));
+
+        List<Integer> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+
+        assertThat(resultSet, contains(3, 4, 5));
+    }
+
+    @Test
+    public void statesAreKeptWhenTypeChanges() {
+        ZonedDateTime start = ZonedDateTime.of(2022, 05, 31, 10, 0, 0, 0, ZoneId.systemDefault());
+        service.store(item, start, new QuantityType<>(20, SIUnits.CELSIUS));
+        service.store(item, start.plusHours(1), new DecimalType(21));
+        service.store(item, start.plusHours(2), new StringType("value"));
+
+        List<State> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(h.getState()));
+
+        assertThat(resultSet, contains(new QuantityType<>(20, SIUnits.CELSIUS), new DecimalType(21),
+                new StringType("value")));
+    }
 }
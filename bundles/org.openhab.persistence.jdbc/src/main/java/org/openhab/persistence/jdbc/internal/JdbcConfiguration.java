@@ -66,6 +66,11 @@ public class JdbcConfiguration {
 
     private int errReconnectThreshold = 0;
 
+    // write-behind batching, disabled when batchSize is 0
+    private int batchSize = 0;
+    private int batchInterval = 1000;
+    private int batchQueueCapacity = 10000;
+
     public int timerCount = 0;
     public int time1000Statements = 0;
     public long timer1000 = 0;
@@ -191,6 +196,24 @@ public class JdbcConfiguration {
             logger.debug("JDBC::updateConfig: rebuildTableNames={}", rebuildTableNames);
         }
 
+        String bs = (String) configuration.get("batchSize");
+        if (bs != null && !bs.isBlank() && isNumericPattern.matcher(bs).matches()) {
+            batchSize = Integer.parseInt(bs);
+            logger.debug("JDBC::updateConfig: batchSize={}", batchSize);
+        }
+
+        String bi = (String) configuration.get("batchInterval");
+        if (bi != null && !bi.isBlank() && isNumericPattern.matcher(bi).matches()) {
+            batchInterval = Math.max(Integer.parseInt(bi), 100);
+            logger.debug("JDBC::updateConfig: batchInterval={}", batchInterval);
+        }
+
+        String bq = (String) configuration.get("batchQueueCapacity");
+        if (bq != null && !bq.isBlank() && isNumericPattern.matcher(bq).matches()) {
+            batchQueueCapacity = Math.max(Integer.parseInt(bq), batchSize);
+            logger.debug("JDBC::updateConfig: batchQueueCapacity={}", batchQueueCapacity);
+        }
+
         // undocumented
         String ac = (String) configuration.get("maximumPoolSize");
         if (ac != null && !ac.isBlank()) {
@@ -375,6 +398,27 @@ public class JdbcConfiguration {
         return errReconnectThreshold;
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getBatchInterval() {
+        return batchInterval;
+    }
+
+    public int getBatchQueueCapacity() {
+        return batchQueueCapacity;
+    }
+
+    /**
+     * Checks if values are queued and written in batches instead of one statement per value.
+     *
+     * @return true if batchSize is greater than 0.
+     */
+    public boolean isBatchingEnabled() {
+        return batchSize > 0;
+    }
+
     public boolean getRebuildTableNames() {
         return rebuildTableNames;
     }
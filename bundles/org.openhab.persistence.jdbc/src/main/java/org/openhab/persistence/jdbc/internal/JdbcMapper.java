@@ -16,6 +16,7 @@ import java.sql.SQLInvalidAuthorizationSpecException;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -35,6 +36,7 @@ import org.openhab.core.types.State;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
+import org.openhab.persistence.jdbc.internal.dto.JdbcPendingValue;
 import org.openhab.persistence.jdbc.internal.dto.JdbcPersistenceItemInfo;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
@@ -226,6 +228,40 @@ public class JdbcMapper {
         errCnt = 0;
     }
 
+    /**
+     * Stores a batch of queued values, grouped by item table.
+     *
+     * Values which cannot be assigned to a table, or whose table fails to be written, are logged and dropped so that
+     * a single faulty item does not block the whole batch.
+     *
+     * @param values the queued values in order of arrival
+     * @return the number of rows written to the database
+     */
+    protected int storeItemValues(List<JdbcPendingValue> values) {
+        logger.debug("JDBC::storeItemValues: {} values", values.size());
+        Map<String, List<JdbcPendingValue>> valuesByTable = new LinkedHashMap<>();
+        for (JdbcPendingValue value : values) {
+            try {
+                valuesByTable.computeIfAbsent(getTable(value.item(), value.alias()), k -> new ArrayList<>()).add(value);
+            } catch (JdbcException e) {
+                logger.warn("JDBC::storeItemValues: Unable to store item '{}'", value.item().getName(), e);
+            }
+        }
+        int count = 0;
+        long timerStart = System.currentTimeMillis();
+        for (Map.Entry<String, List<JdbcPendingValue>> entry : valuesByTable.entrySet()) {
+            try {
+                count += conf.getDBDAO().doStoreItemValues(entry.getKey(), entry.getValue());
+                errCnt = 0;
+            } catch (JdbcSQLException e) {
+                logger.warn("JDBC::storeItemValues: Unable to store {} values in table '{}'", entry.getValue().size(),
+                        entry.getKey(), e);
+            }
+        }
+        logTime("storeItemValues", timerStart, System.currentTimeMillis());
+        return count;
+    }
+
     public long getRowCount(String tableName) throws JdbcSQLException {
         return conf.getDBDAO().doGetRowCount(tableName);
     }
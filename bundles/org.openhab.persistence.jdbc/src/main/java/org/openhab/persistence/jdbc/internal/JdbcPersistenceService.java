@@ -23,6 +23,9 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -46,6 +49,7 @@ import org.openhab.core.types.UnDefType;
 import org.openhab.persistence.jdbc.internal.db.JdbcBaseDAO;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
+import org.openhab.persistence.jdbc.internal.dto.JdbcPendingValue;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.osgi.framework.BundleContext;
@@ -77,6 +81,11 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
             new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID));
 
+    private @Nullable JdbcStoreQueue storeQueue;
+    private @Nullable ScheduledFuture<?> flushJob;
+    private final AtomicBoolean flushPending = new AtomicBoolean();
+    private final AtomicBoolean queueFullLogged = new AtomicBoolean();
+
     @Activate
     public JdbcPersistenceService(final @Reference ItemRegistry itemRegistry,
             final @Reference TimeZoneProvider timeZoneProvider) {
@@ -98,6 +107,13 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     public void activate(BundleContext bundleContext, Map<Object, Object> configuration) {
         logger.debug("JDBC::activate: persistence service activated");
         updateConfig(configuration);
+        if (conf.isBatchingEnabled()) {
+            storeQueue = new JdbcStoreQueue(conf.getBatchQueueCapacity());
+            flushJob = scheduler.scheduleWithFixedDelay(this::flushStoreQueue, conf.getBatchInterval(),
+                    conf.getBatchInterval(), TimeUnit.MILLISECONDS);
+            logger.debug("JDBC::activate: write-behind batching enabled, batchSize={} batchInterval={} ms",
+                    conf.getBatchSize(), conf.getBatchInterval());
+        }
     }
 
     /**
@@ -120,6 +136,19 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     @Deactivate
     public void deactivate(final int reason) {
         logger.debug("JDBC::deactivate:  persistence bundle stopping. Disconnecting from database. reason={}", reason);
+        ScheduledFuture<?> flushJob = this.flushJob;
+        if (flushJob != null) {
+            flushJob.cancel(false);
+            this.flushJob = null;
+        }
+        JdbcStoreQueue storeQueue = this.storeQueue;
+        if (storeQueue != null) {
+            flushStoreQueue();
+            if (!storeQueue.isEmpty()) {
+                logger.warn("JDBC::deactivate: failed to finally store {} queued values", storeQueue.size());
+            }
+            this.storeQueue = null;
+        }
         // closeConnection();
         initialized = false;
     }
@@ -137,22 +166,72 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
     @Override
     public void store(Item item) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), null));
+        scheduleStore(item, null, item.getState(), null);
     }
 
     @Override
     public void store(Item item, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), alias));
+        scheduleStore(item, null, item.getState(), alias);
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state) {
-        scheduler.execute(() -> internalStore(item, date, state, null));
+        scheduleStore(item, date, state, null);
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, date, state, alias));
+        scheduleStore(item, date, state, alias);
+    }
+
+    private void scheduleStore(Item item, @Nullable ZonedDateTime date, State state, @Nullable String alias) {
+        JdbcStoreQueue storeQueue = this.storeQueue;
+        if (storeQueue == null) {
+            scheduler.execute(() -> internalStore(item, date, state, alias));
+            return;
+        }
+        // Do not store undefined/uninitialized data
+        if (state instanceof UnDefType) {
+            logger.debug("JDBC::store: ignore Item '{}' because it is UnDefType", item.getName());
+            return;
+        }
+        JdbcPendingValue value = new JdbcPendingValue(item, state, date != null ? date : ZonedDateTime.now(), alias);
+        if (!storeQueue.offer(value)) {
+            if (queueFullLogged.compareAndSet(false, true)) {
+                logger.warn(
+                        "JDBC::store: Write queue is full ({} values), dropping states until it has been flushed. Consider increasing batchQueueCapacity.",
+                        storeQueue.getCapacity());
+            }
+            logger.debug("JDBC::store: Write queue is full, dropped state '{}' for item '{}'", state, item.getName());
+            return;
+        }
+        if (storeQueue.size() >= conf.getBatchSize() && flushPending.compareAndSet(false, true)) {
+            scheduler.execute(this::flushStoreQueue);
+        }
+    }
+
+    private synchronized void flushStoreQueue() {
+        flushPending.set(false);
+        JdbcStoreQueue storeQueue = this.storeQueue;
+        if (storeQueue == null || storeQueue.isEmpty()) {
+            return;
+        }
+        if (!checkDBAccessability()) {
+            logger.warn(
+                    "JDBC::flush: No connection to database. Keeping {} queued values! Will retry connecting to database when error count:{} equals errReconnectThreshold:{}",
+                    storeQueue.size(), errCnt, conf.getErrReconnectThreshold());
+            return;
+        }
+        while (!storeQueue.isEmpty()) {
+            List<JdbcPendingValue> values = storeQueue.drain(conf.getBatchSize());
+            long timerStart = System.currentTimeMillis();
+            int stored = storeItemValues(values);
+            long duration = System.currentTimeMillis() - timerStart;
+            storeQueue.recordFlush(values.size(), stored, duration);
+            logger.debug("JDBC: Stored {} of {} queued values in SQL database in {} ms, {} values still queued.",
+                    stored, values.size(), duration, storeQueue.size());
+        }
+        queueFullLogged.set(false);
     }
 
     private synchronized void internalStore(Item item, @Nullable ZonedDateTime date, State state,
@@ -327,6 +406,13 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         }
     }
 
+    /**
+     * Get the write-behind queue, if batching is enabled.
+     */
+    public @Nullable JdbcStoreQueue getStoreQueue() {
+        return storeQueue;
+    }
+
     /**
      * Get a list of names of persisted items.
      */
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.persistence.jdbc.internal.dto.JdbcPendingValue;
+
+/**
+ * Bounded queue holding values for write-behind storage, together with statistics about the flushes.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcStoreQueue {
+
+    private final BlockingQueue<JdbcPendingValue> queue;
+    private final int capacity;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong storedCount = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private volatile int lastBatchSize;
+    private volatile long lastFlushDuration;
+    private volatile long maxFlushDuration;
+
+    public JdbcStoreQueue(int capacity) {
+        this.capacity = capacity;
+        this.queue = new LinkedBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Adds a value to the queue.
+     *
+     * @param value the value to queue
+     * @return false if the queue is full and the value has been dropped
+     */
+    public boolean offer(JdbcPendingValue value) {
+        if (queue.offer(value)) {
+            return true;
+        }
+        droppedCount.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Removes up to maxElements values from the queue, in order of arrival.
+     *
+     * @param maxElements maximum number of values to take
+     * @return the values taken, empty if the queue is empty
+     */
+    public List<JdbcPendingValue> drain(int maxElements) {
+        List<JdbcPendingValue> values = new ArrayList<>(Math.min(maxElements, queue.size()));
+        queue.drainTo(values, maxElements);
+        return values;
+    }
+
+    /**
+     * Records the outcome of a flush.
+     *
+     * @param batchSize number of values taken from the queue
+     * @param stored number of values written to the database
+     * @param duration time spent in milliseconds
+     */
+    public void recordFlush(int batchSize, int stored, long duration) {
+        flushCount.incrementAndGet();
+        storedCount.addAndGet(stored);
+        droppedCount.addAndGet(batchSize - stored);
+        lastBatchSize = batchSize;
+        lastFlushDuration = duration;
+        if (duration > maxFlushDuration) {
+            maxFlushDuration = duration;
+        }
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getStoredCount() {
+        return storedCount.get();
+    }
+
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    public int getLastBatchSize() {
+        return lastBatchSize;
+    }
+
+    public long getLastFlushDuration() {
+        return lastFlushDuration;
+    }
+
+    public long getMaxFlushDuration() {
+        return maxFlushDuration;
+    }
+}
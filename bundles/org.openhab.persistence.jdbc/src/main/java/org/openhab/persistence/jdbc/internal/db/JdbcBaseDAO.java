@@ -18,12 +18,15 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import javax.measure.Quantity;
@@ -60,6 +63,7 @@ import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
 import org.openhab.persistence.jdbc.internal.dto.JdbcHistoricItem;
+import org.openhab.persistence.jdbc.internal.dto.JdbcPendingValue;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.openhab.persistence.jdbc.internal.utils.DbMetaData;
 import org.openhab.persistence.jdbc.internal.utils.StringUtilsExt;
@@ -98,6 +102,11 @@ public class JdbcBaseDAO {
     protected String sqlInsertItemValue = "INSERT INTO #tableName# (time, value) VALUES( #tablePrimaryValue#, ? ) ON DUPLICATE KEY UPDATE VALUE= ?";
     protected String sqlGetRowCount = "SELECT COUNT(*) FROM #tableName#";
 
+    private final Map<String, InsertItemValueSql> insertItemValueSqlCache = new ConcurrentHashMap<>();
+
+    private record InsertItemValueSql(String template, @Nullable String dbType, String sql) {
+    }
+
     /********
      * INIT *
      ********/
@@ -446,12 +455,9 @@ public class JdbcBaseDAO {
 
     public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
         ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#tablePrimaryValue#" },
-                new String[] { formattedIdentifier(storedVO.getTableName()), "?" });
-        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue(), storedVO.getValue() };
-        logger.debug("JDBC::doStoreItemValue sql={} timestamp={} value='{}'", sql, timestamp, storedVO.getValue());
+        String sql = getInsertItemValueSql(storedVO);
+        Object[] params = storeItemValueParamsProvider(storedVO, date);
+        logger.debug("JDBC::doStoreItemValue sql={} date={} value='{}'", sql, date, storedVO.getValue());
         try {
             Yank.execute(sql, params);
         } catch (YankSQLException e) {
@@ -459,6 +465,40 @@ public class JdbcBaseDAO {
         }
     }
 
+    /**
+     * Stores several values into the same item table using JDBC batch execution.
+     *
+     * All values are stored with their own timestamp, so the statement is rendered once per table and reused for
+     * every row. Drivers supporting it (e.g. MySQL/MariaDB with <code>rewriteBatchedStatements=true</code> or
+     * PostgreSQL with <code>reWriteBatchedInserts=true</code>) will send them as multi-row INSERTs.
+     *
+     * @param tableName the item table to store the values in
+     * @param values the values to store
+     * @return the number of rows sent to the database
+     * @throws JdbcSQLException on SQL errors
+     */
+    public int doStoreItemValues(String tableName, List<JdbcPendingValue> values) throws JdbcSQLException {
+        Map<String, List<Object[]>> paramsBySql = new LinkedHashMap<>();
+        for (JdbcPendingValue value : values) {
+            ItemVO storedVO = storeItemValueProvider(value.item(), value.state(), new ItemVO(tableName, null));
+            paramsBySql.computeIfAbsent(getInsertItemValueSql(storedVO), k -> new ArrayList<>())
+                    .add(storeItemValueParamsProvider(storedVO, value.date()));
+        }
+        int count = 0;
+        for (Map.Entry<String, List<Object[]>> entry : paramsBySql.entrySet()) {
+            String sql = entry.getKey();
+            Object[][] params = entry.getValue().toArray(new Object[0][]);
+            logger.debug("JDBC::doStoreItemValues sql={} rows={}", sql, params.length);
+            try {
+                Yank.executeBatch(sql, params);
+            } catch (YankSQLException e) {
+                throw new JdbcSQLException(e);
+            }
+            count += params.length;
+        }
+        return count;
+    }
+
     public List<HistoricItem> doGetHistItemFilterQuery(Item item, FilterCriteria filter, int numberDecimalcount,
             String table, String name, ZoneId timeZone) throws JdbcSQLException {
         String sql = histItemFilterQueryProvider(filter, numberDecimalcount, table, name, timeZone);
@@ -567,6 +607,32 @@ public class JdbcBaseDAO {
         return queryString;
     }
 
+    /**
+     * Returns the insert statement for a value with an explicit timestamp, rendering it only once per item table.
+     */
+    protected String getInsertItemValueSql(ItemVO storedVO) {
+        String template = sqlInsertItemValue;
+        String dbType = storedVO.getDbType();
+        InsertItemValueSql cached = insertItemValueSqlCache.get(storedVO.getTableName());
+        if (cached != null && cached.template().equals(template) && Objects.equals(cached.dbType(), dbType)) {
+            return cached.sql();
+        }
+        String sql = storeItemValueSqlProvider(storedVO);
+        insertItemValueSqlCache.put(storedVO.getTableName(), new InsertItemValueSql(template, dbType, sql));
+        return sql;
+    }
+
+    protected String storeItemValueSqlProvider(ItemVO storedVO) {
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+                new String[] { "#tableName#", "#tablePrimaryValue#" },
+                new String[] { formattedIdentifier(storedVO.getTableName()), "?" });
+    }
+
+    protected Object[] storeItemValueParamsProvider(ItemVO storedVO, ZonedDateTime date) {
+        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
+        return new Object[] { timestamp, storedVO.getValue(), storedVO.getValue() };
+    }
+
     protected ItemVO storeItemValueProvider(Item item, State itemState, ItemVO vo) {
         String itemType = getItemType(item);
 
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.dto;
+
+import java.time.ZonedDateTime;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.Item;
+import org.openhab.core.types.State;
+
+/**
+ * Represents an item state waiting in the write-behind queue to be stored in a batch.
+ *
+ * The timestamp is captured when the value is queued, so that a delayed flush does not shift the stored time.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+public record JdbcPendingValue(Item item, State state, ZonedDateTime date, @Nullable String alias) {
+}
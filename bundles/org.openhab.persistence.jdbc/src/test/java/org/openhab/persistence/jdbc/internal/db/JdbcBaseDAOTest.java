@@ -14,8 +14,10 @@ package org.openhab.persistence.jdbc.internal.db;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.Instant;
@@ -66,6 +68,7 @@ import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 
 /**
  * Tests the {@link JdbcBaseDAO}.
@@ -247,6 +250,27 @@ public class JdbcBaseDAOTest {
                         + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getEndDate())) + "'"));
     }
 
+    @Test
+    void testGetInsertItemValueSqlReturnsInsertQueryWithTimePlaceholder() {
+        ItemVO vo = new ItemVO(DB_TABLE_NAME, null);
+        vo.setDbType("DOUBLE");
+
+        String sql = jdbcBaseDAO.getInsertItemValueSql(vo);
+        assertThat(sql,
+                is("INSERT INTO " + DB_TABLE_NAME + " (time, value) VALUES( ?, ? ) ON DUPLICATE KEY UPDATE VALUE= ?"));
+        assertSame(sql, jdbcBaseDAO.getInsertItemValueSql(vo));
+    }
+
+    @Test
+    void testStoreItemValueParamsProviderReturnsTimestampAndValue() {
+        ItemVO vo = new ItemVO(DB_TABLE_NAME, null);
+        vo.setValue(7.3);
+        ZonedDateTime date = parseDateTimeString("2022-01-10T15:01:44");
+
+        Object[] params = jdbcBaseDAO.storeItemValueParamsProvider(vo, date);
+        assertArrayEquals(new Object[] { new java.sql.Timestamp(date.toInstant().toEpochMilli()), 7.3, 7.3 }, params);
+    }
+
     private ZonedDateTime parseDateTimeString(String dts) {
         return ZonedDateTime.of(LocalDateTime.parse(dts, DATE_PARSER), UTC_ZONE_ID);
     }
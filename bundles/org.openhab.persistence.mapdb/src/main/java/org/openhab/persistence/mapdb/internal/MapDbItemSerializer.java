@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DateTimeType;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.types.State;
+import org.openhab.core.types.TypeParser;
+import org.openhab.core.types.util.UnitUtils;
+
+/**
+ * Compact binary format for {@link MapDbItem}s.
+ *
+ * Common state types are written as raw values, all other states are written as class name and string representation
+ * like in the {@link StateTypeAdapter}. Units of {@link QuantityType}s are replaced by an index into a unit table,
+ * which is stored in the database together with the items.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+public class MapDbItemSerializer {
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final byte TYPE_GENERIC = 0;
+    private static final byte TYPE_DECIMAL = 1;
+    private static final byte TYPE_QUANTITY = 2;
+    private static final byte TYPE_ON = 3;
+    private static final byte TYPE_OFF = 4;
+    private static final byte TYPE_PERCENT = 5;
+    private static final byte TYPE_HSB = 6;
+    private static final byte TYPE_STRING = 7;
+    private static final byte TYPE_DATETIME = 8;
+
+    private static final int NO_UNIT = -1;
+
+    private final Map<Integer, String> unitTable;
+    private final Map<String, Integer> unitIndex = new ConcurrentHashMap<>();
+    private final Map<Integer, Unit<?>> units = new ConcurrentHashMap<>();
+
+    /**
+     * Create a serializer.
+     *
+     * @param unitTable the persisted unit table, new units are added to it
+     */
+    public MapDbItemSerializer(Map<Integer, String> unitTable) {
+        this.unitTable = unitTable;
+        unitTable.forEach((index, symbol) -> unitIndex.put(symbol, index));
+    }
+
+    byte[] serialize(MapDbItem item) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            writeString(out, item.getName());
+            out.writeLong(item.getTimestamp().toInstant().toEpochMilli());
+            writeState(out, item.getState());
+            State lastState = item.getLastState();
+            out.writeBoolean(lastState != null);
+            if (lastState != null) {
+                writeState(out, lastState);
+            }
+            ZonedDateTime lastStateChange = item.getLastStateChange();
+            out.writeBoolean(lastStateChange != null);
+            if (lastStateChange != null) {
+                out.writeLong(lastStateChange.toInstant().toEpochMilli());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    MapDbItem deserialize(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported format version " + version);
+            }
+            MapDbItem item = new MapDbItem();
+            item.setName(readString(in));
+            item.setTimestamp(new Date(in.readLong()));
+            item.setState(readState(in));
+            if (in.readBoolean()) {
+                item.setLastState(readState(in));
+            }
+            if (in.readBoolean()) {
+                item.setLastStateChange(new Date(in.readLong()));
+            }
+            return item;
+        }
+    }
+
+    private void writeState(DataOutput out, State state) throws IOException {
+        // compare exact classes, sub-classes (e.g. HSBType extends PercentType) need their own handling
+        Class<?> type = state.getClass();
+        if (type == DecimalType.class) {
+            out.writeByte(TYPE_DECIMAL);
+            writeBigDecimal(out, ((DecimalType) state).toBigDecimal());
+        } else if (type == QuantityType.class && getUnitIndex(((QuantityType<?>) state).getUnit()) != NO_UNIT) {
+            QuantityType<?> quantity = (QuantityType<?>) state;
+            out.writeByte(TYPE_QUANTITY);
+            writeBigDecimal(out, quantity.toBigDecimal());
+            out.writeInt(getUnitIndex(quantity.getUnit()));
+        } else if (state == OnOffType.ON) {
+            out.writeByte(TYPE_ON);
+        } else if (state == OnOffType.OFF) {
+            out.writeByte(TYPE_OFF);
+        } else if (type == PercentType.class) {
+            out.writeByte(TYPE_PERCENT);
+            writeBigDecimal(out, ((PercentType) state).toBigDecimal());
+        } else if (type == HSBType.class) {
+            HSBType hsb = (HSBType) state;
+            out.writeByte(TYPE_HSB);
+            writeBigDecimal(out, hsb.getHue().toBigDecimal());
+            writeBigDecimal(out, hsb.getSaturation().toBigDecimal());
+            writeBigDecimal(out, hsb.getBrightness().toBigDecimal());
+        } else if (type == StringType.class) {
+            out.writeByte(TYPE_STRING);
+            writeString(out, state.toFullString());
+        } else if (type == DateTimeType.class) {
+            DateTimeType dateTime = (DateTimeType) state;
+            ZoneOffset offset = getOffset(dateTime);
+            if (offset != null) {
+                Instant instant = dateTime.getInstant();
+                out.writeByte(TYPE_DATETIME);
+                out.writeLong(instant.getEpochSecond());
+                out.writeInt(instant.getNano());
+                out.writeInt(offset.getTotalSeconds());
+            } else {
+                writeGeneric(out, state);
+            }
+        } else {
+            writeGeneric(out, state);
+        }
+    }
+
+    private static void writeGeneric(DataOutput out, State state) throws IOException {
+        out.writeByte(TYPE_GENERIC);
+        writeString(out, state.getClass().getName());
+        writeString(out, state.toFullString());
+    }
+
+    /**
+     * Get the offset a {@link DateTimeType} was created with. It is only exposed by the string representation, which
+     * ends with it, e.g. 2023-11-14T22:13:20.123+0100.
+     *
+     * @return the offset or <code>null</code> if the string representation does not end with an offset
+     */
+    private static @Nullable ZoneOffset getOffset(DateTimeType dateTime) {
+        String value = dateTime.toFullString();
+        if (value.length() < 5) {
+            return null;
+        }
+        try {
+            return ZoneOffset.of(value.substring(value.length() - 5));
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private State readState(DataInput in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case TYPE_DECIMAL:
+                return new DecimalType(readBigDecimal(in));
+            case TYPE_QUANTITY:
+                BigDecimal value = readBigDecimal(in);
+                return new QuantityType<>(value, getUnit(in.readInt()));
+            case TYPE_ON:
+                return OnOffType.ON;
+            case TYPE_OFF:
+                return OnOffType.OFF;
+            case TYPE_PERCENT:
+                return new PercentType(readBigDecimal(in));
+            case TYPE_HSB:
+                return new HSBType(new DecimalType(readBigDecimal(in)), new PercentType(readBigDecimal(in)),
+                        new PercentType(readBigDecimal(in)));
+            case TYPE_STRING:
+                return new StringType(readString(in));
+            case TYPE_DATETIME:
+                Instant instant = Instant.ofEpochSecond(in.readLong(), in.readInt());
+                return new DateTimeType(instant.atOffset(ZoneOffset.ofTotalSeconds(in.readInt())).toZonedDateTime());
+            case TYPE_GENERIC:
+                String typeName = readString(in);
+                String valueAsString = readString(in);
+                try {
+                    @SuppressWarnings("unchecked")
+                    Class<? extends State> valueType = (Class<? extends State>) Class.forName(typeName);
+                    State state = TypeParser.parseState(List.of(valueType), valueAsString);
+                    if (state != null) {
+                        return state;
+                    }
+                } catch (ClassNotFoundException | ClassCastException e) {
+                    throw new IOException("Unknown state type " + typeName, e);
+                }
+                throw new IOException("Couldn't parse state '" + valueAsString + "' as " + typeName);
+            default:
+                throw new IOException("Unknown state type " + type);
+        }
+    }
+
+    /**
+     * Get the index of a unit in the unit table, the unit is added if it is not present.
+     *
+     * @return the index or {@link #NO_UNIT} if the unit symbol cannot be parsed back to the same unit
+     */
+    private int getUnitIndex(Unit<?> unit) {
+        String symbol = unit.toString();
+        Integer index = unitIndex.get(symbol);
+        if (index != null) {
+            return index;
+        }
+        synchronized (unitTable) {
+            index = unitIndex.get(symbol);
+            if (index == null) {
+                if (!unit.equals(UnitUtils.parseUnit(symbol))) {
+                    return NO_UNIT;
+                }
+                index = unitTable.size();
+                unitTable.put(index, symbol);
+                unitIndex.put(symbol, index);
+                units.put(index, unit);
+            }
+            return index;
+        }
+    }
+
+    private Unit<?> getUnit(int index) throws IOException {
+        Unit<?> unit = units.get(index);
+        if (unit == null) {
+            String symbol = unitTable.get(index);
+            unit = symbol != null ? UnitUtils.parseUnit(symbol) : null;
+            if (unit == null) {
+                throw new IOException("Unknown unit " + index + " (" + symbol + ")");
+            }
+            units.put(index, unit);
+        }
+        return unit;
+    }
+
+    private static void writeBigDecimal(DataOutput out, BigDecimal value) throws IOException {
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        out.writeInt(value.scale());
+        out.writeShort(unscaled.length);
+        out.write(unscaled);
+    }
+
+    private static BigDecimal readBigDecimal(DataInput in) throws IOException {
+        int scale = in.readInt();
+        byte[] unscaled = new byte[in.readUnsignedShort()];
+        in.readFully(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -25,7 +25,9 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -73,17 +75,29 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
     private static final Path DB_DIR = new File(OpenHAB.getUserDataFolder(), "persistence").toPath().resolve("mapdb");
     private static final Path BACKUP_DIR = DB_DIR.resolve("backup");
     private static final String DB_FILE_NAME = "storage.mapdb";
+    private static final String LEGACY_MAP_NAME = "itemStore";
+    private static final String ITEM_MAP_NAME = "itemStates";
+    private static final String UNIT_MAP_NAME = "units";
+    private static final long COMMIT_DELAY = 1000; // in ms
 
     private final Logger logger = LoggerFactory.getLogger(MapDbPersistenceService.class);
 
-    private final ExecutorService threadPool = ThreadPoolManager.getPool(getClass().getSimpleName());
+    private final ScheduledExecutorService threadPool = ThreadPoolManager
+            .getScheduledPool(getClass().getSimpleName());
+    private final AtomicBoolean commitPending = new AtomicBoolean();
 
     /**
      * holds the local instance of the MapDB database
      */
 
     private @NonNullByDefault({}) DB db;
-    private @NonNullByDefault({}) Map<String, String> map;
+    private @NonNullByDefault({}) Map<String, byte[]> map;
+    private @NonNullByDefault({}) MapDbItemSerializer serializer;
+
+    /**
+     * items stored as JSON by previous versions, they are migrated to {@link #map} when read
+     */
+    private @Nullable Map<String, String> legacyMap;
 
     private transient Gson mapper = new GsonBuilder().setDateFormat(DateTimeType.DATE_PATTERN_JSON_COMPAT)
             .registerTypeHierarchyAdapter(State.class, new StateTypeAdapter()).create();
@@ -102,8 +116,7 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
 
         File dbFile = DB_DIR.resolve(DB_FILE_NAME).toFile();
         try {
-            db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
-            map = db.createTreeMap("itemStore").makeOrGet();
+            openDatabase(dbFile);
         } catch (RuntimeException re) {
             Throwable cause = re.getCause();
             if (cause instanceof ClassNotFoundException cnf) {
@@ -134,8 +147,7 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
                     return;
                 }
 
-                db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
-                map = db.createTreeMap("itemStore").makeOrGet();
+                openDatabase(dbFile);
             } else {
                 logger.warn("Failed to create or open the MapDB: {}", re.getMessage());
                 logger.warn("MapDB persistence service activation has failed.");
@@ -144,10 +156,27 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         logger.debug("MapDB persistence service is now activated");
     }
 
+    private void openDatabase(File dbFile) {
+        db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().asyncWriteEnable().make();
+        map = db.createTreeMap(ITEM_MAP_NAME).makeOrGet();
+        serializer = new MapDbItemSerializer(db.createTreeMap(UNIT_MAP_NAME).<Integer, String> makeOrGet());
+        if (db.exists(LEGACY_MAP_NAME)) {
+            Map<String, String> legacyMap = db.getTreeMap(LEGACY_MAP_NAME);
+            if (legacyMap.isEmpty()) {
+                db.delete(LEGACY_MAP_NAME);
+                db.commit();
+            } else {
+                logger.debug("Found {} items in JSON format, they will be migrated when read", legacyMap.size());
+                this.legacyMap = legacyMap;
+            }
+        }
+    }
+
     @Deactivate
     public void deactivate() {
         logger.debug("MapDB persistence service deactivated");
         if (db != null) {
+            commit();
             db.close();
         }
     }
@@ -164,6 +193,10 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
 
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
+        Map<String, String> legacyMap = this.legacyMap;
+        if (legacyMap != null) {
+            Set.copyOf(legacyMap.keySet()).forEach(this::read);
+        }
         return map.values().stream().map(this::deserialize).flatMap(MapDbPersistenceService::streamOptional)
                 .collect(Collectors.<PersistenceItemInfo> toUnmodifiableSet());
     }
@@ -193,43 +226,92 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         ZonedDateTime lastStateChange = item.getLastStateChange();
         mItem.setLastStateChange(lastStateChange != null ? Date.from(lastStateChange.toInstant()) : null);
         threadPool.submit(() -> {
-            String json = serialize(mItem);
-            map.put(localAlias, json);
-            db.commit();
-            logger.debug("Stored '{}' with state '{}' as '{}' in MapDB database", localAlias, state, json);
+            write(localAlias, mItem);
+            logger.debug("Stored '{}' with state '{}' in MapDB database", localAlias, state);
         });
     }
 
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
-        String json = map.get(filter.getItemName());
-        if (json == null) {
+        String itemName = filter.getItemName();
+        if (itemName == null) {
             return List.of();
         }
-        Optional<MapDbItem> item = deserialize(json);
+        Optional<MapDbItem> item = read(itemName);
         return item.isPresent() ? List.of(item.get()) : List.of();
     }
 
     @Override
     public @Nullable PersistedItem persistedItem(String itemName, @Nullable String alias) {
-        String json = map.get(alias != null ? alias : itemName);
-        if (json == null) {
-            return null;
-        }
-        Optional<MapDbItem> item = deserialize(json);
-        MapDbItem dbItem = item.orElse(null);
+        MapDbItem dbItem = read(alias != null ? alias : itemName).orElse(null);
         if (dbItem != null) {
             dbItem.setName(itemName);
         }
         return dbItem;
     }
 
-    private String serialize(MapDbItem item) {
-        return mapper.toJson(item);
+    private void write(String key, MapDbItem item) {
+        try {
+            map.put(key, serializer.serialize(item));
+            Map<String, String> legacyMap = this.legacyMap;
+            if (legacyMap != null) {
+                legacyMap.remove(key);
+            }
+            scheduleCommit();
+        } catch (IOException e) {
+            logger.warn("Failed to serialize '{}': {}", key, e.getMessage());
+        }
+    }
+
+    private Optional<MapDbItem> read(String key) {
+        byte[] data = map.get(key);
+        if (data != null) {
+            return deserialize(data);
+        }
+        Map<String, String> legacyMap = this.legacyMap;
+        String json = legacyMap != null ? legacyMap.get(key) : null;
+        if (json == null) {
+            return Optional.empty();
+        }
+        Optional<MapDbItem> item = deserializeJson(json);
+        item.ifPresent(mItem -> write(key, mItem));
+        return item;
+    }
+
+    /**
+     * Commit changes after {@link #COMMIT_DELAY}, so that changes of several items are committed together.
+     */
+    private void scheduleCommit() {
+        if (commitPending.compareAndSet(false, true)) {
+            threadPool.schedule(this::commit, COMMIT_DELAY, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void commit() {
+        if (commitPending.getAndSet(false)) {
+            try {
+                db.commit();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to commit changes to MapDB: {}", e.getMessage());
+            }
+        }
+    }
+
+    private Optional<MapDbItem> deserialize(byte[] data) {
+        try {
+            MapDbItem item = serializer.deserialize(data);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Deserialized '{}' with state '{}'", item.getName(), item.getState());
+            }
+            return Optional.of(item);
+        } catch (IOException e) {
+            logger.warn("Failed to deserialize item: {}", e.getMessage());
+            return Optional.empty();
+        }
     }
 
     @SuppressWarnings("null")
-    private Optional<MapDbItem> deserialize(String json) {
+    private Optional<MapDbItem> deserializeJson(String json) {
         MapDbItem item = mapper.fromJson(json, MapDbItem.class);
         if (item == null || !item.isValid()) {
             logger.warn("Deserialized invalid item: {}", item);
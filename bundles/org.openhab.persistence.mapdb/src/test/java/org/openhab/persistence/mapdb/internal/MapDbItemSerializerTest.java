@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openhab.core.library.types.DateTimeType;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.PointType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.ImperialUnits;
+import org.openhab.core.library.unit.SIUnits;
+import org.openhab.core.library.unit.Units;
+import org.openhab.core.types.State;
+
+/**
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+public class MapDbItemSerializerTest {
+    private static final List<State> VALUES = List.of(DecimalType.ZERO, new DecimalType(1.123),
+            new DecimalType(new BigDecimal("-12345678901234567890.123456789")), HSBType.BLACK, HSBType.fromRGB(1, 2, 3),
+            OnOffType.ON, OnOffType.OFF, PercentType.HUNDRED, PercentType.valueOf("0.0000001"),
+            QuantityType.valueOf("1 kW"), QuantityType.valueOf(20, Units.AMPERE),
+            new QuantityType<>(new BigDecimal("21.23"), SIUnits.CELSIUS),
+            new QuantityType<>(new BigDecimal("75"), ImperialUnits.MILES_PER_HOUR),
+            QuantityType.valueOf(100, Units.METRE_PER_SQUARE_SECOND), StringType.valueOf(""),
+            StringType.valueOf("@@@###   @@@ äöü"), new DateTimeType(Instant.ofEpochSecond(1700000000, 123456789)),
+            OpenClosedType.OPEN, new PointType("52.5200066,13.4049540"));
+
+    private final Map<Integer, String> unitTable = new HashMap<>();
+    private final MapDbItemSerializer serializer = new MapDbItemSerializer(unitTable);
+
+    @ParameterizedTest
+    @MethodSource
+    public void readWriteRoundtripShouldRecreateTheWrittenState(State state) throws IOException {
+        MapDbItem item = new MapDbItem();
+        item.setName("item");
+        item.setState(state);
+        item.setTimestamp(new Date(1700000000123L));
+
+        MapDbItem actual = serializer.deserialize(serializer.serialize(item));
+
+        assertThat(actual.getName(), is("item"));
+        assertThat(actual.getState(), is(equalTo(state)));
+        assertThat(actual.getTimestamp(), is(item.getTimestamp()));
+        assertThat(actual.getLastState(), is(nullValue()));
+        assertThat(actual.getLastStateChange(), is(nullValue()));
+    }
+
+    public static Stream<State> readWriteRoundtripShouldRecreateTheWrittenState() {
+        return VALUES.stream();
+    }
+
+    @Test
+    public void lastStateIsRestored() throws IOException {
+        MapDbItem item = new MapDbItem();
+        item.setName("item");
+        item.setState(new DecimalType(2));
+        item.setTimestamp(new Date(1700000000123L));
+        item.setLastState(new DecimalType(1));
+        item.setLastStateChange(new Date(1700000000000L));
+
+        MapDbItem actual = serializer.deserialize(serializer.serialize(item));
+
+        assertThat(actual.getLastState(), is(new DecimalType(1)));
+        assertThat(actual.getLastStateChange(), is(item.getLastStateChange()));
+    }
+
+    @Test
+    public void dateTimeKeepsItsOffset() throws IOException {
+        DateTimeType state = new DateTimeType(
+                ZonedDateTime.of(2023, 11, 14, 22, 13, 20, 123456789, ZoneOffset.ofHoursMinutes(5, 45)));
+        MapDbItem item = new MapDbItem();
+        item.setName("item");
+        item.setState(state);
+
+        DateTimeType actual = (DateTimeType) serializer.deserialize(serializer.serialize(item)).getState();
+
+        assertThat(actual.getInstant(), is(state.getInstant()));
+        assertThat(actual.toFullString(), is(state.toFullString()));
+    }
+
+    @Test
+    public void unitsAreStoredOnce() throws IOException {
+        MapDbItem item = new MapDbItem();
+        item.setName("item");
+        item.setState(new QuantityType<>(21, SIUnits.CELSIUS));
+        serializer.serialize(item);
+        item.setState(new QuantityType<>(22, SIUnits.CELSIUS));
+        serializer.serialize(item);
+        item.setState(new QuantityType<>(1, Units.WATT));
+        byte[] data = serializer.serialize(item);
+
+        assertThat(unitTable.size(), is(2));
+
+        // a new serializer reads the persisted unit table
+        MapDbItem actual = new MapDbItemSerializer(unitTable).deserialize(data);
+        assertThat(actual.getState(), is(new QuantityType<>(1, Units.WATT)));
+    }
+}
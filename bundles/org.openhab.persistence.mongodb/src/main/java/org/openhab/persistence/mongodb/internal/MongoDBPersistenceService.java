@@ -20,11 +20,22 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
@@ -50,10 +61,14 @@ import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.Projections;
 import com.mongodb.client.result.DeleteResult;
 
 /**
@@ -69,12 +84,36 @@ import com.mongodb.client.result.DeleteResult;
                 + "=org.openhab.mongodb")
 public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
+    private static final int QUERY_BATCH_SIZE = 1000;
+    private static final int DEFAULT_FLUSH_INTERVAL = 1000;
+    private static final int DEFAULT_BUFFER_CAPACITY = 10000;
+
+    /**
+     * Only the fields needed to restore a {@link HistoricItem} are fetched by queries.
+     */
+    private static final Bson QUERY_PROJECTION = Projections.fields(
+            Projections.include(MongoDBFields.FIELD_REALNAME, MongoDBFields.FIELD_TIMESTAMP,
+                    MongoDBFields.FIELD_VALUE, MongoDBFields.FIELD_UNIT),
+            Projections.excludeId());
+
     private final Logger logger = LoggerFactory.getLogger(MongoDBPersistenceService.class);
 
     private String url = "";
     private String db = "";
     private String collection = "";
     private boolean collectionPerItem;
+    private int bufferSize;
+    private int flushInterval = DEFAULT_FLUSH_INTERVAL;
+    private int bufferCapacity = DEFAULT_BUFFER_CAPACITY;
+
+    private final Map<String, MongoCollection<Document>> collections = new ConcurrentHashMap<>();
+    private volatile BlockingQueue<PendingDocument> pendingDocuments = new LinkedBlockingQueue<>(
+            DEFAULT_BUFFER_CAPACITY);
+    private final AtomicBoolean flushPending = new AtomicBoolean();
+    private final AtomicBoolean bufferFullLogged = new AtomicBoolean();
+    private final Object flushLock = new Object();
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("persist");
+    private @Nullable ScheduledFuture<?> flushJob;
 
     private boolean initialized = false;
 
@@ -113,16 +152,38 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         collection = dbCollection == null ? "" : dbCollection;
         collectionPerItem = dbCollection == null || dbCollection.isBlank();
 
+        bufferSize = Math.max(0, ConfigParser.valueAsOrElse(config.get("bufferSize"), Integer.class, 0));
+        flushInterval = ConfigParser.valueAsOrElse(config.get("flushInterval"), Integer.class, DEFAULT_FLUSH_INTERVAL);
+        if (flushInterval <= 0) {
+            flushInterval = DEFAULT_FLUSH_INTERVAL;
+        }
+        bufferCapacity = Math.max(bufferSize,
+                ConfigParser.valueAsOrElse(config.get("bufferCapacity"), Integer.class, DEFAULT_BUFFER_CAPACITY));
+        logger.debug("MongoDB buffer size {}, flush interval {} ms, buffer capacity {}", bufferSize, flushInterval,
+                bufferCapacity);
+
         if (!tryConnectToDatabase()) {
             logger.warn("Failed to connect to MongoDB server. Trying to reconnect later.");
         }
 
+        if (bufferSize > 0) {
+            pendingDocuments = new LinkedBlockingQueue<>(bufferCapacity);
+            flushJob = scheduler.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval,
+                    TimeUnit.MILLISECONDS);
+        }
+
         initialized = true;
     }
 
     @Deactivate
     public void deactivate(final int reason) {
         logger.debug("MongoDB persistence bundle stopping. Disconnecting from database.");
+        ScheduledFuture<?> localFlushJob = flushJob;
+        if (localFlushJob != null) {
+            localFlushJob.cancel(false);
+            flushJob = null;
+        }
+        flush();
         disconnectFromDatabase();
     }
 
@@ -211,6 +272,11 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
      * @return The collection object when collection creation was successful. Null otherwise.
      */
     private @Nullable MongoCollection<Document> connectToCollection(String collectionName) {
+        MongoCollection<Document> cachedCollection = collections.get(collectionName);
+        if (cachedCollection != null) {
+            return cachedCollection;
+        }
+
         try {
             @Nullable
             MongoClient db = getDatabase();
@@ -222,10 +288,12 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
             MongoCollection<Document> mongoCollection = db.getDatabase(this.db).getCollection(collectionName);
 
+            // the index only needs to be ensured once per collection and connection
             Document idx = new Document();
             idx.append(MongoDBFields.FIELD_ITEM, 1).append(MongoDBFields.FIELD_TIMESTAMP, 1);
             mongoCollection.createIndex(idx);
 
+            collections.put(collectionName, mongoCollection);
             return mongoCollection;
         } catch (Exception e) {
             logger.error("Failed to connect to collection {}: {}", collectionName, e.getMessage(), e);
@@ -237,6 +305,7 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
      * Disconnects from the database
      */
     private synchronized void disconnectFromDatabase() {
+        collections.clear();
         MongoClient localCl = cl;
         if (localCl != null) {
             localCl.close();
@@ -280,13 +349,19 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         }
         List<HistoricItem> items = new ArrayList<>();
 
+        // make buffered values visible to the query
+        flush();
+
         logger.debug("Query: {}", query);
 
         Integer sortDir = (filter.getOrdering() == Ordering.ASCENDING) ? 1 : -1;
         MongoCursor<Document> cursor = null;
         try {
-            cursor = collection.find(query).sort(new Document(MongoDBFields.FIELD_TIMESTAMP, sortDir))
-                    .skip(filter.getPageNumber() * filter.getPageSize()).limit(filter.getPageSize()).iterator();
+            // fetch the result in batches, so large queries don't have to be transferred at once
+            cursor = collection.find(query).projection(QUERY_PROJECTION)
+                    .sort(new Document(MongoDBFields.FIELD_TIMESTAMP, sortDir))
+                    .skip(filter.getPageNumber() * filter.getPageSize()).limit(filter.getPageSize())
+                    .batchSize(Math.min(filter.getPageSize(), QUERY_BATCH_SIZE)).iterator();
 
             while (cursor.hasNext()) {
                 Document obj = cursor.next();
@@ -383,6 +458,25 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         if (item instanceof NumberItem && state instanceof QuantityType<?>) {
             obj.put(MongoDBFields.FIELD_UNIT, ((QuantityType<?>) state).getUnit().toString());
         }
+
+        if (bufferSize > 0) {
+            BlockingQueue<PendingDocument> pendingDocuments = this.pendingDocuments;
+            if (!pendingDocuments.offer(new PendingDocument(collectionName, obj))) {
+                if (bufferFullLogged.compareAndSet(false, true)) {
+                    logger.warn(
+                            "MongoDB buffer is full ({} values), dropping values until it has been flushed. Consider increasing bufferCapacity.",
+                            bufferCapacity);
+                }
+                logger.debug("MongoDB buffer is full, dropped {}={}", name, value);
+                return;
+            }
+            if (pendingDocuments.size() >= bufferSize && flushPending.compareAndSet(false, true)) {
+                scheduler.execute(this::flush);
+            }
+            logger.debug("MongoDB buffered {}={}", name, value);
+            return;
+        }
+
         try {
             collection.insertOne(obj);
         } catch (org.bson.BsonMaximumSizeExceededException e) {
@@ -392,6 +486,52 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         logger.debug("MongoDB save {}={}", name, value);
     }
 
+    /**
+     * Writes all buffered documents to the database, using one unordered bulk write per collection.
+     */
+    private void flush() {
+        synchronized (flushLock) {
+            flushPending.set(false);
+            BlockingQueue<PendingDocument> pendingDocuments = this.pendingDocuments;
+            if (pendingDocuments.isEmpty()) {
+                return;
+            }
+            if (!tryConnectToDatabase()) {
+                logger.warn("mongodb: No connection to database. Keeping {} buffered values until next flush.",
+                        pendingDocuments.size());
+                return;
+            }
+
+            List<PendingDocument> documents = new ArrayList<>();
+            pendingDocuments.drainTo(documents);
+            bufferFullLogged.set(false);
+
+            Map<String, List<InsertOneModel<Document>>> writesByCollection = documents.stream()
+                    .collect(Collectors.groupingBy(PendingDocument::collectionName,
+                            Collectors.mapping(pending -> new InsertOneModel<>(pending.document()),
+                                    Collectors.toList())));
+            writesByCollection.forEach(this::bulkInsert);
+        }
+    }
+
+    private void bulkInsert(String collectionName, List<InsertOneModel<Document>> writes) {
+        MongoCollection<Document> collection = connectToCollection(collectionName);
+        if (collection == null) {
+            logger.warn("Failed to connect to collection {}, {} values not persisted", collectionName, writes.size());
+            return;
+        }
+        try {
+            collection.bulkWrite(writes, new BulkWriteOptions().ordered(false));
+            logger.debug("MongoDB saved {} values to {}", writes.size(), collectionName);
+        } catch (MongoBulkWriteException e) {
+            // with an unordered bulk write all other documents have been inserted
+            logger.error("Failed to persist {} of {} values to {}: {}", e.getWriteErrors().size(), writes.size(),
+                    collectionName, e.getMessage());
+        } catch (Exception e) {
+            logger.error("Failed to persist {} values to {}: {}", writes.size(), collectionName, e.getMessage(), e);
+        }
+    }
+
     @Nullable
     public MongoCollection<Document> prepareCollection(FilterCriteria filter) {
         if (!initialized || !tryConnectToDatabase()) {
@@ -484,6 +624,9 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return false;
         }
 
+        // buffered values matching the filter have to be removed too
+        flush();
+
         logger.debug("Query: {}", query);
 
         DeleteResult result = collection.deleteMany(query);
@@ -491,4 +634,7 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         logger.debug("Deleted {} documents", result.getDeletedCount());
         return true;
     }
+
+    private record PendingDocument(String collectionName, Document document) {
+    }
 }
@@ -522,6 +522,56 @@ public class MongoDBPersistenceServiceTest {
         }
     }
 
+    /**
+     * Tests the query method of MongoDBPersistenceService with buffered bulk writes.
+     *
+     * This test checks if values that are still buffered are written before a query is executed, and if the
+     * buffered values of multiple collections are all persisted.
+     * It uses different database backends provided by the provideDatabaseBackends method.
+     *
+     * @param dbContainer The container running the MongoDB instance.
+     */
+    @ParameterizedTest
+    @MethodSource("org.openhab.persistence.mongodb.internal.DataCreationHelper#provideDatabaseBackends")
+    public void testQueryBufferedNumberItemsInMultipleCollections(DatabaseTestContainer dbContainer) {
+        try {
+            // Preparation
+            SetupResult setupResult = DataCreationHelper.setupMongoDB(null, dbContainer);
+            MongoDBPersistenceService service = setupResult.service;
+            Map<String, Object> config = setupResult.config;
+            config.put("bufferSize", "100");
+            config.put("flushInterval", "60000");
+
+            try {
+                Mockito.when(setupResult.itemRegistry.getItem("TestItem"))
+                        .thenReturn(DataCreationHelper.createNumberItem("TestItem", 0));
+                Mockito.when(setupResult.itemRegistry.getItem("TestItem2"))
+                        .thenReturn(DataCreationHelper.createNumberItem("TestItem2", 0));
+            } catch (ItemNotFoundException e) {
+            }
+
+            service.activate(setupResult.bundleContext, config);
+
+            // Store some items, the buffer is neither full nor flushed by the scheduler
+            for (int i = 0; i < 10; i++) {
+                service.store(DataCreationHelper.createNumberItem("TestItem", i), null);
+                service.store(DataCreationHelper.createNumberItem("TestItem2", i * 2), null);
+            }
+
+            // Execution
+            Iterable<HistoricItem> result1 = service.query(DataCreationHelper.createFilterCriteria("TestItem"));
+            Iterable<HistoricItem> result2 = service.query(DataCreationHelper.createFilterCriteria("TestItem2"));
+
+            // Verification
+            VerificationHelper.verifyQueryResult(result1, 0, 1, 10);
+            VerificationHelper.verifyQueryResult(result2, 0, 2, 10);
+
+            service.deactivate(1);
+        } finally {
+            dbContainer.stop();
+        }
+    }
+
     /**
      * Tests the query method of MongoDBPersistenceService with NumberItems in a single collection and a time range.
      *
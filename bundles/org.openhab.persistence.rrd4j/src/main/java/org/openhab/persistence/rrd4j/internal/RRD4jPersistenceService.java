@@ -22,6 +22,7 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -117,6 +118,9 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
     }
 
+    record PendingSample(long timestamp, double value) {
+    }
+
     public static final String SERVICE_ID = "rrd4j";
 
     private static final String DEFAULT_OTHER = "default_other";
@@ -126,9 +130,13 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     private static final Set<String> SUPPORTED_TYPES = Set.of(CoreItemFactory.SWITCH, CoreItemFactory.CONTACT,
             CoreItemFactory.DIMMER, CoreItemFactory.NUMBER, CoreItemFactory.ROLLERSHUTTER, CoreItemFactory.COLOR);
 
+    private static final int WRITER_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
             new NamedThreadFactory("RRD4j"));
 
+    private final RRD4jWriterPool writers = new RRD4jWriterPool(WRITER_THREADS);
+
     private final Map<String, RrdDefConfig> rrdDefs = new ConcurrentHashMap<>();
 
     private final ConcurrentSkipListMap<Key, Double> storageMap = new ConcurrentSkipListMap<>(Key::compareTo);
@@ -276,6 +284,14 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
         // make sure we really store everything
         doStore(true);
+
+        try {
+            if (!writers.shutdown(10, TimeUnit.SECONDS)) {
+                logger.warn("Timeout while waiting for pending writes to rrd4j databases.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 
     @Override
@@ -343,20 +359,30 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     private void doStore(boolean force) {
         long now = System.currentTimeMillis() / 1000;
+        Map<String, List<PendingSample>> samples = new LinkedHashMap<>();
         while (!storageMap.isEmpty()) {
             Key key = storageMap.firstKey();
             if (now > key.timestamp || force) {
                 // no new elements can be added for this timestamp because we are already past that time or the service
                 // requires forced storing
                 Double value = storageMap.pollFirstEntry().getValue();
-                writePointToDatabase(key.name, value, key.timestamp);
+                samples.computeIfAbsent(key.name, k -> new ArrayList<>()).add(new PendingSample(key.timestamp, value));
             } else {
-                return;
+                break;
             }
         }
+        samples.forEach(this::scheduleWrite);
     }
 
-    private synchronized void writePointToDatabase(String name, double value, long timestamp) {
+    private void scheduleWrite(String name, List<PendingSample> samples) {
+        try {
+            writers.execute(name, () -> writePointsToDatabase(name, samples));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Discarding {} value(s) for '{}' because the service is shutting down.", samples.size(), name);
+        }
+    }
+
+    private void writePointsToDatabase(String name, List<PendingSample> samples) {
         RrdDb db = null;
         try {
             db = getDB(name, true);
@@ -367,7 +393,46 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
             return;
         }
 
-        ConsolFun function = getConsolidationFunction(db);
+        try {
+            ConsolFun function = getConsolidationFunction(db);
+            List<PendingSample> coalesced = coalesce(samples, function, db.getHeader().getStep());
+            if (coalesced.size() < samples.size()) {
+                logger.trace("Coalesced {} values to {} updates for '{}'", samples.size(), coalesced.size(), name);
+            }
+            for (PendingSample sample : coalesced) {
+                writePointToDatabase(db, name, function, sample.value(), sample.timestamp());
+            }
+        } catch (IOException e) {
+            logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
+        } finally {
+            try {
+                db.close();
+            } catch (IOException e) {
+                logger.debug("Error closing rrd4j database: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Reduce a list of samples (ordered by timestamp) to the last sample of each step if the consolidation function is
+     * LAST. All other consolidation functions build the value of a step from all samples within that step, so the
+     * samples are returned unchanged.
+     */
+    static List<PendingSample> coalesce(List<PendingSample> samples, ConsolFun function, long step) {
+        if (function != ConsolFun.LAST || samples.size() < 2 || step <= 0) {
+            return samples;
+        }
+        List<PendingSample> coalesced = new ArrayList<>(samples.size());
+        for (int i = 0; i < samples.size(); i++) {
+            PendingSample sample = samples.get(i);
+            if (i == samples.size() - 1 || samples.get(i + 1).timestamp() / step != sample.timestamp() / step) {
+                coalesced.add(sample);
+            }
+        }
+        return coalesced;
+    }
+
+    private void writePointToDatabase(RrdDb db, String name, ConsolFun function, double value, long timestamp) {
         if (function != ConsolFun.AVERAGE) {
             try {
                 // we store the last value again, so that the value change
@@ -401,11 +466,6 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         } catch (Exception e) {
             logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
         }
-        try {
-            db.close();
-        } catch (IOException e) {
-            logger.debug("Error closing rrd4j database: {}", e.getMessage());
-        }
     }
 
     @Override
@@ -697,7 +757,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         return Set.of();
     }
 
-    protected synchronized @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
+    protected @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
         RrdDb db = null;
         Path path = getDatabasePath(alias);
         try {
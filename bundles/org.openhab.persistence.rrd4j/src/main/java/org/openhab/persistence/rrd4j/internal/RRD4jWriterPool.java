@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.common.NamedThreadFactory;
+
+/**
+ * The {@link RRD4jWriterPool} runs the writes to the rrd4j databases on a fixed number of single-threaded writers.
+ * All writes for a database are run by the same writer, so they are run in the order they were submitted, while a
+ * slow write only delays the databases of the same writer.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+class RRD4jWriterPool {
+    private final List<ExecutorService> writers;
+
+    RRD4jWriterPool(int size) {
+        writers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            writers.add(Executors.newSingleThreadExecutor(new NamedThreadFactory("RRD4j-writer-" + i)));
+        }
+    }
+
+    /**
+     * Run a write for a database on the writer of that database.
+     *
+     * @param name the name of the database
+     * @param write the write
+     * @throws RejectedExecutionException if the pool is shut down
+     */
+    void execute(String name, Runnable write) {
+        writers.get(writerIndex(name)).execute(write);
+    }
+
+    /**
+     * @param name the name of the database
+     * @return the index of the writer running the writes for the database
+     */
+    int writerIndex(String name) {
+        return Math.floorMod(name.hashCode(), writers.size());
+    }
+
+    /**
+     * Shut down all writers, pending writes are still run.
+     *
+     * @param timeout the maximum time to wait for each writer
+     * @param unit the unit of the timeout
+     * @return true if all pending writes were run
+     * @throws InterruptedException if interrupted while waiting
+     */
+    boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        writers.forEach(ExecutorService::shutdown);
+        boolean terminated = true;
+        for (ExecutorService writer : writers) {
+            terminated &= writer.awaitTermination(timeout, unit);
+        }
+        return terminated;
+    }
+}
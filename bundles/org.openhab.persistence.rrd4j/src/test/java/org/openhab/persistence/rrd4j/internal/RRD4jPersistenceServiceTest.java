@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.persistence.rrd4j.internal.RRD4jPersistenceService.PendingSample;
+import org.rrd4j.ConsolFun;
+
+/**
+ * Tests for the coalescing of samples in the {@link RRD4jPersistenceService}.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jPersistenceServiceTest {
+    private static final List<PendingSample> SAMPLES = List.of(new PendingSample(60, 1), new PendingSample(70, 5),
+            new PendingSample(110, 2), new PendingSample(120, 3), new PendingSample(130, 4));
+
+    @Test
+    public void lastSampleOfEachStepIsKeptForLast() {
+        assertEquals(List.of(new PendingSample(110, 2), new PendingSample(130, 4)),
+                RRD4jPersistenceService.coalesce(SAMPLES, ConsolFun.LAST, 60));
+    }
+
+    @Test
+    public void allSamplesAreKeptForOtherConsolidationFunctions() {
+        for (ConsolFun function : ConsolFun.values()) {
+            if (function != ConsolFun.LAST) {
+                assertEquals(SAMPLES, RRD4jPersistenceService.coalesce(SAMPLES, function, 60), function.name());
+            }
+        }
+    }
+
+    @Test
+    public void samplesAreKeptWithoutStep() {
+        assertEquals(SAMPLES, RRD4jPersistenceService.coalesce(SAMPLES, ConsolFun.LAST, 0));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RRD4jWriterPool}.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jWriterPoolTest {
+    private final RRD4jWriterPool writers = new RRD4jWriterPool(4);
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        writers.shutdown(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void writesForOneDatabaseAreRunInOrder() throws InterruptedException {
+        List<Integer> written = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            int value = i;
+            writers.execute("Item1", () -> written.add(value));
+        }
+
+        assertTrue(writers.shutdown(5, TimeUnit.SECONDS));
+        assertEquals(IntStream.range(0, 100).boxed().collect(Collectors.toList()), written);
+    }
+
+    @Test
+    public void slowWriteDoesNotDelayDatabasesOfOtherWriters() throws InterruptedException {
+        String blocked = "Item1";
+        String other = IntStream.range(2, 100).mapToObj(i -> "Item" + i)
+                .filter(name -> writers.writerIndex(name) != writers.writerIndex(blocked)).findFirst().orElseThrow();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherWritten = new CountDownLatch(1);
+
+        writers.execute(blocked, () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        writers.execute(other, otherWritten::countDown);
+
+        try {
+            assertTrue(otherWritten.await(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void pendingWritesAreRunOnShutdown() throws InterruptedException {
+        CountDownLatch written = new CountDownLatch(10);
+        for (int i = 0; i < 10; i++) {
+            writers.execute("Item" + i, written::countDown);
+        }
+
+        assertTrue(writers.shutdown(5, TimeUnit.SECONDS));
+        assertEquals(0, written.getCount());
+        assertThrows(RejectedExecutionException.class, () -> writers.execute("Item1", () -> {
+        }));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.jinja.internal;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.hubspot.jinjava.Jinjava;
+import com.hubspot.jinjava.interpret.Context;
+import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
+import com.hubspot.jinjava.interpret.InterpretException;
+import com.hubspot.jinjava.interpret.JinjavaInterpreter;
+import com.hubspot.jinjava.interpret.TemplateError;
+import com.hubspot.jinjava.interpret.TemplateError.ErrorType;
+import com.hubspot.jinjava.tree.Node;
+
+/**
+ * Renders Jinja templates, parsing each template only once.
+ *
+ * Parsed templates are cached by their text. The cache is bounded: if it is full, it is cleared before a new template
+ * is added. Templates with syntax errors are not cached, they are rendered by {@link Jinjava#render(String, Map)} to
+ * report the errors like before.
+ *
+ * Add-ons are installed independently, so the Jinja transformation and the MQTT Home Assistant binding each have an
+ * identical copy of this class, which only differs in the package.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+public class JinjaTemplateRenderer {
+
+    private final Jinjava jinjava;
+    private final int maxCachedTemplates;
+    private final Map<String, Node> parsedTemplates = new ConcurrentHashMap<>();
+
+    /**
+     * @param jinjava the Jinjava instance to parse and render the templates with
+     * @param maxCachedTemplates the maximum number of parsed templates kept in the cache
+     */
+    public JinjaTemplateRenderer(Jinjava jinjava, int maxCachedTemplates) {
+        this.jinjava = jinjava;
+        this.maxCachedTemplates = maxCachedTemplates;
+    }
+
+    /**
+     * Render a template.
+     *
+     * @param template the template
+     * @param bindings the variables available in the template
+     * @return the rendered template
+     * @throws FatalTemplateErrorsException if the template cannot be rendered
+     */
+    public String render(String template, Map<String, @Nullable Object> bindings) {
+        Node root = parse(template);
+        if (root == null) {
+            return jinjava.render(template, bindings);
+        }
+
+        JinjavaInterpreter interpreter = new JinjavaInterpreter(jinjava,
+                new Context(jinjava.getGlobalContext(), bindings, jinjava.getGlobalConfig().getDisabled()),
+                jinjava.getGlobalConfig());
+        String result;
+        JinjavaInterpreter.pushCurrent(interpreter);
+        try {
+            result = interpreter.render(root);
+        } catch (InterpretException e) {
+            // let Jinjava create the same error result as without cache
+            return jinjava.render(template, bindings);
+        } finally {
+            jinjava.getGlobalContext().reset();
+            JinjavaInterpreter.popCurrent();
+        }
+
+        List<TemplateError> fatalErrors = interpreter.getErrorsCopy().stream()
+                .filter(error -> error.getSeverity() == ErrorType.FATAL).toList();
+        if (!fatalErrors.isEmpty()) {
+            throw new FatalTemplateErrorsException(template, fatalErrors);
+        }
+        return result;
+    }
+
+    int size() {
+        return parsedTemplates.size();
+    }
+
+    private @Nullable Node parse(String template) {
+        Node root = parsedTemplates.get(template);
+        if (root == null) {
+            JinjavaInterpreter interpreter = jinjava.newInterpreter();
+            JinjavaInterpreter.pushCurrent(interpreter);
+            try {
+                root = interpreter.parse(template);
+            } finally {
+                JinjavaInterpreter.popCurrent();
+            }
+            if (!interpreter.getErrorsCopy().isEmpty()) {
+                return null;
+            }
+            if (parsedTemplates.size() >= maxCachedTemplates) {
+                parsedTemplates.clear();
+            }
+            parsedTemplates.put(template, root);
+        }
+        return root;
+    }
+}
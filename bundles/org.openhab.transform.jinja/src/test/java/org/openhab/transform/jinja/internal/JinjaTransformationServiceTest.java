@@ -113,4 +113,33 @@ public class JinjaTransformationServiceTest {
         // then map key is defined
         assertEquals("true", transformedResponse);
     }
+
+    @Test
+    public void testJsonArrayAndNestedObject() throws TransformationException {
+        String json = "{\"list\":[1,2,{\"x\":\"y\"}],\"obj\":{\"a\":true,\"b\":null}}";
+        // method under test
+        String transformedResponse = processor.transform(
+                "{{ value_json.list[1] }} {{ value_json.list | length }} {{ value_json.list[2].x }}"
+                        + " {{ value_json.obj.a }} {{ value_json.obj | length }}"
+                        + " {% for v in value_json.list %}{{ loop.index }}{% endfor %}",
+                json);
+
+        // Asserts
+        assertEquals("2 3 y true 2 123", transformedResponse);
+    }
+
+    @Test
+    public void testSameTemplateWithDifferentValues() throws TransformationException {
+        for (int i = 0; i < 3; i++) {
+            // method under test
+            String transformedResponse = processor.transform("{{ value_json.state }}", "{\"state\": " + i + "}");
+
+            // Asserts
+            assertEquals(String.valueOf(i), transformedResponse);
+        }
+        assertThrows(TransformationException.class,
+                () -> processor.transform("Hello {{{ value_json.string }}!", "{\"string\": \"world\"}"));
+        assertThrows(TransformationException.class,
+                () -> processor.transform("Hello {{{ value_json.string }}!", "{\"string\": \"world\"}"));
+    }
 }
@@ -13,6 +13,8 @@
 package org.openhab.transform.jsonpath.internal;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -24,6 +26,7 @@ import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.InvalidJsonException;
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
@@ -39,8 +42,21 @@ import com.jayway.jsonpath.PathNotFoundException;
 @Component(property = { "openhab.transform=JSONPATH" })
 public class JSonPathTransformationService implements TransformationService {
 
+    private static final int MAX_CACHED_PATHS = 1000;
+    private static final int MAX_CACHED_DOCUMENTS = 8;
+    private static final long DOCUMENT_CACHE_MILLIS = 1000;
+
     private final Logger logger = LoggerFactory.getLogger(JSonPathTransformationService.class);
 
+    private final Map<String, JsonPath> compiledPaths = new ConcurrentHashMap<>();
+
+    /**
+     * Recently parsed documents, so that several transformations of the same payload (e.g. multiple channels
+     * extracting values from one HTTP response) share a single parse. Guarded by itself.
+     */
+    private final @Nullable CachedDocument[] cachedDocuments = new CachedDocument[MAX_CACHED_DOCUMENTS];
+    private int nextCachedDocument;
+
     /**
      * Transforms the input <code>source</code> by JSonPath expression.
      *
@@ -62,7 +78,8 @@ public class JSonPathTransformationService implements TransformationService {
             return null;
         }
         try {
-            Object transformationResult = JsonPath.read(source, jsonPathExpression);
+            JsonPath jsonPath = compile(jsonPathExpression);
+            Object transformationResult = parse(source).read(jsonPath);
             logger.debug("transformation resulted in '{}'", transformationResult);
             if (transformationResult == null) {
                 return null;
@@ -78,6 +95,45 @@ public class JSonPathTransformationService implements TransformationService {
         }
     }
 
+    private JsonPath compile(String jsonPathExpression) {
+        JsonPath jsonPath = compiledPaths.get(jsonPathExpression);
+        if (jsonPath == null) {
+            jsonPath = JsonPath.compile(jsonPathExpression);
+            if (compiledPaths.size() >= MAX_CACHED_PATHS) {
+                // expressions come from the configuration, so this only happens with generated expressions
+                compiledPaths.clear();
+            }
+            compiledPaths.put(jsonPathExpression, jsonPath);
+        }
+        return jsonPath;
+    }
+
+    private DocumentContext parse(String source) {
+        long now = System.currentTimeMillis();
+        synchronized (cachedDocuments) {
+            for (CachedDocument cachedDocument : cachedDocuments) {
+                if (cachedDocument != null && cachedDocument.matches(source, now)) {
+                    return cachedDocument.document();
+                }
+            }
+        }
+
+        DocumentContext document = JsonPath.parse(source);
+        synchronized (cachedDocuments) {
+            cachedDocuments[nextCachedDocument] = new CachedDocument(source, document, now + DOCUMENT_CACHE_MILLIS);
+            nextCachedDocument = (nextCachedDocument + 1) % MAX_CACHED_DOCUMENTS;
+        }
+        return document;
+    }
+
+    private record CachedDocument(String source, DocumentContext document, long expiresAt) {
+        boolean matches(String otherSource, long now) {
+            // comparing the string is much cheaper than parsing it again, and usually the same instance is passed
+            return now < expiresAt && (source == otherSource
+                    || (source.hashCode() == otherSource.hashCode() && source.equals(otherSource)));
+        }
+    }
+
     private String flattenList(List<?> list) {
         if (list.size() == 1) {
             return list.get(0).toString();
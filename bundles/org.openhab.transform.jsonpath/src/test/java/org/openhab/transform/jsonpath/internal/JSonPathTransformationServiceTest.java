@@ -129,4 +129,19 @@ public class JSonPathTransformationServiceTest {
         String transformedResponse = processor.transform("$.data", json);
         assertEquals(list, transformedResponse);
     }
+
+    @Test
+    public void testSamePayloadWithDifferentPaths() throws TransformationException {
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+        assertEquals("alice", processor.transform("$[1].name", JSON_ARRAY));
+        assertEquals("2", processor.transform("$[1].id", new String(JSON_ARRAY)));
+        assertThrows(TransformationException.class, () -> processor.transform("$$", JSON_ARRAY));
+    }
+
+    @Test
+    public void testChangedPayloadIsParsedAgain() throws TransformationException {
+        assertEquals("1", processor.transform("$.value", "{\"value\":1}"));
+        assertEquals("2", processor.transform("$.value", "{\"value\":2}"));
+        assertEquals("1", processor.transform("$.value", "{\"value\":1}"));
+    }
 }
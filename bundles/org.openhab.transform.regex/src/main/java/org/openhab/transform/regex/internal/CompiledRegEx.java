@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.regex.internal;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A RegEx transformation function parsed and compiled once.
+ *
+ * The function is either a substitution in the form <code>s/regex/substitution/options</code> or a regular
+ * expression which has to match the whole input and whose first group is extracted.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+class CompiledRegEx {
+
+    private static final Pattern SUBSTR_PATTERN = Pattern.compile("^s/(.*?[^\\\\])/(.*?[^\\\\])/(.*)$");
+
+    private final Pattern pattern;
+    private final @Nullable String substitution;
+    private final boolean global;
+
+    private CompiledRegEx(Pattern pattern, @Nullable String substitution, boolean global) {
+        this.pattern = pattern;
+        this.substitution = substitution;
+        this.global = global;
+    }
+
+    /**
+     * Parse and compile a function.
+     *
+     * @param regExpression the function
+     * @return the compiled function
+     * @throws java.util.regex.PatternSyntaxException if the regular expression is invalid
+     */
+    static CompiledRegEx compile(String regExpression) {
+        Matcher substMatcher = SUBSTR_PATTERN.matcher(regExpression);
+        if (substMatcher.matches()) {
+            return new CompiledRegEx(Pattern.compile(substMatcher.group(1)), substMatcher.group(2),
+                    "g".equals(substMatcher.group(3)));
+        }
+        return new CompiledRegEx(Pattern.compile("^" + regExpression + "$", Pattern.DOTALL), null, false);
+    }
+
+    Pattern getPattern() {
+        return pattern;
+    }
+
+    /**
+     * @return the substitution or null if this is not a substitution
+     */
+    @Nullable
+    String getSubstitution() {
+        return substitution;
+    }
+
+    /**
+     * @return true if all occurrences are substituted, false if only the first one is
+     */
+    boolean isGlobal() {
+        return global;
+    }
+}
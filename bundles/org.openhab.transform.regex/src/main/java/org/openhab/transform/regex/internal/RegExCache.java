@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.regex.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of {@link CompiledRegEx}s by function.
+ *
+ * The cache is bounded: if it is full, it is cleared before a new function is added. Functions are usually taken from
+ * a small and static set of item and channel configurations, so the cache is normally only filled once.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+class RegExCache {
+
+    private final Logger logger = LoggerFactory.getLogger(RegExCache.class);
+
+    private final int maxSize;
+    private final Map<String, CompiledRegEx> cache = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    RegExCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get the compiled function, compiling it if it is not cached yet.
+     *
+     * @param regExpression the function
+     * @return the compiled function
+     * @throws java.util.regex.PatternSyntaxException if the regular expression is invalid
+     */
+    CompiledRegEx get(String regExpression) {
+        CompiledRegEx compiled = cache.get(regExpression);
+        if (compiled != null) {
+            hits.increment();
+            return compiled;
+        }
+        misses.increment();
+        compiled = CompiledRegEx.compile(regExpression);
+        if (cache.size() >= maxSize) {
+            cache.clear();
+        }
+        cache.put(regExpression, compiled);
+        logger.trace("Compiled '{}', cache has {} entries, {} hits, {} misses", regExpression, cache.size(),
+                hits.sum(), misses.sum());
+        return compiled;
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    int size() {
+        return cache.size();
+    }
+}
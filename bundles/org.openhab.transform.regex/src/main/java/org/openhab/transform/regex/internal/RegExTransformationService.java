@@ -13,7 +13,6 @@
 package org.openhab.transform.regex.internal;
 
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -38,7 +37,9 @@ public class RegExTransformationService implements TransformationService {
 
     private final Logger logger = LoggerFactory.getLogger(RegExTransformationService.class);
 
-    private static final Pattern SUBSTR_PATTERN = Pattern.compile("^s/(.*?[^\\\\])/(.*?[^\\\\])/(.*)$");
+    private static final int MAX_CACHED_EXPRESSIONS = 1000;
+
+    private final RegExCache cache = new RegExCache(MAX_CACHED_EXPRESSIONS);
 
     @Override
     public @Nullable String transform(String regExpression, String source) throws TransformationException {
@@ -50,23 +51,17 @@ public class RegExTransformationService implements TransformationService {
 
         String result = "";
 
-        Matcher substMatcher = SUBSTR_PATTERN.matcher(regExpression);
-        if (substMatcher.matches()) {
+        CompiledRegEx compiled = cache.get(regExpression);
+
+        String substitution = compiled.getSubstitution();
+        if (substitution != null) {
             logger.debug("Using substitution form of regex transformation");
-            String regex = substMatcher.group(1);
-            String substitution = substMatcher.group(2);
-            String options = substMatcher.group(3);
-            if ("g".equals(options)) {
-                result = source.trim().replaceAll(regex, substitution);
-            } else {
-                result = source.trim().replaceFirst(regex, substitution);
-            }
-            if (result != null) {
-                return result;
-            }
+            Matcher substMatcher = compiled.getPattern().matcher(source.trim());
+            return compiled.isGlobal() ? substMatcher.replaceAll(substitution)
+                    : substMatcher.replaceFirst(substitution);
         }
 
-        Matcher matcher = Pattern.compile("^" + regExpression + "$", Pattern.DOTALL).matcher(source.trim());
+        Matcher matcher = compiled.getPattern().matcher(source.trim());
         if (!matcher.matches()) {
             logger.debug(
                     "the given regex '^{}$' doesn't match the given content '{}' -> couldn't compute transformation",
@@ -94,4 +89,8 @@ public class RegExTransformationService implements TransformationService {
 
         return result;
     }
+
+    RegExCache getCache() {
+        return cache;
+    }
 }
@@ -75,4 +75,18 @@ public class RegExTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("varX=12 varY=54 ", transformedResponse);
     }
+
+    @Test
+    public void testTransformByRegex_compiledOnce() throws TransformationException {
+        for (int i = 0; i < 3; i++) {
+            assertEquals("SetMode(" + i + ")",
+                    processor.transform("s/^OP:(.*?),ARG:(.*)$/$1($2)/", "OP:SetMode,ARG:" + i));
+            assertEquals(String.valueOf(i), processor.transform("VALUE=(\\d+)", "VALUE=" + i));
+        }
+
+        // Asserts
+        assertEquals(2, processor.getCache().size());
+        assertEquals(2, processor.getCache().getMisses());
+        assertEquals(4, processor.getCache().getHits());
+    }
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.scale.internal;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Compiled scale configuration.
+ *
+ * All range limits are collected into a sorted array of points. The number line is split into segments: the points
+ * themselves and the open intervals between them. No range starts or ends inside a segment, so the label of the first
+ * matching range (in configuration order) can be computed once per segment. A lookup is then a binary search.
+ *
+ * The format is split into literals and placeholders once, so formatting a result does not need any pattern matching.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+class ScaleTable {
+
+    static final String FORMAT_VALUE = "%value%";
+    static final String FORMAT_LABEL = "%label%";
+
+    private static final BigDecimal TWO = BigDecimal.valueOf(2);
+
+    private final BigDecimal[] points;
+    /**
+     * Labels of the segments: segment 2i is the open interval below points[i] (or above the last point for i ==
+     * points.length), segment 2i+1 is points[i] itself
+     */
+    private final @Nullable String[] segmentLabels;
+    private final @Nullable String nonNumericLabel;
+
+    /** Literals of the format, with a placeholder between each two consecutive literals */
+    private final String[] formatLiterals;
+    /** true if the placeholder after the literal with the same index is the value, false if it is the label */
+    private final boolean[] formatValuePlaceholders;
+
+    /**
+     * Compile a scale.
+     *
+     * @param ranges the ranges and their labels in configuration order
+     * @param nonNumericLabel the label for non numeric input or null
+     * @param format the format with {@link #FORMAT_VALUE} and {@link #FORMAT_LABEL} placeholders
+     */
+    ScaleTable(List<Map.Entry<Range, String>> ranges, @Nullable String nonNumericLabel, String format) {
+        this.nonNumericLabel = nonNumericLabel;
+
+        TreeSet<BigDecimal> limits = new TreeSet<>();
+        for (Map.Entry<Range, String> entry : ranges) {
+            Range range = entry.getKey();
+            if (range.min != null) {
+                limits.add(range.min);
+            }
+            if (range.max != null) {
+                limits.add(range.max);
+            }
+        }
+        points = limits.toArray(new BigDecimal[0]);
+
+        segmentLabels = new String[2 * points.length + 1];
+        for (int segment = 0; segment < segmentLabels.length; segment++) {
+            BigDecimal representative = representative(segment);
+            for (Map.Entry<Range, String> entry : ranges) {
+                if (entry.getKey().contains(representative)) {
+                    segmentLabels[segment] = entry.getValue();
+                    break;
+                }
+            }
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<Boolean> valuePlaceholders = new ArrayList<>();
+        int start = 0;
+        while (true) {
+            int valueIndex = format.indexOf(FORMAT_VALUE, start);
+            int labelIndex = format.indexOf(FORMAT_LABEL, start);
+            if (valueIndex < 0 && labelIndex < 0) {
+                break;
+            }
+            boolean isValue = labelIndex < 0 || (valueIndex >= 0 && valueIndex < labelIndex);
+            int index = isValue ? valueIndex : labelIndex;
+            literals.add(format.substring(start, index));
+            valuePlaceholders.add(isValue);
+            start = index + (isValue ? FORMAT_VALUE : FORMAT_LABEL).length();
+        }
+        literals.add(format.substring(start));
+        formatLiterals = literals.toArray(new String[0]);
+        formatValuePlaceholders = new boolean[valuePlaceholders.size()];
+        for (int i = 0; i < formatValuePlaceholders.length; i++) {
+            formatValuePlaceholders[i] = valuePlaceholders.get(i);
+        }
+    }
+
+    /**
+     * Get the label of the first range containing the value.
+     *
+     * @param value the value
+     * @return the label or null if no range contains the value
+     */
+    @Nullable
+    String getLabel(BigDecimal value) {
+        int index = Arrays.binarySearch(points, value);
+        return segmentLabels[index >= 0 ? 2 * index + 1 : -2 * (index + 1)];
+    }
+
+    @Nullable
+    String getNonNumericLabel() {
+        return nonNumericLabel;
+    }
+
+    /**
+     * Fill the format placeholders.
+     *
+     * @param value the input value
+     * @param label the label of the matching range
+     * @return the formatted result
+     */
+    String format(String value, String label) {
+        if (formatValuePlaceholders.length == 0) {
+            return formatLiterals[0];
+        }
+        StringBuilder result = new StringBuilder(formatLiterals.length * 8 + value.length() + label.length());
+        result.append(formatLiterals[0]);
+        for (int i = 0; i < formatValuePlaceholders.length; i++) {
+            result.append(formatValuePlaceholders[i] ? value : label).append(formatLiterals[i + 1]);
+        }
+        return result.toString();
+    }
+
+    private BigDecimal representative(int segment) {
+        int index = segment / 2;
+        if (segment % 2 == 1) {
+            return points[index];
+        } else if (points.length == 0) {
+            return BigDecimal.ZERO;
+        } else if (index == 0) {
+            return points[0].subtract(BigDecimal.ONE);
+        } else if (index == points.length) {
+            return points[index - 1].add(BigDecimal.ONE);
+        } else {
+            // dividing by two always results in a finite decimal
+            return points[index - 1].add(points[index]).divide(TWO);
+        }
+    }
+}
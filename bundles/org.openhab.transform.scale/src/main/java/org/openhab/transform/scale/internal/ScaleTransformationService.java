@@ -16,12 +16,13 @@ import java.io.IOException;
 import java.io.StringReader;
 import java.math.BigDecimal;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -73,14 +74,10 @@ public class ScaleTransformationService
 
     private static final String NON_NUMBER = "NaN";
     private static final String FORMAT = "format";
-    private static final String FORMAT_VALUE = "%value%";
-    private static final String FORMAT_LABEL = "%label%";
 
-    /** Inaccessible range used to store presentation format ]0..0[ */
-    private static final Range FORMAT_RANGE = Range.range(BigDecimal.ZERO, false, BigDecimal.ZERO, false);
     private final TransformationRegistry transformationRegistry;
 
-    private final Map<String, Map<@Nullable Range, String>> cachedTransformations = new ConcurrentHashMap<>();
+    private final Map<String, ScaleTable> cachedTransformations = new ConcurrentHashMap<>();
 
     @Activate
     public ScaleTransformationService(@Reference TransformationRegistry transformationRegistry) {
@@ -150,7 +147,7 @@ public class ScaleTransformationService
             if (!cachedTransformations.containsKey(transformation.getUID())) {
                 importConfiguration(transformation);
             }
-            Map<@Nullable Range, String> data = cachedTransformations.get(transformation.getUID());
+            ScaleTable data = cachedTransformations.get(transformation.getUID());
 
             if (data != null) {
                 String target;
@@ -164,7 +161,7 @@ public class ScaleTransformationService
                         final QuantityType<?> quantity = new QuantityType<>(source);
                         return formatResult(data, source, quantity.toBigDecimal());
                     } catch (IllegalArgumentException e2) {
-                        String nonNumeric = data.get(null);
+                        String nonNumeric = data.getNonNumericLabel();
                         if (nonNumeric != null) {
                             target = nonNumeric;
                         } else {
@@ -181,25 +178,20 @@ public class ScaleTransformationService
         throw new TransformationException("Could not find configuration '" + function + "' or failed to parse it.");
     }
 
-    private String formatResult(Map<@Nullable Range, String> data, String source, final BigDecimal value)
-            throws TransformationException {
-        String format = data.get(FORMAT_RANGE);
-        String result = getScaleResult(data, source, value);
-        return format.replaceAll(FORMAT_VALUE, source).replaceAll(FORMAT_LABEL, result);
-    }
-
-    private String getScaleResult(Map<@Nullable Range, String> data, String source, final BigDecimal value)
-            throws TransformationException {
-        return data.entrySet().stream().filter(entry -> entry.getKey() != null && entry.getKey().contains(value))
-                .findFirst().map(Map.Entry::getValue)
-                .orElseThrow(() -> new TransformationException("No matching range for '" + source + "'"));
+    private String formatResult(ScaleTable data, String source, final BigDecimal value) throws TransformationException {
+        String result = data.getLabel(value);
+        if (result == null) {
+            throw new TransformationException("No matching range for '" + source + "'");
+        }
+        return data.format(source, result);
     }
 
     private void importConfiguration(@Nullable Transformation configuration) {
         if (configuration != null) {
             try {
-                final Map<@Nullable Range, String> data = new LinkedHashMap<>();
-                data.put(FORMAT_RANGE, FORMAT_LABEL);
+                final List<Map.Entry<Range, String>> ranges = new ArrayList<>();
+                String nonNumeric = null;
+                String format = ScaleTable.FORMAT_LABEL;
                 final OrderedProperties properties = new OrderedProperties();
                 String function = configuration.getConfiguration().get(Transformation.FUNCTION);
                 if (function == null) {
@@ -222,12 +214,12 @@ public class ScaleTransformationService
                         final BigDecimal highValue = highLimit.isEmpty() ? null : new BigDecimal(highLimit);
                         final Range range = Range.range(lowValue, lowerInclusive, highValue, upperInclusive);
 
-                        data.put(range, value);
+                        ranges.add(Map.entry(range, value));
                     } else {
                         if (NON_NUMBER.equals(entry)) {
-                            data.put(null, value);
+                            nonNumeric = value;
                         } else if (FORMAT.equals(entry)) {
-                            data.put(FORMAT_RANGE, value);
+                            format = value;
                         } else {
                             logger.warn(
                                     "Scale transformation configuration '{}' does not comply with syntax for entry : '{}', '{}'",
@@ -236,7 +228,7 @@ public class ScaleTransformationService
                     }
                 }
 
-                cachedTransformations.put(configuration.getUID(), data);
+                cachedTransformations.put(configuration.getUID(), new ScaleTable(ranges, nonNumeric, format));
             } catch (IOException | NumberFormatException ignored) {
             }
         }
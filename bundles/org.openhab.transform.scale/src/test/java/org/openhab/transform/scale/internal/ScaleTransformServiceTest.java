@@ -187,4 +187,27 @@ public class ScaleTransformServiceTest {
         String source = "200";
         assertThrows(TransformationException.class, () -> processor.transform(existingscale, source));
     }
+
+    @Test
+    public void testBoundsAndOverlappingRanges() throws TransformationException {
+        configurationMap.put("bounds", new Transformation("bounds", "bounds", "scale", Map.of(Transformation.FUNCTION,
+                "[10..20[=first\n]15..30]=second\n[20..20]=third\n]30..]=high\n[..0.5]=low\n")));
+
+        assertEquals("low", processor.transform("bounds", "-1000"));
+        assertEquals("low", processor.transform("bounds", "0.50"));
+        assertThrows(TransformationException.class, () -> processor.transform("bounds", "0.6"));
+        assertEquals("first", processor.transform("bounds", "10"));
+        assertEquals("first", processor.transform("bounds", "17"));
+        assertEquals("second", processor.transform("bounds", "20"));
+        assertEquals("second", processor.transform("bounds", "30"));
+        assertEquals("high", processor.transform("bounds", "30.0001"));
+    }
+
+    @Test
+    public void testFormatWithRepeatedPlaceholders() throws TransformationException {
+        configurationMap.put("format", new Transformation("format", "format", "scale",
+                Map.of(Transformation.FUNCTION, "[..]=$1\nformat=%label%: %value% (%label%)\n")));
+
+        assertEquals("$1: 5 ($1)", processor.transform("format", "5"));
+    }
 }
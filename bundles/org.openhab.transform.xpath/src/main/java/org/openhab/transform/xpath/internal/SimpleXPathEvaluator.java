@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.xpath.internal;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Evaluates simple absolute location paths like <code>/a/b/c</code> or <code>/a/b/@attr</code> with a StAX reader,
+ * without building a DOM.
+ *
+ * The result is the same as the string value of the XPath expression: the text content of the first matching element
+ * or the value of the first matching attribute in document order, or an empty string if nothing matches. Only names
+ * without namespace are matched, like with a namespace aware XPath evaluation without namespace context.
+ *
+ * @author openHAB Team - Initial contribution
+ */
+@NonNullByDefault
+class SimpleXPathEvaluator {
+
+    private static final String NAME = "[A-Za-z_][A-Za-z0-9_.-]*";
+    private static final Pattern SIMPLE_PATH = Pattern.compile("(/" + NAME + ")+(/@" + NAME + ")?");
+
+    private final XMLInputFactory factory;
+    private final List<String> elements = new ArrayList<>();
+    private final @Nullable String attribute;
+
+    private SimpleXPathEvaluator(XMLInputFactory factory, String expression) {
+        this.factory = factory;
+        String localAttribute = null;
+        for (String step : expression.substring(1).split("/")) {
+            if (step.startsWith("@")) {
+                localAttribute = step.substring(1);
+            } else {
+                elements.add(step);
+            }
+        }
+        this.attribute = localAttribute;
+    }
+
+    /**
+     * Create an evaluator if the expression is simple enough for streaming evaluation.
+     *
+     * @param factory the factory used to create readers, it has to be configured to not resolve external entities
+     * @param expression the XPath expression
+     * @return the evaluator or null if the expression has to be evaluated by an XPath implementation
+     */
+    static @Nullable SimpleXPathEvaluator forExpression(XMLInputFactory factory, String expression) {
+        return SIMPLE_PATH.matcher(expression).matches() ? new SimpleXPathEvaluator(factory, expression) : null;
+    }
+
+    /**
+     * Evaluate the expression.
+     *
+     * The whole document is read, so malformed documents are rejected like with DOM parsing.
+     *
+     * @param source the XML document, it must not contain a DOCTYPE declaration
+     * @return the string value of the expression
+     * @throws XMLStreamException if the document cannot be parsed
+     */
+    String evaluate(String source) throws XMLStreamException {
+        XMLStreamReader reader = factory.createXMLStreamReader(new StringReader(source));
+        try {
+            String result = null;
+            StringBuilder text = null;
+            // number of leading elements of the current element path that match the expression
+            int matchedDepth = 0;
+            int depth = 0;
+            // depth of the matched element while its text is collected
+            int textDepth = -1;
+
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        depth++;
+                        if (result == null && text == null && matchedDepth == depth - 1 && depth <= elements.size()
+                                && isUnqualified(reader.getNamespaceURI())
+                                && elements.get(depth - 1).equals(reader.getLocalName())) {
+                            matchedDepth = depth;
+                            if (depth == elements.size()) {
+                                String localAttribute = attribute;
+                                if (localAttribute == null) {
+                                    text = new StringBuilder();
+                                    textDepth = depth;
+                                } else {
+                                    result = reader.getAttributeValue(XMLConstants.NULL_NS_URI, localAttribute);
+                                }
+                            }
+                        }
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        if (text != null && depth == textDepth) {
+                            result = text.toString();
+                            text = null;
+                        }
+                        if (matchedDepth == depth) {
+                            matchedDepth--;
+                        }
+                        depth--;
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                    case XMLStreamConstants.SPACE:
+                        if (text != null) {
+                            text.append(reader.getText());
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+            return result == null ? "" : result;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static boolean isUnqualified(@Nullable String namespaceURI) {
+        return namespaceURI == null || namespaceURI.isEmpty();
+    }
+}
@@ -13,12 +13,21 @@
 package org.openhab.transform.xpath.internal;
 
 import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -35,14 +44,27 @@ import org.xml.sax.InputSource;
  * <p>
  * The implementation of {@link TransformationService} which transforms the input by XPath Expressions.
  *
+ * Simple absolute paths are evaluated by streaming the input, all other expressions are compiled once and evaluated on
+ * a DOM. Neither document builders nor compiled expressions are thread-safe, so they are kept in a pool of
+ * {@link EvaluationContext}s.
+ *
  * @author Thomas.Eichstaedt-Engelen - Initial contribution
  */
 @NonNullByDefault
 @Component(property = { "openhab.transform=XPATH" })
 public class XPathTransformationService implements TransformationService {
 
+    private static final int MAX_POOLED_CONTEXTS = 8;
+    private static final int MAX_CACHED_EXPRESSIONS = 100;
+
     private final Logger logger = LoggerFactory.getLogger(XPathTransformationService.class);
 
+    private final DocumentBuilderFactory domFactory = createDocumentBuilderFactory();
+    private final XMLInputFactory streamFactory = createXMLInputFactory();
+    private final XPathFactory xpathFactory = XPathFactory.newInstance();
+    private final Queue<EvaluationContext> contexts = new ConcurrentLinkedQueue<>();
+    private final Map<String, Optional<SimpleXPathEvaluator>> simpleEvaluators = new ConcurrentHashMap<>();
+
     @Override
     public @Nullable String transform(String xpathExpression, String source) throws TransformationException {
         if (xpathExpression == null || source == null) {
@@ -51,40 +73,110 @@ public class XPathTransformationService implements TransformationService {
 
         logger.debug("about to transform '{}' by the function '{}'", source, xpathExpression);
 
-        StringReader stringReader = null;
+        try {
+            String transformationResult;
+            SimpleXPathEvaluator simpleEvaluator = getSimpleEvaluator(xpathExpression);
+            if (simpleEvaluator != null && !source.contains("<!DOCTYPE")) {
+                transformationResult = simpleEvaluator.evaluate(source);
+            } else {
+                transformationResult = evaluate(xpathExpression, source);
+            }
 
+            logger.debug("transformation resulted in '{}'", transformationResult);
+
+            return transformationResult;
+        } catch (Exception e) {
+            throw new TransformationException("transformation throws exceptions", e);
+        }
+    }
+
+    private @Nullable SimpleXPathEvaluator getSimpleEvaluator(String xpathExpression) {
+        Optional<SimpleXPathEvaluator> simpleEvaluator = simpleEvaluators.get(xpathExpression);
+        if (simpleEvaluator == null) {
+            if (simpleEvaluators.size() >= MAX_CACHED_EXPRESSIONS) {
+                simpleEvaluators.clear();
+            }
+            simpleEvaluator = Optional
+                    .ofNullable(SimpleXPathEvaluator.forExpression(streamFactory, xpathExpression));
+            simpleEvaluators.put(xpathExpression, simpleEvaluator);
+        }
+        return simpleEvaluator.orElse(null);
+    }
+
+    private String evaluate(String xpathExpression, String source) throws Exception {
+        EvaluationContext context = contexts.poll();
+        if (context == null) {
+            context = new EvaluationContext(domFactory.newDocumentBuilder(), xpathFactory.newXPath());
+        }
+
+        try (StringReader stringReader = new StringReader(source)) {
+            InputSource inputSource = new InputSource(stringReader);
+            inputSource.setEncoding("UTF-8");
+
+            Document doc = context.builder.parse(inputSource);
+            XPathExpression expr = context.compile(xpathExpression);
+
+            return (String) expr.evaluate(doc, XPathConstants.STRING);
+        } finally {
+            context.builder.reset();
+            if (contexts.size() < MAX_POOLED_CONTEXTS) {
+                contexts.offer(context);
+            }
+        }
+    }
+
+    private static DocumentBuilderFactory createDocumentBuilderFactory() {
+        DocumentBuilderFactory domFactory = DocumentBuilderFactory.newInstance();
         try {
-            DocumentBuilderFactory domFactory = DocumentBuilderFactory.newInstance();
             // see https://cheatsheetseries.owasp.org/cheatsheets/XML_External_Entity_Prevention_Cheat_Sheet.html
             domFactory.setFeature("http://xml.org/sax/features/external-general-entities", false);
             domFactory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
             domFactory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
-            domFactory.setXIncludeAware(false);
-            domFactory.setExpandEntityReferences(false);
-            domFactory.setNamespaceAware(true);
-            domFactory.setValidating(false);
-            DocumentBuilder builder = domFactory.newDocumentBuilder();
-
-            stringReader = new StringReader(source);
-            InputSource inputSource = new InputSource(stringReader);
-            inputSource.setEncoding("UTF-8");
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException("XML parser does not support secure processing", e);
+        }
+        domFactory.setXIncludeAware(false);
+        domFactory.setExpandEntityReferences(false);
+        domFactory.setNamespaceAware(true);
+        domFactory.setValidating(false);
+        return domFactory;
+    }
 
-            Document doc = builder.parse(inputSource);
+    private static XMLInputFactory createXMLInputFactory() {
+        XMLInputFactory streamFactory = XMLInputFactory.newFactory();
+        streamFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        streamFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        streamFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        return streamFactory;
+    }
 
-            XPath xpath = XPathFactory.newInstance().newXPath();
-            XPathExpression expr = xpath.compile(xpathExpression);
+    /**
+     * Document builder and compiled expressions, which may only be used by one thread at a time.
+     */
+    private static class EvaluationContext {
+        private final DocumentBuilder builder;
+        private final XPath xpath;
+        private final Map<String, XPathExpression> expressions = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
 
-            String transformationResult = (String) expr.evaluate(doc, XPathConstants.STRING);
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, XPathExpression> eldest) {
+                return size() > MAX_CACHED_EXPRESSIONS;
+            }
+        };
 
-            logger.debug("transformation resulted in '{}'", transformationResult);
+        EvaluationContext(DocumentBuilder builder, XPath xpath) {
+            this.builder = builder;
+            this.xpath = xpath;
+        }
 
-            return transformationResult;
-        } catch (Exception e) {
-            throw new TransformationException("transformation throws exceptions", e);
-        } finally {
-            if (stringReader != null) {
-                stringReader.close();
+        XPathExpression compile(String xpathExpression) throws XPathExpressionException {
+            XPathExpression expression = expressions.get(xpathExpression);
+            if (expression == null) {
+                expression = xpath.compile(xpathExpression);
+                expressions.put(xpathExpression, expression);
             }
+            return expression;
         }
     }
 }
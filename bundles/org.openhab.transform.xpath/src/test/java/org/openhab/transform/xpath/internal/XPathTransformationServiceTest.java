@@ -38,4 +38,30 @@ public class XPathTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testTransformBySimplePath() throws TransformationException {
+        assertEquals("8", processor.transform("/xml_api_reply/weather/current_conditions/temp_c/@data", source));
+        assertEquals("Klar", processor.transform("/xml_api_reply/weather/forecast_conditions/condition/@data", source));
+        assertEquals("", processor.transform("/xml_api_reply/weather/unknown/@data", source));
+    }
+
+    @Test
+    public void testSimplePathMatchesXPathEvaluation() throws TransformationException {
+        String xml = "<a><b x='1'>t1<c>in</c>t2</b><b x='2'>u</b></a>";
+        for (String path : new String[] { "/a/b", "/a/b/@x", "/a/b/c", "/a/c" }) {
+            // a union of a path with itself is not simple and evaluated by XPath
+            assertEquals(processor.transform(path + "|" + path, xml), processor.transform(path, xml));
+        }
+    }
+
+    @Test
+    public void testSimplePathIgnoresNamespacedElements() throws TransformationException {
+        assertEquals("", processor.transform("/a/b", "<a xmlns='urn:test'><b>1</b></a>"));
+    }
+
+    @Test
+    public void testSimplePathRejectsMalformedInput() {
+        assertThrows(TransformationException.class, () -> processor.transform("/a/b", "<a><b>1</b>"));
+    }
 }
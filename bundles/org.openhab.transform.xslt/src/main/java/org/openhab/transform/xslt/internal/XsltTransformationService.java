@@ -12,12 +12,19 @@
  */
 package org.openhab.transform.xslt.internal;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
 
-import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
@@ -43,6 +50,13 @@ public class XsltTransformationService implements TransformationService {
 
     private final Logger logger = LoggerFactory.getLogger(XsltTransformationService.class);
 
+    /**
+     * Compiled stylesheets by file name, recompiled when the content of the file changes.
+     * The content is compared by checksum, as the modification time of a file may not change for quick edits.
+     */
+    private final Map<String, CachedTemplates> templatesCache = new ConcurrentHashMap<>();
+    private final TransformerFactory transformerFactory = TransformerFactory.newInstance();
+
     /**
      * Transforms the input <code>source</code> by XSLT.
      *
@@ -60,12 +74,12 @@ public class XsltTransformationService implements TransformationService {
             throw new TransformationException("the given parameters 'filename' and 'source' must not be null");
         }
 
-        Source xsl = null;
+        File xsl;
 
         try {
             String path = OpenHAB.getConfigFolder() + File.separator + TransformationService.TRANSFORM_FOLDER_NAME
                     + File.separator + filename;
-            xsl = new StreamSource(new File(path));
+            xsl = new File(path);
         } catch (Exception e) {
             String message = "opening file '" + filename + "' throws exception";
 
@@ -81,7 +95,7 @@ public class XsltTransformationService implements TransformationService {
         Transformer transformer;
 
         try {
-            transformer = TransformerFactory.newInstance().newTransformer(xsl);
+            transformer = getTemplates(filename, xsl).newTransformer();
             transformer.transform(new StreamSource(xml), new StreamResult(out));
         } catch (Exception e) {
             logger.error("transformation throws exception", e);
@@ -92,4 +106,30 @@ public class XsltTransformationService implements TransformationService {
 
         return out.toString();
     }
+
+    private Templates getTemplates(String filename, File xsl) throws TransformerConfigurationException, IOException {
+        byte[] content = Files.readAllBytes(xsl.toPath());
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        long checksum = crc.getValue();
+        CachedTemplates cachedTemplates = templatesCache.get(filename);
+        if (cachedTemplates != null && cachedTemplates.checksum() == checksum
+                && cachedTemplates.length() == content.length) {
+            return cachedTemplates.templates();
+        }
+
+        Templates templates;
+        // TransformerFactory is not thread-safe, the resulting Templates are
+        synchronized (transformerFactory) {
+            // the system id resolves relative imports and includes of the stylesheet
+            templates = transformerFactory
+                    .newTemplates(new StreamSource(new ByteArrayInputStream(content), xsl.toURI().toString()));
+        }
+        logger.debug("compiled stylesheet '{}'", filename);
+        templatesCache.put(filename, new CachedTemplates(templates, checksum, content.length));
+        return templates;
+    }
+
+    private record CachedTemplates(Templates templates, long checksum, int length) {
+    }
 }
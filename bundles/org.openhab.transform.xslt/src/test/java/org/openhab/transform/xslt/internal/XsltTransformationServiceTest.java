@@ -19,7 +19,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.OpenHAB;
@@ -33,6 +35,7 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
     private XsltTransformationService processor;
 
     private final Path transformHttpPath = Paths.get(OpenHAB.getConfigFolder()).resolve("transform/http");
+    private final Path valueStylesheet = transformHttpPath.resolve("value.xsl");
 
     @BeforeEach
     public void init() throws IOException {
@@ -43,6 +46,11 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
         processor = new XsltTransformationService();
     }
 
+    @AfterEach
+    public void cleanUp() throws IOException {
+        Files.deleteIfExists(valueStylesheet);
+    }
+
     @Test
     public void testTransformByXSLT() throws TransformationException, IOException {
         Files.copy(getClass().getResourceAsStream("google_weather.xsl"),
@@ -54,4 +62,28 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testModifiedStylesheetIsReloaded() throws TransformationException, IOException {
+        Files.writeString(valueStylesheet, stylesheetSelecting("temp_c"));
+        FileTime lastModified = Files.getLastModifiedTime(valueStylesheet);
+        assertEquals("8", processor.transform("http/value.xsl", source));
+        assertEquals("8", processor.transform("http/value.xsl", source));
+
+        // same length and modification time, only the content differs
+        Files.writeString(valueStylesheet, stylesheetSelecting("temp_f"));
+        Files.setLastModifiedTime(valueStylesheet, lastModified);
+        assertEquals("46", processor.transform("http/value.xsl", source));
+    }
+
+    private static String stylesheetSelecting(String element) {
+        return """
+                <xsl:stylesheet version="1.0" xmlns:xsl="http://www.w3.org/1999/XSL/Transform">
+                <xsl:output method="text"/>
+                <xsl:template match="/">
+                <xsl:value-of select="//current_conditions/%s/@data"/>
+                </xsl:template>
+                </xsl:stylesheet>
+                """.formatted(element);
+    }
 }
@@ -225,6 +225,15 @@ public abstract class AbstractModbusOSGiTest extends JavaOSGiTest {
         addedLinks.add(link);
     }
 
+    protected void unlinkItem(String itemName, ChannelUID channelUID) {
+        logger.debug("Unlinking {} <-> {}", itemName, channelUID);
+        ItemChannelLink link = new ItemChannelLink(itemName, channelUID);
+        assertThat(addedLinks.remove(link), is(equalTo(true)));
+        assertNotNull(itemChannelLinkProvider.remove(link.getUID()));
+        waitForAssert(() -> assertThat(itemChannelLinkRegistry.get(AbstractLink.getIDFor(itemName, channelUID)),
+                is(nullValue())));
+    }
+
     protected @Nullable List<State> getStateUpdates(String itemName) {
         return stateSubscriber.stateUpdates.get(itemName);
     }
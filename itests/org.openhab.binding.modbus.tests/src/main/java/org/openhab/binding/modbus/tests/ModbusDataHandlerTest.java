@@ -615,6 +615,97 @@ public class ModbusDataHandlerTest extends AbstractModbusOSGiTest {
         // no datetime, conversion not possible without transformation
     }
 
+    private Object getReadPlan(ModbusDataThingHandler handler) {
+        try {
+            Field readPlanField = ModbusDataThingHandler.class.getDeclaredField("readPlan");
+            readPlanField.setAccessible(true);
+            return readPlanField.get(handler);
+        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
+            fail(e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    private ModbusReadRequestBlueprint createRegisterReadRequestMock() {
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        doReturn(3).when(request).getDataLength();
+        doReturn(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS).when(request).getFunctionCode();
+        return request;
+    }
+
+    private ModbusDataThingHandler createInt16ReadHandler(ModbusReadRequestBlueprint request) {
+        PollTask task = Mockito.mock(PollTask.class);
+        doReturn(new ModbusTCPSlaveEndpoint("thisishost", 502, false)).when(task).getEndpoint();
+        doReturn(request).when(task).getRequest();
+        Bridge poller = createPollerMock("poller1", task);
+
+        Configuration dataConfig = new Configuration();
+        dataConfig.put("readStart", "0");
+        dataConfig.put("readTransform", "default");
+        dataConfig.put("readValueType", "int16");
+        // unchanged values are not updated again during the test
+        dataConfig.put("updateUnchangedValuesEveryMillis", 3_600_000L);
+        ModbusDataThingHandler dataHandler = createDataHandler("read1", poller,
+                builder -> builder.withConfiguration(dataConfig));
+        assertThat(dataHandler.getThing().getStatus(), is(equalTo(ThingStatus.ONLINE)));
+        return dataHandler;
+    }
+
+    private static ModbusRegisterArray int16Registers(int value) {
+        return new ModbusRegisterArray(new byte[] { (byte) (value >> 8), (byte) value });
+    }
+
+    @Test
+    public void testOnRegistersUnchangedRegistersNotUpdatedAgain() {
+        ModbusReadRequestBlueprint request = createRegisterReadRequestMock();
+        ModbusDataThingHandler dataHandler = createInt16ReadHandler(request);
+        String numberItem = getItemName(new ChannelUID(dataHandler.getThing().getUID(), CHANNEL_NUMBER));
+        String stringItem = getItemName(new ChannelUID(dataHandler.getThing().getUID(), CHANNEL_STRING));
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, int16Registers(5)));
+        Object readPlan = getReadPlan(dataHandler);
+        assertNotNull(readPlan);
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, int16Registers(5)));
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, int16Registers(6)));
+
+        // the read plan is reused between polls
+        assertSame(readPlan, getReadPlan(dataHandler));
+        // the updates of an item are received in order, so the second poll did not update the channels
+        waitForAssert(() -> {
+            assertThat(getStateUpdates(numberItem), is(equalTo(List.of(new DecimalType(5), new DecimalType(6)))));
+            assertThat(getStateUpdates(stringItem), is(equalTo(List.of(new StringType("5"), new StringType("6")))));
+        });
+    }
+
+    @Test
+    public void testOnRegistersReadPlanRebuiltOnLinkChanges() {
+        ModbusReadRequestBlueprint request = createRegisterReadRequestMock();
+        ModbusDataThingHandler dataHandler = createInt16ReadHandler(request);
+        ChannelUID numberChannel = new ChannelUID(dataHandler.getThing().getUID(), CHANNEL_NUMBER);
+        String numberItem = getItemName(numberChannel);
+        String stringItem = getItemName(new ChannelUID(dataHandler.getThing().getUID(), CHANNEL_STRING));
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, int16Registers(5)));
+        assertNotNull(getReadPlan(dataHandler));
+        waitForAssert(() -> assertThat(getStateUpdates(numberItem), is(equalTo(List.of(new DecimalType(5))))));
+
+        // unlinking the channel drops the read plan, the next poll does not handle the channel anymore
+        unlinkItem(numberItem, numberChannel);
+        waitForAssert(() -> assertNull(getReadPlan(dataHandler)));
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, int16Registers(6)));
+        assertNotNull(getReadPlan(dataHandler));
+        waitForAssert(() -> assertThat(getStateUpdates(stringItem),
+                is(equalTo(List.of(new StringType("5"), new StringType("6"))))));
+        assertThat(getStateUpdates(numberItem), is(equalTo(List.of(new DecimalType(5)))));
+
+        // linking the channel again drops the read plan, the next poll handles the channel again
+        linkItem(numberItem, numberChannel);
+        waitForAssert(() -> assertNull(getReadPlan(dataHandler)));
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, int16Registers(7)));
+        waitForAssert(() -> assertThat(getStateUpdates(numberItem),
+                is(equalTo(List.of(new DecimalType(5), new DecimalType(7))))));
+    }
+
     @Test
     public void testOnRegistersNaNFloatInRegisters() throws InvalidSyntaxException {
         ModbusDataThingHandler dataHandler = testReadHandlingGeneric(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS,
@@ -41,6 +41,7 @@ import org.openhab.binding.mqtt.homeassistant.internal.DiscoverComponents.Compon
 import org.openhab.binding.mqtt.homeassistant.internal.HaID;
 import org.openhab.binding.mqtt.homeassistant.internal.HandlerConfiguration;
 import org.openhab.binding.mqtt.homeassistant.internal.HomeAssistantChannelLinkageChecker;
+import org.openhab.binding.mqtt.homeassistant.internal.JinjaTemplateRenderer;
 import org.openhab.binding.mqtt.homeassistant.internal.config.ChannelConfigurationTypeAdapterFactory;
 import org.openhab.core.i18n.UnitProvider;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
@@ -83,12 +84,13 @@ public class DiscoverComponentsTest extends JavaOSGiTest {
         ScheduledExecutorService scheduler = new ScheduledThreadPoolExecutor(1);
 
         Gson gson = new GsonBuilder().registerTypeAdapterFactory(new ChannelConfigurationTypeAdapterFactory()).create();
-        Jinjava jinjava = new Jinjava();
+        JinjaTemplateRenderer templateRenderer = new JinjaTemplateRenderer(new Jinjava(), 100);
         UnitProvider unitProvider = mock(UnitProvider.class);
 
         DiscoverComponents discover = spy(
                 new DiscoverComponents(ThingChannelConstants.TEST_HOME_ASSISTANT_THING, scheduler,
-                        channelStateUpdateListener, linkageChecker, availabilityTracker, gson, jinjava, unitProvider));
+                        channelStateUpdateListener, linkageChecker, availabilityTracker, gson, templateRenderer,
+                        unitProvider));
 
         HandlerConfiguration config = new HandlerConfiguration("homeassistant", List.of("switch/object"));
 